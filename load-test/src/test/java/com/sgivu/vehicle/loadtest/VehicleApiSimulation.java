@@ -0,0 +1,175 @@
+package com.sgivu.vehicle.loadtest;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Escenario de carga contra una instancia con el perfil {@code perf}: consultas por id, búsqueda de
+ * texto, páginas, listados por estado, conteos y cambios de estado, en la proporción indicada en
+ * {@link #scenario}. Los parámetros se pasan como propiedades del sistema ({@code -DbaseUrl=...}):
+ *
+ * <ul>
+ *   <li>{@code baseUrl}: URL del servicio ({@code http://localhost:8083}).
+ *   <li>{@code jwtSecret}: la {@code vehicle.security.jwt.secret} del servicio.
+ *   <li>{@code maxId}: id más alto de los vehículos sembrados ({@code 100000}).
+ *   <li>{@code usersPerSecond}: llegadas por segundo en la meseta ({@code 50}).
+ *   <li>{@code rampSeconds} / {@code durationSeconds}: rampa ({@code 30}) y meseta ({@code 300}).
+ *   <li>{@code p95Millis} / {@code p99Millis}: percentiles máximos aceptados ({@code 250} / {@code
+ *       1000}); si se superan, o fallan más del 1 % de las peticiones, la ejecución termina con
+ *       error.
+ * </ul>
+ *
+ * <p>Gatling deja en {@code target/gatling/} el reporte HTML con los percentiles 50, 75, 95 y 99
+ * de cada petición y del total.
+ */
+public class VehicleApiSimulation extends Simulation {
+
+  private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8083");
+  private static final String JWT_SECRET =
+      System.getProperty("jwtSecret", "sgivu-perf-local-jwt-secret-0123456789");
+  private static final long MAX_ID = Long.getLong("maxId", 100_000);
+  private static final double USERS_PER_SECOND =
+      Double.parseDouble(System.getProperty("usersPerSecond", "50"));
+  private static final Duration RAMP = Duration.ofSeconds(Long.getLong("rampSeconds", 30));
+  private static final Duration PLATEAU = Duration.ofSeconds(Long.getLong("durationSeconds", 300));
+  private static final int P95_MILLIS = Integer.getInteger("p95Millis", 250);
+  private static final int P99_MILLIS = Integer.getInteger("p99Millis", 1000);
+
+  private static final List<String> TYPES = List.of("cars", "motorcycles");
+  private static final List<String> QUERIES =
+      List.of("toyota", "mazda 3", "yamaha", "honda cb", "rojo medellín", "suv automática");
+  private static final List<String> STATUSES =
+      List.of("AVAILABLE", "SOLD", "IN_MAINTENANCE", "IN_USE");
+
+  private static final List<String> PERMISSIONS =
+      List.of("car:read", "car:update", "motorcycle:read", "motorcycle:update");
+
+  private final Iterator<Map<String, Object>> feeder =
+      Stream.generate(VehicleApiSimulation::nextRecord).iterator();
+
+  private final HttpProtocolBuilder protocol =
+      http.baseUrl(BASE_URL)
+          .acceptHeader("application/json")
+          .authorizationHeader("Bearer " + token());
+
+  // Los ids son aleatorios sin distinguir autos de motos: 404 es una respuesta válida.
+  private final ChainBuilder getById =
+      exec(http("getById").get("/v1/#{type}/#{id}").check(status().in(200, 404)));
+
+  private final ChainBuilder search =
+      exec(
+          http("search")
+              .get("/v1/vehicles/search")
+              .queryParam("q", "#{query}")
+              .queryParam("size", "10")
+              .check(status().is(200)));
+
+  private final ChainBuilder page =
+      exec(http("page").get("/v1/#{type}/page/#{page}").check(status().is(200)));
+
+  private final ChainBuilder byStatus =
+      exec(
+          http("byStatus")
+              .get("/v1/#{type}/status/#{status}")
+              .queryParam("size", "20")
+              .check(status().is(200)));
+
+  private final ChainBuilder count =
+      exec(http("count").get("/v1/#{type}/count").check(status().is(200)));
+
+  private final ChainBuilder changeStatus =
+      exec(
+          http("changeStatus")
+              .patch("/v1/#{type}/#{id}/status")
+              .body(StringBody("\"#{status}\""))
+              .asJson()
+              .check(status().in(200, 404)));
+
+  private final ScenarioBuilder scenario =
+      scenario("Inventario")
+          .feed(feeder)
+          .randomSwitch()
+          .on(
+              percent(40.0).then(getById),
+              percent(20.0).then(search),
+              percent(10.0).then(page),
+              percent(10.0).then(byStatus),
+              percent(10.0).then(count),
+              percent(10.0).then(changeStatus));
+
+  {
+    setUp(
+            scenario.injectOpen(
+                rampUsersPerSec(1).to(USERS_PER_SECOND).during(RAMP),
+                constantUsersPerSec(USERS_PER_SECOND).during(PLATEAU)))
+        .protocols(protocol)
+        .assertions(
+            global().responseTime().percentile(95.0).lt(P95_MILLIS),
+            global().responseTime().percentile(99.0).lt(P99_MILLIS),
+            global().failedRequests().percent().lt(1.0));
+  }
+
+  private static Map<String, Object> nextRecord() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return Map.of(
+        "type", TYPES.get(random.nextInt(TYPES.size())),
+        "id", random.nextLong(1, MAX_ID + 1),
+        "query", QUERIES.get(random.nextInt(QUERIES.size())),
+        "page", random.nextInt(0, 100),
+        "status", STATUSES.get(random.nextInt(STATUSES.size())));
+  }
+
+  /**
+   * JWT HS256 firmado con {@code jwtSecret}, con el emisor que espera el perfil {@code perf}, los
+   * permisos de lectura y edición y vigente durante toda la ejecución.
+   */
+  private static String token() {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    long now = Instant.now().getEpochSecond();
+    long expiresAt = now + RAMP.plus(PLATEAU).plusHours(1).toSeconds();
+    String header = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+    String payload =
+        ("{\"iss\":\"sgivu-load-test\",\"sub\":\"sgivu-load-test\",\"iat\":%d,\"exp\":%d,"
+                + "\"rolesAndPermissions\":[%s]}")
+            .formatted(
+                now,
+                expiresAt,
+                String.join(",", PERMISSIONS.stream().map(p -> "\"" + p + "\"").toList()));
+    String unsigned =
+        encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+            + "."
+            + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+      byte[] signature = mac.doFinal(unsigned.getBytes(StandardCharsets.UTF_8));
+      return unsigned + "." + encoder.encodeToString(signature);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("No se pudo firmar el JWT de la prueba", e);
+    }
+  }
+}
@@ -2,11 +2,17 @@ package com.sgivu.vehicle;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class VehicleApplication {
 
+  /** Pasos de arranque que se conservan para el reporte de tiempos y el endpoint {@code startup}. */
+  private static final int STARTUP_STEPS_CAPACITY = 8192;
+
   public static void main(String[] args) {
-    SpringApplication.run(VehicleApplication.class, args);
+    SpringApplication application = new SpringApplication(VehicleApplication.class);
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+    application.run(args);
   }
 }
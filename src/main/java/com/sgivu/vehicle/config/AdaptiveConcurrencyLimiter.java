@@ -0,0 +1,105 @@
+package com.sgivu.vehicle.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límite adaptativo de peticiones simultáneas de la instancia (aumento aditivo, reducción
+ * multiplicativa).
+ *
+ * <p>La señal es la latencia media (exponencial) de las peticiones livianas (consultas por id,
+ * conteos, escrituras individuales), que casi solo esperan a la base de datos. Si supera {@code
+ * vehicle.load-shedding.target-latency}, el límite baja un 10 % (hasta {@code min-limit}; como
+ * mucho una vez por cada {@code target-latency}); si no, sube hasta {@code max-limit} mientras se
+ * use. Con la base lenta se aceptan menos peticiones a la vez, en lugar de encolar todas en el pool
+ * de conexiones. Las peticiones pesadas solo pueden ocupar {@code heavy-share} del límite, para que
+ * se descarten antes que las livianas.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+  private static final double DECREASE_FACTOR = 0.9;
+  private static final double SMOOTHING = 0.2;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+  private final double heavyShare;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double limit;
+  private long lastDecrease = System.nanoTime();
+  private double averageLatencyNanos;
+
+  public AdaptiveConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${vehicle.load-shedding.initial-limit:40}") int initialLimit,
+      @Value("${vehicle.load-shedding.min-limit:8}") int minLimit,
+      @Value("${vehicle.load-shedding.max-limit:200}") int maxLimit,
+      @Value("${vehicle.load-shedding.target-latency:PT0.5S}") Duration targetLatency,
+      @Value("${vehicle.load-shedding.heavy-share:0.5}") double heavyShare) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.targetLatencyNanos = targetLatency.toNanos();
+    this.heavyShare = heavyShare;
+    this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+
+    Gauge.builder("sgivu.vehicle.concurrency.limit", () -> limit)
+        .description("Límite adaptativo de peticiones simultáneas")
+        .register(meterRegistry);
+    Gauge.builder("sgivu.vehicle.concurrency.in-flight", inFlight, AtomicInteger::get)
+        .description("Peticiones en curso sujetas al límite")
+        .register(meterRegistry);
+  }
+
+  /** @return {@code true} si la petición entra; debe liberarse con {@link #release}. */
+  public boolean tryAcquire(boolean heavy) {
+    double allowed = heavy ? limit * heavyShare : limit;
+    if (inFlight.incrementAndGet() > allowed) {
+      inFlight.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param latencyNanos duración de la petición; solo se usa como señal si {@code sample} es {@code
+   *     true} (peticiones livianas que terminaron bien).
+   */
+  public void release(boolean sample, long latencyNanos) {
+    release(sample, latencyNanos, System.nanoTime());
+  }
+
+  void release(boolean sample, long latencyNanos, long now) {
+    int current = inFlight.getAndDecrement();
+    if (sample) {
+      adjust(current, latencyNanos, now);
+    }
+  }
+
+  double limit() {
+    return limit;
+  }
+
+  /**
+   * Lectura y escritura de la media y el límite como una sola operación: con respuestas
+   * concurrentes, dos actualizaciones intercaladas perderían una de las dos.
+   */
+  private synchronized void adjust(int current, long latencyNanos, long now) {
+    // Una petición lenta aislada (una pausa de GC) no basta para reducir el límite.
+    averageLatencyNanos += SMOOTHING * (latencyNanos - averageLatencyNanos);
+    if (averageLatencyNanos > targetLatencyNanos) {
+      // Las respuestas lentas llegan en grupo: una reducción por ventana, no una por respuesta.
+      if (now - lastDecrease >= targetLatencyNanos) {
+        lastDecrease = now;
+        limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+      }
+    } else if (current * 2 >= limit) {
+      // Solo crece si se está usando: un límite holgado sin carga no dice nada de la base.
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.sgivu.vehicle.config;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/cacheregions}: estadísticas de cada región de {@link VehicleCache}, para medir
+ * la proporción de aciertos antes de activar la caché en todas las instancias. Se publica
+ * agregando {@code cacheregions} a {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+  private final VehicleCache vehicleCache;
+
+  public CacheRegionsEndpoint(VehicleCache vehicleCache) {
+    this.vehicleCache = vehicleCache;
+  }
+
+  @ReadOperation
+  public CacheRegions regions() {
+    return new CacheRegions(vehicleCache.isEnabled(), vehicleCache.regionStatistics());
+  }
+
+  public record CacheRegions(boolean enabled, Map<String, VehicleCache.RegionStatistics> regions) {}
+}
@@ -0,0 +1,43 @@
+package com.sgivu.vehicle.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.regex.Pattern;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Cliente de una petición ya autenticada, para el estado que se lleva por cliente (baldes de tasa,
+ * claves de idempotencia): {@code user:<sujeto del JWT>} o, para las llamadas con la clave de
+ * servicio interno, {@code service:<nombre>} según el encabezado {@code X-Internal-Service-Name}.
+ *
+ * <p>Los servicios internos comparten la clave, así que el nombre lo declara quien llama: no
+ * autentica, solo separa el estado de cada servicio. Sin un nombre válido el servicio es {@code
+ * unknown}.
+ */
+public final class ClientIdentity {
+
+  public static final String SERVICE_NAME_HEADER = "X-Internal-Service-Name";
+
+  private static final String USER_PREFIX = "user:";
+  private static final String SERVICE_PREFIX = "service:";
+  private static final String UNKNOWN_SERVICE = "unknown";
+  private static final Pattern SERVICE_NAME = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  private ClientIdentity() {}
+
+  public static String of(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    // Las rutas /v1/ solo admiten anónimos con la clave de servicio interno (SecurityConfig).
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+      String name = request.getHeader(SERVICE_NAME_HEADER);
+      return SERVICE_PREFIX
+          + (name != null && SERVICE_NAME.matcher(name).matches() ? name : UNKNOWN_SERVICE);
+    }
+    return USER_PREFIX + authentication.getName();
+  }
+
+  public static boolean isService(String client) {
+    return client.startsWith(SERVICE_PREFIX);
+  }
+}
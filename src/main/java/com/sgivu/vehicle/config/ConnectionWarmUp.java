@@ -0,0 +1,159 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.service.CarService;
+import com.sgivu.vehicle.service.MotorcycleService;
+import com.sgivu.vehicle.service.VehicleSearchService;
+import com.sgivu.vehicle.service.VehicleService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Calentamiento del acceso a datos antes de recibir tráfico ({@code
+ * vehicle.datasource.warm-up.enabled}, perfil {@code db-performance}).
+ *
+ * <p>Abre todas las conexiones del pool principal y ejecuta en cada una las lecturas más frecuentes
+ * (por id, conteos, primera página, listado por estado y búsqueda), como las haría una petición:
+ * Hibernate deja compiladas sus consultas y, con {@code prepareThreshold=1}, PostgreSQL deja
+ * preparadas las sentencias en cada conexión. Sin esto, las primeras peticiones tras un despliegue
+ * pagan la apertura de conexiones y la compilación de cada consulta. Las réplicas no se calientan.
+ *
+ * <p>Corre al terminar de crear los beans, después de las migraciones y antes de que el servidor
+ * web abra el puerto; la caché de segundo nivel se omite para que cada lectura llegue a la base. La
+ * duración queda en el timer {@code sgivu.vehicle.datasource.warm-up}. Un fallo se registra sin
+ * detener el arranque.
+ */
+@Component
+public class ConnectionWarmUp implements SmartInitializingSingleton {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConnectionWarmUp.class);
+
+  private static final long MISSING_ID = 0L;
+  private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+  private static final String SEARCH_QUERY = "sgivu";
+
+  private final DataSource dataSource;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final List<VehicleService<? extends Vehicle>> vehicleServices;
+  private final VehicleSearchService vehicleSearchService;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+
+  public ConnectionWarmUp(
+      DataSource dataSource,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      CarService carService,
+      MotorcycleService motorcycleService,
+      VehicleSearchService vehicleSearchService,
+      MeterRegistry meterRegistry,
+      @Value("${vehicle.datasource.warm-up.enabled:false}") boolean enabled) {
+    this.dataSource = dataSource;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.vehicleServices = List.of(carService, motorcycleService);
+    this.vehicleSearchService = vehicleSearchService;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (!enabled) {
+      return;
+    }
+    HikariDataSource pool;
+    try {
+      pool = dataSource.unwrap(HikariDataSource.class);
+    } catch (SQLException e) {
+      logger.warn("Calentamiento omitido: el datasource no es un pool de Hikari");
+      return;
+    }
+
+    int connections = pool.getMaximumPoolSize();
+    CountDownLatch allHeld = new CountDownLatch(connections);
+    AtomicInteger warmed = new AtomicInteger();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try (ExecutorService executor = Executors.newFixedThreadPool(connections)) {
+      for (int i = 0; i < connections; i++) {
+        executor.execute(() -> warmConnection(allHeld, pool.getConnectionTimeout(), warmed));
+      }
+    }
+    long nanos =
+        sample.stop(
+            Timer.builder("sgivu.vehicle.datasource.warm-up")
+                .description("Duración del calentamiento de conexiones al arrancar")
+                .register(meterRegistry));
+    logger.info(
+        "Calentamiento del pool: {} de {} conexiones listas en {} ms",
+        warmed.get(),
+        connections,
+        nanos / 1_000_000);
+  }
+
+  /**
+   * Ejecuta las lecturas y mantiene la transacción (y su conexión) hasta que todos los hilos tengan
+   * la suya: así cada hilo calienta una conexión distinta. La transacción es de solo lectura, así
+   * que se fija al principal: con réplicas, {@link ReplicaRouter} la enviaría a una de ellas y el
+   * pool que se mide quedaría frío.
+   */
+  private void warmConnection(CountDownLatch allHeld, long timeoutMillis, AtomicInteger warmed) {
+    try (ReplicaRouter.PrimaryPin pin = ReplicaRouter.pinToPrimary()) {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            runHotReads();
+            warmed.incrementAndGet();
+            allHeld.countDown();
+            awaitQuietly(allHeld, timeoutMillis);
+          });
+    } catch (RuntimeException e) {
+      allHeld.countDown();
+      logger.warn("Calentamiento de una conexión fallido: {}", e.getMessage());
+    }
+  }
+
+  private void runHotReads() {
+    for (VehicleService<? extends Vehicle> service : vehicleServices) {
+      service.findById(MISSING_ID);
+      service.count();
+      service.countByStatus(VehicleStatus.AVAILABLE);
+      service.findAll(FIRST_PAGE);
+      service.findByStatus(
+          VehicleStatus.AVAILABLE, ScrollPosition.keyset(), FIRST_PAGE.getPageSize());
+    }
+    vehicleSearchService.search(SEARCH_QUERY, FIRST_PAGE);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch, long timeoutMillis) {
+    try {
+      latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
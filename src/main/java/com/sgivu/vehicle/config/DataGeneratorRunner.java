@@ -0,0 +1,78 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.service.impl.SyntheticVehicleLoader;
+import com.sgivu.vehicle.service.impl.VehicleDataGenerator;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generador de datos sintéticos para pruebas a escala (perfil {@code generate-data}): inserta los
+ * vehículos {@code vehicle.generator.start} a {@code start + vehicle.generator.vehicles - 1} de
+ * {@link VehicleDataGenerator} y, con {@code vehicle.generator.exit} (por defecto), termina el
+ * proceso. Con {@code vehicle.generator.vehicles=0} (por defecto) no hace nada.
+ *
+ * <p>La misma semilla y fecha de referencia generan siempre los mismos vehículos, así que varias
+ * ejecuciones con rangos distintos (incluso en paralelo) llenan una base sin repetir placas, y
+ * repetir un rango ya cargado solo descarta conflictos.
+ */
+@Component
+public class DataGeneratorRunner implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(DataGeneratorRunner.class);
+
+  private final SyntheticVehicleLoader loader;
+  private final ConfigurableApplicationContext context;
+  private final long vehicles;
+  private final long start;
+  private final long seed;
+  private final LocalDateTime referenceDate;
+  private final int historyDays;
+  private final int chunkSize;
+  private final boolean exit;
+
+  public DataGeneratorRunner(
+      SyntheticVehicleLoader loader,
+      ConfigurableApplicationContext context,
+      @Value("${vehicle.generator.vehicles:0}") long vehicles,
+      @Value("${vehicle.generator.start:0}") long start,
+      @Value("${vehicle.generator.seed:42}") long seed,
+      @Value("${vehicle.generator.reference-date:2026-01-01T00:00}") String referenceDate,
+      @Value("${vehicle.generator.history-days:730}") int historyDays,
+      @Value("${vehicle.generator.chunk-size:10000}") int chunkSize,
+      @Value("${vehicle.generator.exit:true}") boolean exit) {
+    this.loader = loader;
+    this.context = context;
+    this.vehicles = vehicles;
+    this.start = start;
+    this.seed = seed;
+    this.referenceDate = LocalDateTime.parse(referenceDate);
+    this.historyDays = historyDays;
+    this.chunkSize = chunkSize;
+    this.exit = exit;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (vehicles <= 0) {
+      return;
+    }
+    logger.info(
+        "Datos sintéticos: generando {} vehículos desde el número {} (semilla {}, referencia {})",
+        vehicles,
+        start,
+        seed,
+        referenceDate);
+    loader.load(
+        new VehicleDataGenerator(seed, referenceDate, historyDays), start, vehicles, chunkSize);
+    if (exit) {
+      System.exit(SpringApplication.exit(context, () -> 0));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.sgivu.vehicle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Tamaño del pool de conexiones principal según los núcleos disponibles, activo con {@code
+ * vehicle.datasource.auto-size=true} (perfil {@code db-performance}) si {@code
+ * spring.datasource.hikari.maximum-pool-size} no está configurado en ninguna de sus formas ({@code
+ * maximumPoolSize}, {@code SPRING_DATASOURCE_HIKARI_MAXIMUMPOOLSIZE}...).
+ *
+ * <p>El pool tiene {@code núcleos * vehicle.datasource.connections-per-core + 1} conexiones, todas
+ * abiertas desde el arranque: más conexiones que las que la base puede atender a la vez solo
+ * reparten el mismo CPU entre más sesiones. Con hilos de plataforma el pool tampoco supera los
+ * hilos de Tomcat, que nunca podrían usarlas; con hilos virtuales no hay ese tope y la espera por
+ * una conexión la acota {@code connection-timeout}.
+ *
+ * <p>Se aplica al crear el bean, antes de que el pool abra su primera conexión, así que también
+ * funciona en el modo AOT.
+ */
+@Configuration
+public class DataSourceTuningConfig {
+
+  private static final Logger logger = LoggerFactory.getLogger(DataSourceTuningConfig.class);
+
+  private static final String DATA_SOURCE_BEAN = "dataSource";
+  private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+  @Bean
+  static BeanPostProcessor dataSourceTuningPostProcessor(Environment environment) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName)
+            && bean instanceof HikariDataSource pool
+            && environment.getProperty("vehicle.datasource.auto-size", Boolean.class, false)
+            && !Binder.get(environment).bind(MAXIMUM_POOL_SIZE, Integer.class).isBound()) {
+          size(pool, environment);
+        }
+        return bean;
+      }
+    };
+  }
+
+  private static void size(HikariDataSource pool, Environment environment) {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int perCore =
+        environment.getProperty("vehicle.datasource.connections-per-core", Integer.class, 2);
+    boolean virtualThreads =
+        environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+    int size = processors * perCore + 1;
+    if (!virtualThreads) {
+      int tomcatThreads =
+          environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+      size = Math.min(size, tomcatThreads);
+    }
+    pool.setMaximumPoolSize(size);
+    pool.setMinimumIdle(size);
+    logger.info(
+        "Pool principal: {} conexiones ({} núcleos, hilos {})",
+        size,
+        processors,
+        virtualThreads ? "virtuales" : "de plataforma");
+  }
+}
@@ -0,0 +1,58 @@
+package com.sgivu.vehicle.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ejecución de las migraciones de esquema durante el arranque.
+ *
+ * <p>Flyway corre mientras se refresca el contexto, antes de que el servidor web abra el puerto y de
+ * que el probe de readiness responda {@code UP}, por lo que ninguna solicitud llega a un esquema a
+ * medio migrar. La duración queda registrada en el timer {@code sgivu.vehicle.schema.migration}.
+ *
+ * <p>{@code vehicle.schema.migrate-on-startup=false} omite la migración sin retirar el bean de Flyway,
+ * lo que también funciona en el modo AOT, donde {@code spring.flyway.enabled} queda fijado en el
+ * build.
+ */
+@Configuration
+public class FlywayConfig {
+
+  private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+  @Bean
+  FlywayMigrationStrategy timedFlywayMigrationStrategy(
+      MeterRegistry meterRegistry,
+      @Value("${vehicle.schema.migrate-on-startup:true}") boolean migrateOnStartup) {
+    return flyway -> {
+      if (!migrateOnStartup) {
+        logger.info("Migraciones de esquema omitidas (vehicle.schema.migrate-on-startup=false)");
+        return;
+      }
+      Timer.Sample sample = Timer.start(meterRegistry);
+      String outcome = "failure";
+      try {
+        MigrateResult result = flyway.migrate();
+        outcome = "success";
+        logger.info(
+            "Migraciones de esquema aplicadas: {} (versión objetivo: {})",
+            result.migrationsExecuted,
+            result.targetSchemaVersion);
+      } finally {
+        long nanos =
+            sample.stop(
+                Timer.builder("sgivu.vehicle.schema.migration")
+                    .description("Duración de las migraciones Flyway al arrancar")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        logger.info("Migración de esquema finalizada en {} ms", nanos / 1_000_000);
+      }
+    };
+  }
+}
@@ -0,0 +1,289 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.exception.ErrorReporter;
+import com.sgivu.vehicle.exception.ErrorType;
+import com.sgivu.vehicle.repository.IdempotencyKeyRepository;
+import com.sgivu.vehicle.repository.IdempotencyKeyRepository.StoredKey;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Escrituras idempotentes con el encabezado {@code Idempotency-Key}.
+ *
+ * <p>Aplica a {@code POST}, {@code PUT} y {@code PATCH} bajo {@code /v1/} con cuerpo JSON o sin
+ * cuerpo; las cargas CSV se transmiten en streaming y no pasan por aquí. La primera petición con
+ * una clave la reserva (por cliente, {@link ClientIdentity}) y, si responde {@code 2xx}, su respuesta se guarda durante
+ * {@code vehicle.idempotency.ttl}. Un reintento con la misma clave y el mismo contenido recibe esa
+ * respuesta ({@code Idempotent-Replayed: true}) sin volver a ejecutar la escritura; si la original
+ * aún está en curso recibe {@code 409} con {@code Retry-After}, y si el contenido es otro, {@code
+ * 422}. Las respuestas que no son {@code 2xx} liberan la clave para que el cliente pueda
+ * reintentar.
+ *
+ * <p>Corre después de la cadena de Spring Security, con el usuario ya autenticado.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final int MAX_KEY_LENGTH = 100;
+  private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH");
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final ErrorReporter errorReporter;
+  private final Duration ttl;
+  private final Duration lockTimeout;
+
+  public IdempotencyFilter(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      ErrorReporter errorReporter,
+      @Value("${vehicle.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${vehicle.idempotency.lock-timeout:PT1M}") Duration lockTimeout) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.errorReporter = errorReporter;
+    this.ttl = ttl;
+    this.lockTimeout = lockTimeout;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+        || !METHODS.contains(request.getMethod())
+        || !request.getRequestURI().startsWith("/v1/")) {
+      return true;
+    }
+    String contentType = request.getContentType();
+    return contentType != null
+        && !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+    if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+      errorReporter.write(
+          request,
+          response,
+          ErrorType.IDEMPOTENCY_KEY_INVALID,
+          "Idempotency-Key de " + key.length() + " caracteres");
+      return;
+    }
+
+    CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+    String principal = ClientIdentity.of(request);
+    String requestHash = hash(request, cachedRequest.body);
+    LocalDateTime claimedAt = now();
+
+    if (!claim(principal, key, requestHash, claimedAt)) {
+      Optional<StoredKey> stored = idempotencyKeyRepository.find(principal, key);
+      if (stored.isEmpty()) {
+        // Liberada justo entre la reserva y la lectura: el cliente puede reintentar de inmediato.
+        writeInProgress(request, response, key);
+      } else if (!stored.get().requestHash().equals(requestHash)) {
+        errorReporter.write(
+            request,
+            response,
+            ErrorType.IDEMPOTENCY_MISMATCH,
+            "Idempotency-Key reutilizada: " + key);
+      } else if (stored.get().completed()) {
+        replay(response, stored.get());
+      } else {
+        writeInProgress(request, response, key);
+      }
+      return;
+    }
+
+    ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+    boolean completed = false;
+    try {
+      filterChain.doFilter(cachedRequest, cachedResponse);
+      int status = cachedResponse.getStatus();
+      if (status >= 200 && status < 300) {
+        idempotencyKeyRepository.complete(
+            principal,
+            key,
+            status,
+            cachedResponse.getContentType(),
+            cachedResponse.getHeader(HttpHeaders.LOCATION),
+            cachedResponse.getContentAsByteArray());
+        completed = true;
+      }
+    } finally {
+      if (!completed) {
+        idempotencyKeyRepository.release(principal, key, claimedAt);
+      }
+      cachedResponse.copyBodyToResponse();
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${vehicle.idempotency.cleanup-interval:PT1H}",
+      fixedDelayString = "${vehicle.idempotency.cleanup-interval:PT1H}")
+  public void purgeExpired() {
+    int deleted = idempotencyKeyRepository.deleteExpired(now());
+    if (deleted > 0) {
+      logger.info("{} claves de idempotencia vencidas eliminadas", deleted);
+    }
+  }
+
+  /**
+   * Reserva la clave. Una clave vencida, o reservada por una petición que no terminó en {@code
+   * vehicle.idempotency.lock-timeout} (instancia caída), se libera y se reserva de nuevo.
+   */
+  private boolean claim(String principal, String key, String requestHash, LocalDateTime now) {
+    if (idempotencyKeyRepository.tryClaim(principal, key, requestHash, now, now.plus(ttl))) {
+      return true;
+    }
+    Optional<StoredKey> stored = idempotencyKeyRepository.find(principal, key);
+    boolean stale =
+        stored.isPresent()
+            && (stored.get().expiresAt().isBefore(now)
+                || (!stored.get().completed()
+                    && stored.get().createdAt().isBefore(now.minus(lockTimeout))));
+    if (!stale) {
+      return false;
+    }
+    idempotencyKeyRepository.release(principal, key, stored.get().createdAt());
+    return idempotencyKeyRepository.tryClaim(principal, key, requestHash, now, now.plus(ttl));
+  }
+
+  private void replay(HttpServletResponse response, StoredKey stored) throws IOException {
+    response.setStatus(stored.responseStatus());
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (stored.location() != null) {
+      response.setHeader(HttpHeaders.LOCATION, stored.location());
+    }
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    if (stored.responseBody() != null) {
+      response.setContentLength(stored.responseBody().length);
+      response.getOutputStream().write(stored.responseBody());
+    }
+  }
+
+  private void writeInProgress(
+      HttpServletRequest request, HttpServletResponse response, String key) throws IOException {
+    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    errorReporter.write(
+        request, response, ErrorType.IDEMPOTENCY_IN_PROGRESS, "Idempotency-Key en curso: " + key);
+  }
+
+  /** Hash de la operación: método, ruta con la consulta y cuerpo. */
+  static String hash(HttpServletRequest request, byte[] body) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) ' ');
+      digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+      if (request.getQueryString() != null) {
+        digest.update((byte) '?');
+        digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+      }
+      digest.update((byte) '\n');
+      digest.update(body);
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** PostgreSQL guarda microsegundos: la marca debe compararse igual al liberar la reserva. */
+  private static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
+  /** Petición con el cuerpo ya leído, para calcular el hash y entregarlo igual al controlador. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = request.getInputStream().readAllBytes();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return input.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        /** El cuerpo ya está en memoria: se avisa de inmediato que hay datos y que se leyeron. */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      Charset charset =
+          getCharacterEncoding() == null
+              ? StandardCharsets.UTF_8
+              : Charset.forName(getCharacterEncoding());
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.sgivu.vehicle.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sgivu.vehicle.dto.CarResponse;
+import com.sgivu.vehicle.dto.MotorcycleResponse;
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.entity.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serialización JSON de los tipos más frecuentes en las respuestas.
+ *
+ * <p>{@link VehicleResponse} se escribe campo por campo, en el mismo orden de siempre, sin la
+ * introspección por reflexión ni los objetos intermedios del serializador genérico de Jackson: es
+ * la respuesta de todos los listados. {@link Money} se escribe y se lee en pesos con hasta dos
+ * decimales; un importe con más decimales se rechaza en lugar de redondearse.
+ */
+@Configuration
+public class JacksonConfig {
+
+  private static final String MONEY_FORMAT = "importe en pesos con hasta dos decimales";
+
+  @Bean
+  Module vehicleJsonModule() {
+    return new SimpleModule("sgivu-vehicle")
+        .addSerializer(Money.class, new MoneySerializer())
+        .addDeserializer(Money.class, new MoneyDeserializer())
+        .addSerializer(VehicleResponse.class, new VehicleResponseSerializer());
+  }
+
+  static final class MoneySerializer extends StdSerializer<Money> {
+
+    MoneySerializer() {
+      super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeNumber(value.toBigDecimal());
+    }
+  }
+
+  static final class MoneyDeserializer extends StdDeserializer<Money> {
+
+    MoneyDeserializer() {
+      super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      JsonToken token = p.currentToken();
+      if (token == JsonToken.VALUE_STRING) {
+        String text = p.getText();
+        try {
+          return Money.parse(text);
+        } catch (IllegalArgumentException e) {
+          throw ctxt.weirdStringException(text, Money.class, MONEY_FORMAT);
+        }
+      }
+      if (token.isNumeric()) {
+        BigDecimal pesos = p.getDecimalValue();
+        try {
+          return Money.of(pesos);
+        } catch (IllegalArgumentException e) {
+          throw ctxt.weirdNumberException(pesos, Money.class, MONEY_FORMAT);
+        }
+      }
+      return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+    }
+  }
+
+  static final class VehicleResponseSerializer extends StdSerializer<VehicleResponse> {
+
+    VehicleResponseSerializer() {
+      super(VehicleResponse.class);
+    }
+
+    @Override
+    public void serialize(VehicleResponse value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(value);
+      gen.writeNumberField("id", value.id());
+      gen.writeStringField("brand", value.brand());
+      gen.writeStringField("model", value.model());
+      gen.writeNumberField("capacity", value.capacity());
+      gen.writeStringField("line", value.line());
+      gen.writeStringField("plate", value.plate());
+      gen.writeStringField("motorNumber", value.motorNumber());
+      gen.writeStringField("serialNumber", value.serialNumber());
+      gen.writeStringField("chassisNumber", value.chassisNumber());
+      gen.writeStringField("color", value.color());
+      gen.writeStringField("cityRegistered", value.cityRegistered());
+      gen.writeNumberField("year", value.year());
+      gen.writeNumberField("mileage", value.mileage());
+      gen.writeStringField("transmission", value.transmission());
+      gen.writeStringField("status", value.status() == null ? null : value.status().name());
+      writeMoneyField(gen, "purchasePrice", value.purchasePrice());
+      writeMoneyField(gen, "salePrice", value.salePrice());
+      gen.writeStringField("photoUrl", value.photoUrl());
+      gen.writeStringField("thumbnailUrl", value.thumbnailUrl());
+      switch (value) {
+        case CarResponse car -> {
+          gen.writeStringField("bodyType", car.bodyType());
+          gen.writeStringField("fuelType", car.fuelType());
+          gen.writeNumberField("numberOfDoors", car.numberOfDoors());
+        }
+        case MotorcycleResponse motorcycle ->
+            gen.writeStringField("motorcycleType", motorcycle.motorcycleType());
+      }
+      gen.writeEndObject();
+    }
+
+    private static void writeMoneyField(JsonGenerator gen, String name, Money money)
+        throws IOException {
+      gen.writeFieldName(name);
+      if (money == null) {
+        gen.writeNull();
+      } else {
+        gen.writeNumber(money.toBigDecimal());
+      }
+    }
+  }
+}
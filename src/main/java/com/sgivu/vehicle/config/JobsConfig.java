@@ -0,0 +1,43 @@
+package com.sgivu.vehicle.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Ejecutor de los trabajos en segundo plano (importaciones y exportaciones masivas).
+ *
+ * <p>Su tamaño fijo ({@code vehicle.jobs.max-concurrent}) limita cuántos trabajos pesados usan a la
+ * vez la base de datos: cada uno ocupa una conexión del pool y el resto queda para las peticiones
+ * HTTP. Los que no caben esperan en una cola acotada ({@code vehicle.jobs.queue-capacity}); con la
+ * cola llena se rechaza el envío en lugar de acumular archivos.
+ */
+@Configuration
+public class JobsConfig {
+
+  public static final String JOB_EXECUTOR = "vehicleJobExecutor";
+
+  @Bean(name = JOB_EXECUTOR)
+  ThreadPoolTaskExecutor vehicleJobExecutor(
+      @Value("${vehicle.jobs.max-concurrent:2}") int maxConcurrent,
+      @Value("${vehicle.jobs.queue-capacity:20}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrent);
+    executor.setMaxPoolSize(maxConcurrent);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("vehicle-job-");
+    // Los trabajos leen filas recién escritas (la del propio trabajo, los lotes importados): nunca
+    // desde una réplica atrasada.
+    executor.setTaskDecorator(
+        task ->
+            () -> {
+              try (ReplicaRouter.PrimaryPin pin = ReplicaRouter.pinToPrimary()) {
+                task.run();
+              }
+            });
+    // Al detenerse la instancia los trabajos en curso se interrumpen y quedan como fallidos.
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    return executor;
+  }
+}
@@ -0,0 +1,104 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.dto.AgeBucketReport;
+import com.sgivu.vehicle.dto.BulkDeleteReport;
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
+import com.sgivu.vehicle.dto.CarUpdateRequest;
+import com.sgivu.vehicle.dto.ImportReport;
+import com.sgivu.vehicle.dto.InventoryGroup;
+import com.sgivu.vehicle.dto.JobResponse;
+import com.sgivu.vehicle.dto.MotorcycleUpdateRequest;
+import com.sgivu.vehicle.dto.ScrollResponse;
+import com.sgivu.vehicle.dto.StatusDurationReport;
+import com.sgivu.vehicle.dto.SuggestionResponse;
+import com.sgivu.vehicle.dto.UniquenessCheckRequest;
+import com.sgivu.vehicle.dto.UniquenessCheckResponse;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.repository.VehicleQueryRepository;
+import java.util.List;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Metadatos de alcanzabilidad para la imagen nativa ({@code ./mvnw -Pnative native:compile}).
+ *
+ * <p>El procesamiento AOT ya cubre los beans, las entidades JPA y los repositorios; aquí se declara
+ * lo que se resuelve por reflexión o proxies fuera de esa detección: las implementaciones generadas
+ * por MapStruct, los tipos que Jackson serializa (incluidos los genéricos como {@link
+ * ScrollResponse}), la proyección {@link VehicleQueryRepository.TermCount}, los scripts de Flyway y
+ * {@code ehcache.xml}. Los proxies de Hibernate de {@link Car} / {@link Motorcycle} se reemplazan
+ * por el bytecode mejorado en el build del perfil {@code native}.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.VehicleRuntimeHints.class)
+public class NativeConfig {
+
+  static class VehicleRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] GENERATED_MAPPERS = {
+      "com.sgivu.vehicle.mapper.VehicleMapperImpl",
+      "com.sgivu.vehicle.mapper.VehicleReadMapperImpl",
+      "com.sgivu.vehicle.mapper.VehicleJobMapperImpl"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      hints.resources().registerPattern("db/migration/*.sql");
+      hints.resources().registerPattern("ehcache.xml");
+
+      for (String mapper : GENERATED_MAPPERS) {
+        hints
+            .reflection()
+            .registerType(
+                TypeReference.of(mapper),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+      }
+
+      // Las respuestas de vehículos y Money los escribe JacksonConfig, sin reflexión.
+      new BindingReflectionHintsRegistrar()
+          .registerReflectionHints(
+              hints.reflection(),
+              Car.class,
+              Motorcycle.class,
+              CarUpdateRequest.class,
+              MotorcycleUpdateRequest.class,
+              ScrollResponse.class,
+              SuggestionResponse.class,
+              ImportReport.class,
+              JobResponse.class,
+              UniquenessCheckRequest.class,
+              UniquenessCheckResponse.class,
+              VehicleHistoryEntry.class,
+              StatusDurationReport.class,
+              InventoryGroup.class,
+              AgeBucketReport.class,
+              BulkDeleteRequest.class,
+              BulkDeleteReport.class);
+
+      // La importación CSV verifica por reflexión las longitudes de @Column.
+      for (Class<?> entity : List.of(Vehicle.class, Car.class, Motorcycle.class)) {
+        hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS);
+      }
+
+      hints
+          .proxies()
+          .registerJdkProxy(
+              VehicleQueryRepository.TermCount.class,
+              TargetAware.class,
+              SpringProxy.class,
+              DecoratingProxy.class);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.service.impl.SyntheticVehicleLoader;
+import com.sgivu.vehicle.service.impl.VehicleDataGenerator;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Datos para pruebas de carga (perfil {@code perf}): completa la base hasta {@code
+ * vehicle.perf.seed.vehicles} vehículos antes de abrir el puerto. Con {@code 0} (por defecto) no
+ * hace nada.
+ *
+ * <p>Los vehículos salen de {@link VehicleDataGenerator} con la semilla {@code
+ * vehicle.perf.seed.seed} y se insertan por lotes de {@code vehicle.perf.seed.chunk-size} con
+ * {@link SyntheticVehicleLoader}. Es idempotente: si la base ya tiene la cantidad pedida no inserta
+ * nada. El siguiente número por generar de cada semilla queda en {@code
+ * synthetic_vehicle_progress}, así que un arranque posterior genera vehículos nuevos aunque se
+ * hayan archivado o eliminado algunos de los anteriores; los números de una carga interrumpida
+ * chocan con sus placas y se descartan.
+ */
+@Component
+public class PerfDataSeeder implements SmartInitializingSingleton {
+
+  private static final Logger logger = LoggerFactory.getLogger(PerfDataSeeder.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SyntheticVehicleLoader loader;
+  private final long targetVehicles;
+  private final long seed;
+  private final int chunkSize;
+
+  public PerfDataSeeder(
+      JdbcTemplate jdbcTemplate,
+      SyntheticVehicleLoader loader,
+      @Value("${vehicle.perf.seed.vehicles:0}") long targetVehicles,
+      @Value("${vehicle.perf.seed.seed:42}") long seed,
+      @Value("${vehicle.perf.seed.chunk-size:5000}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.loader = loader;
+    this.targetVehicles = targetVehicles;
+    this.seed = seed;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (targetVehicles <= 0) {
+      return;
+    }
+    Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM vehicles", Long.class);
+    long count = existing == null ? 0 : existing;
+    if (count >= targetVehicles) {
+      logger.info("Datos de prueba: la base ya tiene {} vehículos", count);
+      return;
+    }
+
+    // Fecha de referencia fija: los mismos números generan siempre los mismos vehículos.
+    VehicleDataGenerator generator =
+        new VehicleDataGenerator(seed, LocalDateTime.of(2026, 1, 1, 0, 0), 730);
+    long next = nextNumber();
+    for (long missing = targetVehicles - count; missing > 0; ) {
+      long inserted = loader.load(generator, next, missing, chunkSize);
+      next += missing;
+      saveNextNumber(next);
+      missing -= inserted;
+    }
+  }
+
+  private long nextNumber() {
+    return jdbcTemplate
+        .queryForList(
+            "SELECT next_number FROM synthetic_vehicle_progress WHERE seed = ?", Long.class, seed)
+        .stream()
+        .findFirst()
+        .orElse(0L);
+  }
+
+  private void saveNextNumber(long next) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO synthetic_vehicle_progress (seed, next_number) VALUES (?, ?)
+        ON CONFLICT (seed) DO UPDATE SET next_number = excluded.next_number
+        """,
+        seed,
+        next);
+  }
+}
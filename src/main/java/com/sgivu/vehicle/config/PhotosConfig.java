@@ -0,0 +1,33 @@
+package com.sgivu.vehicle.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Ejecutor de la generación de miniaturas de fotos.
+ *
+ * <p>Decodificar y escalar una imagen usa CPU y memoria; un pool fijo ({@code
+ * vehicle.photos.thumbnail-threads}) evita que una ráfaga de cargas compita con las peticiones. Con
+ * la cola ({@code vehicle.photos.thumbnail-queue-capacity}) llena la miniatura se descarta y se
+ * vuelve a encolar cuando alguien la pide.
+ */
+@Configuration
+public class PhotosConfig {
+
+  public static final String THUMBNAIL_EXECUTOR = "photoThumbnailExecutor";
+
+  @Bean(name = THUMBNAIL_EXECUTOR)
+  ThreadPoolTaskExecutor photoThumbnailExecutor(
+      @Value("${vehicle.photos.thumbnail-threads:1}") int threads,
+      @Value("${vehicle.photos.thumbnail-queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("photo-thumbnail-");
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    return executor;
+  }
+}
@@ -0,0 +1,150 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.exception.ErrorReporter;
+import com.sgivu.vehicle.exception.ErrorType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Protección contra sobrecarga de las rutas {@code /v1/}.
+ *
+ * <p>Cada petición tiene un costo según su ruta (la lista completa de autos o motos cuesta mucho
+ * más que una consulta por id) y se cobra del balde del cliente en {@link TokenBucketRateLimiter}:
+ * el sujeto del JWT o, para las llamadas con la clave de servicio interno, el servicio que llama
+ * ({@link ClientIdentity}). Sin fichas responde {@code 429} con {@code Retry-After}. Después, {@link
+ * AdaptiveConcurrencyLimiter} limita las peticiones simultáneas de la instancia y responde {@code
+ * 503} con {@code Retry-After} si la base de datos se está quedando atrás.
+ *
+ * <p>Corre después de la cadena de Spring Security (el cliente ya está autenticado) y antes de
+ * {@link IdempotencyFilter}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final String OVERLOADED_RETRY_AFTER_SECONDS = "1";
+  private static final int DEFAULT_COST = 1;
+  private static final int HEAVY_COST = 5;
+
+  /** Costos por ruta; la primera regla que coincide gana. El resto de las rutas cuesta 1. */
+  private static final List<CostRule> COST_RULES =
+      List.of(
+          // Lista completa: carga toda la tabla.
+          new CostRule(HttpMethod.GET, "/v1/{type:cars|motorcycles}", 20),
+          new CostRule(HttpMethod.POST, "/v1/{type:cars|motorcycles}/import", 20),
+          new CostRule(HttpMethod.POST, "/v1/{type:cars|motorcycles}/bulk-delete", 20),
+          new CostRule(HttpMethod.POST, "/v1/jobs/import", 10),
+          // Recorre toda la tabla, pero en streaming y sin ocupar un hilo de Tomcat.
+          new CostRule(HttpMethod.GET, "/v1/vehicles/reactive", 10),
+          new CostRule(HttpMethod.POST, "/v1/jobs/export", 10),
+          new CostRule(HttpMethod.GET, "/v1/jobs/{id}/result", 5),
+          new CostRule(HttpMethod.GET, "/v1/{type:cars|motorcycles|vehicles}/search", 5),
+          new CostRule(HttpMethod.POST, "/v1/vehicles/uniqueness-check", 5),
+          new CostRule(HttpMethod.GET, "/v1/vehicles/history/status-durations", 5),
+          new CostRule(HttpMethod.PUT, "/v1/{type:cars|motorcycles}/{id}/photo", 5),
+          new CostRule(HttpMethod.GET, "/v1/vehicles/photos/{name}", 2),
+          new CostRule(HttpMethod.GET, "/v1/{type:cars|motorcycles}/page/{page}", 2),
+          new CostRule(HttpMethod.GET, "/v1/{type:cars|motorcycles}/status/{status}", 2));
+
+  private final TokenBucketRateLimiter rateLimiter;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final ErrorReporter errorReporter;
+  private final boolean rateLimitEnabled;
+  private final boolean loadSheddingEnabled;
+
+  public RateLimitFilter(
+      TokenBucketRateLimiter rateLimiter,
+      AdaptiveConcurrencyLimiter concurrencyLimiter,
+      ErrorReporter errorReporter,
+      @Value("${vehicle.rate-limit.enabled:true}") boolean rateLimitEnabled,
+      @Value("${vehicle.load-shedding.enabled:true}") boolean loadSheddingEnabled) {
+    this.rateLimiter = rateLimiter;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.errorReporter = errorReporter;
+    this.rateLimitEnabled = rateLimitEnabled;
+    this.loadSheddingEnabled = loadSheddingEnabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return (!rateLimitEnabled && !loadSheddingEnabled)
+        || !request.getRequestURI().startsWith("/v1/");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    int cost = cost(request);
+    String client = ClientIdentity.of(request);
+
+    if (rateLimitEnabled) {
+      long waitNanos = rateLimiter.tryConsume(client, cost);
+      if (waitNanos > 0) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        errorReporter.write(
+            request,
+            response,
+            ErrorType.RATE_LIMITED,
+            client + " superó su límite en " + request.getMethod() + " " + request.getRequestURI());
+        return;
+      }
+    }
+    if (!loadSheddingEnabled) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    boolean heavy = cost >= HEAVY_COST;
+    if (!concurrencyLimiter.tryAcquire(heavy)) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, OVERLOADED_RETRY_AFTER_SECONDS);
+      errorReporter.write(
+          request,
+          response,
+          ErrorType.OVERLOADED,
+          "Petición descartada: " + request.getMethod() + " " + request.getRequestURI());
+      return;
+    }
+    long start = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      filterChain.doFilter(request, response);
+      succeeded = response.getStatus() < 500;
+    } finally {
+      concurrencyLimiter.release(succeeded && cost == DEFAULT_COST, System.nanoTime() - start);
+    }
+  }
+
+  private static int cost(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    for (CostRule rule : COST_RULES) {
+      if (rule.method().matches(request.getMethod()) && rule.pattern().matches(path)) {
+        return rule.cost();
+      }
+    }
+    return DEFAULT_COST;
+  }
+
+  private record CostRule(HttpMethod method, PathPattern pattern, int cost) {
+
+    CostRule(HttpMethod method, String pattern, int cost) {
+      this(method, PathPatternParser.defaultInstance.parse(pattern), cost);
+    }
+  }
+}
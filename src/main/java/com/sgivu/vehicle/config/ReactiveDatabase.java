@@ -0,0 +1,123 @@
+package com.sgivu.vehicle.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Conexiones R2DBC de la API de lectura reactiva, activa con {@code vehicle.reactive.enabled=true}.
+ *
+ * <p>Usa {@code vehicle.reactive.url} o, si se omite, la URL de {@code spring.datasource} con el
+ * esquema {@code r2dbc:}, con las credenciales de {@code spring.datasource}. El pool ({@code
+ * vehicle.reactive.max-pool-size}, 16 conexiones) abre las conexiones a demanda y no comparte
+ * conexiones con Hikari. Cada listado en curso ocupa una conexión hasta terminar, así que el tamaño
+ * del pool es el máximo de listados simultáneos por instancia: los demás esperan una conexión
+ * hasta {@code vehicle.reactive.max-acquire-time} (5 s) y luego fallan con {@code 503}.
+ *
+ * <p>No es un {@code ConnectionFactory}: si lo fuera, Spring Boot dejaría de crear el datasource
+ * principal de JPA. Por lo mismo la auto-configuración de R2DBC está excluida en {@code
+ * application.yml}.
+ */
+@Component
+public class ReactiveDatabase {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReactiveDatabase.class);
+
+  private static final String JDBC_PREFIX = "jdbc:";
+
+  private final ConnectionPool pool;
+  private final DatabaseClient client;
+  private final int fetchSize;
+  private final Duration streamTimeout;
+
+  public ReactiveDatabase(
+      DataSourceProperties dataSourceProperties,
+      @Value("${vehicle.reactive.enabled:false}") boolean enabled,
+      @Value("${vehicle.reactive.url:}") String url,
+      @Value("${vehicle.reactive.max-pool-size:16}") int maxPoolSize,
+      @Value("${vehicle.reactive.max-acquire-time:PT5S}") Duration maxAcquireTime,
+      @Value("${vehicle.reactive.max-idle-time:PT5M}") Duration maxIdleTime,
+      @Value("${vehicle.reactive.fetch-size:250}") int fetchSize,
+      @Value("${vehicle.reactive.stream-timeout:PT30M}") Duration streamTimeout) {
+    this.fetchSize = fetchSize;
+    this.streamTimeout = streamTimeout;
+    if (!enabled) {
+      this.pool = null;
+      this.client = null;
+      return;
+    }
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse(r2dbcUrl(url, dataSourceProperties.determineUrl()))
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword())
+            .build();
+    this.pool =
+        new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("vehicle-reactive")
+                .initialSize(0)
+                .maxSize(maxPoolSize)
+                .maxAcquireTime(maxAcquireTime)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    this.client = DatabaseClient.create(pool);
+    logger.info("API de lectura reactiva habilitada: pool de hasta {} conexiones", maxPoolSize);
+  }
+
+  public boolean isEnabled() {
+    return client != null;
+  }
+
+  /**
+   * @throws IllegalStateException si {@code vehicle.reactive.enabled} no está activo
+   */
+  public DatabaseClient client() {
+    if (client == null) {
+      throw new IllegalStateException("La API de lectura reactiva no está habilitada");
+    }
+    return client;
+  }
+
+  /** Filas que el driver pide a PostgreSQL por cada lote de un cursor (demanda del suscriptor). */
+  public int fetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Duración máxima de un listado. Spring MVC no aplica el timeout asíncrono a las respuestas en
+   * streaming, así que sin este límite un cliente que deja de leer retiene su conexión del pool
+   * indefinidamente.
+   */
+  public Duration streamTimeout() {
+    return streamTimeout;
+  }
+
+  @PreDestroy
+  void close() {
+    if (pool != null) {
+      pool.dispose();
+    }
+  }
+
+  private static String r2dbcUrl(String url, String jdbcUrl) {
+    if (StringUtils.hasText(url)) {
+      return url;
+    }
+    if (jdbcUrl == null || !jdbcUrl.startsWith(JDBC_PREFIX)) {
+      throw new IllegalStateException(
+          "vehicle.reactive.url es obligatorio si spring.datasource.url no es una URL JDBC");
+    }
+    return "r2dbc:" + jdbcUrl.substring(JDBC_PREFIX.length());
+  }
+}
@@ -0,0 +1,67 @@
+package com.sgivu.vehicle.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Lee-tus-escrituras con réplicas de lectura.
+ *
+ * <p>Una petición que escribe usa solo el principal: con el {@code EntityManager} abierto durante
+ * toda la petición, una lectura previa a la escritura fijaría la conexión en una réplica. Después,
+ * las peticiones del mismo cliente ({@link ClientIdentity}: el usuario o el servicio interno que
+ * escribió) siguen yendo al principal durante {@code replicas.stickiness}, hasta que las réplicas
+ * alcanzan la escritura. Cada servicio interno tiene su propia ventana: la escritura de uno no
+ * envía al principal las lecturas de los demás. La ventana es de cada instancia: solo cubre las
+ * peticiones que el balanceador envía a la instancia que atendió la escritura. Sin réplicas no hace
+ * nada.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 20)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+  private final ReplicaRouter replicaRouter;
+
+  public ReadYourWritesFilter(ReplicaRouter replicaRouter) {
+    this.replicaRouter = replicaRouter;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !replicaRouter.hasReplicas();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String client = ClientIdentity.of(request);
+    boolean write = WRITE_METHODS.contains(request.getMethod());
+    if (!write && !replicaRouter.wroteRecently(client)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    // Se registra antes de responder (el cliente puede leer apenas recibe la respuesta) y de nuevo
+    // al terminar, para que la ventana cuente desde el commit.
+    if (write) {
+      replicaRouter.recordWrite(client);
+    }
+    try (ReplicaRouter.PrimaryPin pin = ReplicaRouter.pinToPrimary()) {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (write) {
+        replicaRouter.recordWrite(client);
+      }
+    }
+  }
+}
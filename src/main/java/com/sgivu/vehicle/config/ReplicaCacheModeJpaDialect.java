@@ -0,0 +1,47 @@
+package com.sgivu.vehicle.config;
+
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Las transacciones de solo lectura que pueden ir a una réplica leen la caché de segundo nivel pero
+ * no la llenan ({@link CacheMode#GET}): una réplica atrasada volvería a guardar los datos que una
+ * escritura acaba de invalidar con {@link VehicleCache#evictAfterCommit}, y la caché los serviría
+ * hasta su vencimiento en lugar de solo durante el retraso de la réplica. Las que {@link
+ * ReplicaRouter#pinToPrimary()} envía al principal llenan la caché como siempre.
+ *
+ * <p>La sesión puede seguir abierta después de la transacción (open-in-view), así que el modo
+ * anterior se restaura al terminar.
+ */
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+  @Override
+  public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+      throws SQLException {
+    Object transactionData = super.beginTransaction(entityManager, definition);
+    if (!definition.isReadOnly() || ReplicaRouter.isPinnedToPrimary()) {
+      return transactionData;
+    }
+    Session session = entityManager.unwrap(Session.class);
+    CacheMode previous = session.getCacheMode();
+    session.setCacheMode(CacheMode.GET);
+    return new ReplicaReadData(transactionData, session, previous);
+  }
+
+  @Override
+  public void cleanupTransaction(Object transactionData) {
+    if (transactionData instanceof ReplicaReadData data) {
+      data.session().setCacheMode(data.previousCacheMode());
+      super.cleanupTransaction(data.transactionData());
+      return;
+    }
+    super.cleanupTransaction(transactionData);
+  }
+
+  private record ReplicaReadData(
+      Object transactionData, Session session, CacheMode previousCacheMode) {}
+}
@@ -0,0 +1,45 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Réplicas de lectura de PostgreSQL. Sin {@code nodes} todo el tráfico va al datasource principal
+ * ({@code spring.datasource}).
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "replicas")
+public class ReplicaProperties {
+
+  private List<ReplicaInfo> nodes = new ArrayList<>();
+
+  /** Retraso de replicación a partir del cual una réplica deja de recibir lecturas. */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /**
+   * Tiempo que las lecturas de un usuario siguen yendo al principal después de una escritura suya;
+   * debe cubrir {@code maxLag}.
+   */
+  private Duration stickiness = Duration.ofSeconds(5);
+
+  private int maxPoolSize = 10;
+
+  @Setter
+  @Getter
+  public static class ReplicaInfo {
+    private String url;
+
+    /** Si se omite, se usa el de {@code spring.datasource}. */
+    private String username;
+
+    /** Si se omite, se usa el de {@code spring.datasource}. */
+    private String password;
+  }
+}
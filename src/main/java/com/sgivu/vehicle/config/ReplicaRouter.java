@@ -0,0 +1,225 @@
+package com.sgivu.vehicle.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reparto de las transacciones de solo lectura entre las réplicas de {@link ReplicaProperties}.
+ *
+ * <p>Cada {@code replicas.lag-check-interval} se mide el retraso de replicación de cada réplica;
+ * las que superan {@code replicas.max-lag} o no responden dejan de recibir lecturas hasta la
+ * siguiente medición correcta. Sin réplicas disponibles las lecturas van al principal.
+ *
+ * <p>Lee-tus-escrituras: el hilo marcado con {@link #pinToPrimary()} (peticiones que escriben,
+ * peticiones de un usuario que escribió hace menos de {@code replicas.stickiness} y trabajos en
+ * segundo plano) usa siempre el principal. Las escrituras recientes se registran en memoria de
+ * cada instancia: detrás de un balanceador, una lectura atendida por otra instancia puede ir a una
+ * réplica que aún no tiene la escritura.
+ *
+ * <p>No es un {@link DataSource}: si lo fuera, Spring Boot dejaría de crear el datasource
+ * principal. {@link ReplicaRoutingConfig} lo conecta al principal.
+ */
+@Component
+public class ReplicaRouter {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+  private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+  private static final long CONNECTION_TIMEOUT_MILLIS = 2000;
+
+  /** Sin WAL pendiente de aplicar la réplica está al día aunque la última transacción sea vieja. */
+  private static final String LAG_QUERY =
+      """
+      SELECT CASE
+          WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+              THEN 0
+          ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+      END
+      """;
+
+  private final List<Replica> replicas = new ArrayList<>();
+  private final Duration maxLag;
+  private final long stickinessNanos;
+  private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile List<Replica> available = List.of();
+
+  public ReplicaRouter(
+      ReplicaProperties properties,
+      DataSourceProperties dataSourceProperties,
+      MeterRegistry meterRegistry) {
+    this.maxLag = properties.getMaxLag();
+    this.stickinessNanos = properties.getStickiness().toNanos();
+    List<ReplicaProperties.ReplicaInfo> nodes = properties.getNodes();
+    for (int i = 0; i < nodes.size(); i++) {
+      ReplicaProperties.ReplicaInfo node = nodes.get(i);
+      HikariDataSource pool = new HikariDataSource();
+      pool.setPoolName("replica-" + i);
+      pool.setJdbcUrl(node.getUrl());
+      pool.setUsername(
+          node.getUsername() != null ? node.getUsername() : dataSourceProperties.getUsername());
+      pool.setPassword(
+          node.getPassword() != null ? node.getPassword() : dataSourceProperties.getPassword());
+      pool.setMaximumPoolSize(properties.getMaxPoolSize());
+      pool.setReadOnly(true);
+      // Una réplica caída no debe impedir el arranque ni retener lecturas: queda fuera hasta que
+      // responda y, mientras tanto, la lectura va al principal.
+      pool.setInitializationFailTimeout(-1);
+      pool.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+      pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.add(new Replica(pool.getPoolName(), pool));
+    }
+    if (!replicas.isEmpty()) {
+      logger.info("{} réplicas de lectura configuradas", replicas.size());
+    }
+  }
+
+  public boolean hasReplicas() {
+    return !replicas.isEmpty();
+  }
+
+  /**
+   * Datasource de las conexiones de solo lectura: una réplica disponible o, si no hay o el hilo
+   * está marcado, el principal.
+   */
+  public DataSource readOnlyDataSource(DataSource primary) {
+    return new AbstractDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        if (isPinnedToPrimary()) {
+          return primary.getConnection();
+        }
+        List<Replica> candidates = available;
+        if (candidates.isEmpty()) {
+          return primary.getConnection();
+        }
+        Replica replica = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+        try {
+          return replica.pool().getConnection();
+        } catch (SQLException e) {
+          ReplicaRouter.logger.warn(
+              "Réplica {} sin conexión, lectura enviada al principal", replica.name());
+          markUnavailable(replica);
+          return primary.getConnection();
+        }
+      }
+
+      /** Las réplicas usan sus propias credenciales: con otras, la lectura va al principal. */
+      @Override
+      public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+      }
+    };
+  }
+
+  /** Registra una escritura del usuario: sus lecturas irán al principal durante la ventana. */
+  public void recordWrite(String principal) {
+    lastWrites.put(principal, System.nanoTime());
+  }
+
+  public boolean wroteRecently(String principal) {
+    Long lastWrite = lastWrites.get(principal);
+    return lastWrite != null && System.nanoTime() - lastWrite < stickinessNanos;
+  }
+
+  /** Envía al principal todas las lecturas del hilo hasta cerrar el resultado. */
+  public static PrimaryPin pinToPrimary() {
+    PrimaryPin pin = new PrimaryPin(PRIMARY_ONLY.get());
+    PRIMARY_ONLY.set(Boolean.TRUE);
+    return pin;
+  }
+
+  public static boolean isPinnedToPrimary() {
+    return Boolean.TRUE.equals(PRIMARY_ONLY.get());
+  }
+
+  @Scheduled(fixedDelayString = "${replicas.lag-check-interval:PT5S}")
+  public void checkReplicas() {
+    if (replicas.isEmpty()) {
+      return;
+    }
+    List<Replica> healthy = new ArrayList<>();
+    for (Replica replica : replicas) {
+      if (isHealthy(replica)) {
+        healthy.add(replica);
+      }
+    }
+    available = List.copyOf(healthy);
+
+    long now = System.nanoTime();
+    lastWrites.values().removeIf(lastWrite -> now - lastWrite >= stickinessNanos);
+  }
+
+  @PreDestroy
+  void close() {
+    replicas.forEach(replica -> replica.pool().close());
+  }
+
+  private boolean isHealthy(Replica replica) {
+    boolean wasAvailable = available.contains(replica);
+    try {
+      JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.pool());
+      jdbcTemplate.setQueryTimeout(2);
+      Double lagSeconds = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+      boolean healthy = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+      if (healthy != wasAvailable) {
+        logger.info(
+            "Réplica {} {} (retraso {} s)",
+            replica.name(),
+            healthy ? "disponible" : "fuera de servicio",
+            lagSeconds);
+      }
+      return healthy;
+    } catch (RuntimeException e) {
+      if (wasAvailable) {
+        logger.warn("Réplica {} fuera de servicio: {}", replica.name(), e.getMessage());
+      }
+      return false;
+    }
+  }
+
+  private synchronized void markUnavailable(Replica replica) {
+    List<Replica> remaining = new ArrayList<>(available);
+    remaining.remove(replica);
+    available = List.copyOf(remaining);
+  }
+
+  private record Replica(String name, HikariDataSource pool) {}
+
+  /** Restaura la marca previa del hilo (las marcas pueden anidarse). */
+  public static final class PrimaryPin implements AutoCloseable {
+
+    private final Boolean previous;
+
+    private PrimaryPin(Boolean previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      if (previous == null) {
+        PRIMARY_ONLY.remove();
+      } else {
+        PRIMARY_ONLY.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.sgivu.vehicle.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Envía las transacciones de solo lectura ({@code @Transactional(readOnly = true)}) a las réplicas.
+ *
+ * <p>El datasource principal que crea Spring Boot se envuelve en un {@link
+ * LazyConnectionDataSourceProxy}: la conexión física se obtiene al ejecutar la primera sentencia,
+ * cuando la transacción ya marcó la conexión como de solo lectura, y en ese caso sale de {@link
+ * ReplicaRouter}. Las demás (escrituras, migraciones, {@code JdbcTemplate} fuera de una
+ * transacción) van al principal. La decisión se toma en tiempo de ejecución, por lo que también
+ * aplica en el modo AOT.
+ *
+ * <p>Con la caché de segundo nivel activa, las transacciones de solo lectura no la llenan ({@link
+ * ReplicaCacheModeJpaDialect}).
+ */
+@Configuration
+public class ReplicaRoutingConfig {
+
+  private static final String DATA_SOURCE_BEAN = "dataSource";
+
+  @Bean
+  static BeanPostProcessor replicaRoutingPostProcessor(
+      ObjectProvider<ReplicaRouter> replicaRouter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource primary)) {
+          return bean;
+        }
+        ReplicaRouter router = replicaRouter.getObject();
+        if (!router.hasReplicas()) {
+          return bean;
+        }
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(router.readOnlyDataSource(primary));
+        return proxy;
+      }
+    };
+  }
+
+  /**
+   * Después de inicializarse, porque el administrador de transacciones toma el dialecto de la
+   * fábrica de {@code EntityManager} al recibirla.
+   */
+  @Bean
+  static BeanPostProcessor replicaCacheModePostProcessor(
+      ObjectProvider<ReplicaRouter> replicaRouter, Environment environment) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof JpaTransactionManager transactionManager
+            && environment.getProperty("vehicle.cache.enabled", Boolean.class, false)
+            && replicaRouter.getObject().hasReplicas()) {
+          transactionManager.setJpaDialect(new ReplicaCacheModeJpaDialect());
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,69 @@
+package com.sgivu.vehicle.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Completa {@code search_terms} y {@code search_vector} de los vehículos que existían antes de la
+ * migración {@code V2}, por lotes de {@code vehicle.search.backfill-batch-size} filas, cada uno en
+ * su propia transacción: a diferencia de un {@code UPDATE} de toda la tabla dentro de la migración,
+ * solo bloquea las filas del lote en curso y no retiene el arranque de las demás instancias.
+ *
+ * <p>El {@code UPDATE} asigna {@code search_terms} desde el subtipo y el trigger de {@code
+ * vehicles} calcula el vector. Las filas nuevas ya lo traen, así que en una base al día la única
+ * consulta es la del índice parcial de filas sin vector, que está vacío. Corre al terminar de crear
+ * los beans, después de las migraciones y antes de que el servidor web abra el puerto; hasta que
+ * termina, la búsqueda de texto libre no encuentra los vehículos sin completar.
+ */
+@Component
+public class SearchVectorBackfill implements SmartInitializingSingleton {
+
+  private static final Logger logger = LoggerFactory.getLogger(SearchVectorBackfill.class);
+
+  private static final String BACKFILL =
+      """
+      UPDATE vehicles v
+      SET search_terms = CASE WHEN c.vehicle_id IS NOT NULL
+                              THEN concat_ws(' ', c.body_type, c.fuel_type)
+                              ELSE m.motorcycle_type END
+      FROM (SELECT id FROM vehicles
+            WHERE search_vector IS NULL
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED) b
+           LEFT JOIN cars c ON c.vehicle_id = b.id
+           LEFT JOIN motorcycles m ON m.vehicle_id = b.id
+      WHERE v.id = b.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public SearchVectorBackfill(
+      JdbcTemplate jdbcTemplate,
+      @Value("${vehicle.search.backfill-batch-size:5000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    long start = System.nanoTime();
+    long total = 0;
+    int updated;
+    do {
+      updated = jdbcTemplate.update(BACKFILL, batchSize);
+      total += updated;
+    } while (updated > 0);
+    if (total > 0) {
+      logger.info(
+          "Búsqueda de texto libre: {} vehículos completados en {} ms",
+          total,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.service.VehicleSuggestionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ajustes del arranque con inicialización diferida ({@code spring.main.lazy-initialization}, perfil
+ * {@code fast-startup}).
+ *
+ * <p>Los beans que deben estar listos antes de aceptar tráfico se mantienen ansiosos: las
+ * migraciones y Hibernate (el primer request no debe pagar su arranque ni encontrar el esquema sin
+ * migrar), el índice de sugerencias, cuyo refresco programado solo se registra al crear el bean, y
+ * el calentamiento de conexiones y el completado de la búsqueda de texto libre, que deben terminar
+ * antes de abrir el puerto.
+ */
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerStartupBeans() {
+    return LazyInitializationExcludeFilter.forBeanTypes(
+        Flyway.class,
+        FlywayMigrationInitializer.class,
+        EntityManagerFactory.class,
+        VehicleSuggestionService.class,
+        ConnectionWarmUp.class,
+        SearchVectorBackfill.class);
+  }
+}
@@ -0,0 +1,68 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra al terminar el arranque los pasos más lentos (fases del contexto y creación de beans)
+ * capturados por {@link BufferingApplicationStartup}.
+ *
+ * <p>La línea de tiempo completa está disponible en el endpoint {@code /actuator/startup} cuando se
+ * expone; este reporte no la consume, así que el endpoint la sigue devolviendo completa.
+ */
+@Component
+public class StartupTimingReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+  private static final Logger logger = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+  private final int reportSize;
+
+  public StartupTimingReporter(@Value("${vehicle.startup.report-size:10}") int reportSize) {
+    this.reportSize = reportSize;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    if (reportSize <= 0
+        || !(event.getApplicationContext().getApplicationStartup()
+            instanceof BufferingApplicationStartup startup)) {
+      return;
+    }
+
+    StartupTimeline timeline = startup.getBufferedTimeline();
+    String slowest =
+        timeline.getEvents().stream()
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(reportSize)
+            .map(StartupTimingReporter::describe)
+            .collect(Collectors.joining(System.lineSeparator() + "  ", "  ", ""));
+
+    logger.info(
+        "Arranque listo en {} ms; pasos más lentos:{}{}",
+        event.getTimeTaken().toMillis(),
+        System.lineSeparator(),
+        slowest);
+  }
+
+  private static String describe(StartupTimeline.TimelineEvent timelineEvent) {
+    StartupStep step = timelineEvent.getStartupStep();
+    String tags =
+        StreamSupport.stream(step.getTags().spliterator(), false)
+            .map(tag -> tag.getKey() + "=" + tag.getValue())
+            .collect(Collectors.joining(", "));
+    Duration duration = timelineEvent.getDuration();
+    return String.format(
+        "%6d ms  %s%s", duration.toMillis(), step.getName(), tags.isEmpty() ? "" : " [" + tags + "]");
+  }
+}
@@ -0,0 +1,102 @@
+package com.sgivu.vehicle.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límite de tasa por cliente con un balde de fichas: cada cliente dispone de {@code
+ * vehicle.rate-limit.capacity} fichas, que se reponen a razón de {@code
+ * vehicle.rate-limit.refill-per-second} por segundo, y cada petición consume las fichas de su
+ * costo. Permite ráfagas cortas y limita el consumo sostenido de cada cliente sin afectar a los
+ * demás.
+ *
+ * <p>Cada servicio interno ({@link ClientIdentity}) tiene su propio balde, dimensionado aparte con
+ * {@code vehicle.rate-limit.service-capacity} y {@code service-refill-per-second}: atiende a
+ * muchos usuarios a la vez y no debe quedarse con el límite de uno solo.
+ *
+ * <p>Los baldes viven en memoria de cada instancia: con varias réplicas el límite efectivo es el
+ * configurado por el número de réplicas que reciben tráfico del cliente.
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+  private final Limits userLimits;
+  private final Limits serviceLimits;
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  public TokenBucketRateLimiter(
+      @Value("${vehicle.rate-limit.capacity:200}") int capacity,
+      @Value("${vehicle.rate-limit.refill-per-second:50}") int refillPerSecond,
+      @Value("${vehicle.rate-limit.service-capacity:1000}") int serviceCapacity,
+      @Value("${vehicle.rate-limit.service-refill-per-second:250}") int serviceRefillPerSecond) {
+    this.userLimits = new Limits(capacity, refillPerSecond);
+    this.serviceLimits = new Limits(serviceCapacity, serviceRefillPerSecond);
+  }
+
+  /**
+   * Consume las fichas de una petición.
+   *
+   * @return {@code 0} si se aceptó; si no, los nanosegundos hasta que el cliente tenga fichas
+   *     suficientes.
+   */
+  public long tryConsume(String client, int cost) {
+    return tryConsume(client, cost, System.nanoTime());
+  }
+
+  long tryConsume(String client, int cost, long now) {
+    Limits limits = ClientIdentity.isService(client) ? serviceLimits : userLimits;
+    // Un costo mayor que el balde nunca se podría pagar: se cobra el balde completo.
+    double tokens = Math.min(cost, limits.capacity());
+    return buckets.computeIfAbsent(client, k -> new Bucket(limits, now)).tryConsume(tokens, now);
+  }
+
+  /** Un balde sin uso durante el tiempo que tarda en llenarse equivale a uno nuevo: se descarta. */
+  @Scheduled(
+      initialDelayString = "${vehicle.rate-limit.cleanup-interval:PT1M}",
+      fixedDelayString = "${vehicle.rate-limit.cleanup-interval:PT1M}")
+  public void evictIdleBuckets() {
+    long now = System.nanoTime();
+    buckets.values().removeIf(bucket -> bucket.full(now));
+  }
+
+  private record Limits(double capacity, double refillPerNano, long nanosToFull) {
+
+    private Limits(int capacity, int refillPerSecond) {
+      this(
+          capacity,
+          refillPerSecond / (double) TimeUnit.SECONDS.toNanos(1),
+          (long) Math.ceil(capacity * (double) TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+    }
+  }
+
+  private static final class Bucket {
+
+    private final Limits limits;
+    private double tokens;
+    private long lastRefill;
+
+    private Bucket(Limits limits, long now) {
+      this.limits = limits;
+      this.tokens = limits.capacity();
+      this.lastRefill = now;
+    }
+
+    synchronized long tryConsume(double cost, long now) {
+      tokens = Math.min(limits.capacity(), tokens + (now - lastRefill) * limits.refillPerNano());
+      lastRefill = now;
+      if (tokens >= cost) {
+        tokens -= cost;
+        return 0;
+      }
+      return (long) Math.ceil((cost - tokens) / limits.refillPerNano());
+    }
+
+    synchronized boolean full(long now) {
+      return now - lastRefill >= limits.nanosToFull();
+    }
+  }
+}
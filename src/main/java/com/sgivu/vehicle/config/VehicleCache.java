@@ -0,0 +1,127 @@
+package com.sgivu.vehicle.config;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caché de segundo nivel de Hibernate: entidades {@code Vehicle} y resultados de listados y
+ * búsquedas, en las regiones de {@code ehcache.xml}. Se activa con {@code vehicle.cache.enabled}.
+ *
+ * <p>Las escrituras hechas con Hibernate (todas las de los servicios) actualizan la entidad en
+ * caché e invalidan solas las consultas guardadas sobre las tablas que modifican. Las escrituras
+ * que no pasan por Hibernate, como la importación con {@code COPY}, deben llamar a {@link
+ * #evictQueryResults()} al confirmar.
+ */
+@Component
+public class VehicleCache {
+
+  /** Entidades {@code Car} y {@code Motorcycle} (región de la raíz de la herencia). */
+  public static final String VEHICLES = "vehicles";
+
+  /** Consultas sobre las entidades; guardan solo los identificadores. */
+  public static final String VEHICLE_QUERIES = "vehicle-queries";
+
+  /** Consultas sobre el modelo de lectura {@code vehicle_read}. */
+  public static final String READ_MODEL_QUERIES = "vehicle-read-queries";
+
+  /** Identificadores de la búsqueda de texto libre. */
+  public static final String SEARCH_QUERIES = "vehicle-search";
+
+  private static final List<String> REGIONS =
+      List.of(VEHICLES, VEHICLE_QUERIES, READ_MODEL_QUERIES, SEARCH_QUERIES);
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final boolean enabled;
+
+  public VehicleCache(
+      EntityManagerFactory entityManagerFactory,
+      @Value("${vehicle.cache.enabled:false}") boolean enabled) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Descarta todas las consultas guardadas; las entidades en caché se conservan. */
+  public void evictQueryResults() {
+    if (enabled) {
+      entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+    }
+  }
+
+  /**
+   * Descarta, al confirmar la transacción en curso (o de inmediato si no hay una), los vehículos
+   * indicados y todas las consultas guardadas. Para escrituras hechas con SQL directo que borran o
+   * modifican vehículos: descartar antes de confirmar dejaría que una lectura concurrente volviera
+   * a guardar los datos anteriores.
+   */
+  public void evictAfterCommit(Collection<Long> vehicleIds) {
+    if (!enabled || vehicleIds.isEmpty()) {
+      return;
+    }
+    List<Long> ids = List.copyOf(vehicleIds);
+    Runnable evict =
+        () -> {
+          Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+          ids.forEach(id -> cache.evictEntityData(Vehicle.class, id));
+          cache.evictQueryRegions();
+        };
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evict.run();
+          }
+        });
+  }
+
+  /** Aciertos, fallos e inserciones acumulados por región desde el arranque. */
+  public Map<String, RegionStatistics> regionStatistics() {
+    Map<String, RegionStatistics> regions = new LinkedHashMap<>();
+    if (!enabled) {
+      return regions;
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    for (String region : REGIONS) {
+      // Las regiones de consultas se crean con su primer uso.
+      CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+      regions.put(
+          region,
+          stats == null
+              ? RegionStatistics.of(0, 0, 0)
+              : RegionStatistics.of(
+                  stats.getHitCount(), stats.getMissCount(), stats.getPutCount()));
+    }
+    return regions;
+  }
+
+  /**
+   * @param hitRatio proporción de lecturas resueltas por la caché, o {@code 0} si la región no se
+   *     ha leído.
+   */
+  public record RegionStatistics(long hits, long misses, long puts, double hitRatio) {
+
+    static RegionStatistics of(long hits, long misses, long puts) {
+      long requests = hits + misses;
+      return new RegionStatistics(hits, misses, puts, requests == 0 ? 0 : (double) hits / requests);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
+
+/** Validación de las eliminaciones masivas de autos y motos. */
+final class BulkDeleteRequests {
+
+  static final int MAX_IDS = 10_000;
+
+  private BulkDeleteRequests() {}
+
+  /**
+   * Una petición válida trae ids (entre 1 y {@value #MAX_IDS}, sin nulos) o al menos un filtro,
+   * pero no ambos: un cuerpo vacío nunca elimina todo el inventario.
+   */
+  static boolean isValid(BulkDeleteRequest request) {
+    if (request.getIds() != null) {
+      return !request.getIds().isEmpty()
+          && request.getIds().size() <= MAX_IDS
+          && !request.getIds().contains(null)
+          && !hasFilter(request);
+    }
+    return hasFilter(request);
+  }
+
+  private static boolean hasFilter(BulkDeleteRequest request) {
+    return request.getStatus() != null
+        || request.getBrand() != null
+        || request.getModel() != null
+        || request.getLine() != null
+        || request.getCityRegistered() != null
+        || request.getUpdatedBefore() != null;
+  }
+}
@@ -1,10 +1,22 @@
 package com.sgivu.vehicle.controller;
 
+import com.sgivu.vehicle.dto.BulkDeleteReport;
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
 import com.sgivu.vehicle.dto.CarResponse;
+import com.sgivu.vehicle.dto.ImportReport;
+import com.sgivu.vehicle.dto.ScrollResponse;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
 import com.sgivu.vehicle.mapper.VehicleMapper;
 import com.sgivu.vehicle.service.CarService;
+import com.sgivu.vehicle.service.PhotoService;
+import com.sgivu.vehicle.service.VehicleArchiveService;
+import com.sgivu.vehicle.service.VehicleHistoryService;
+import com.sgivu.vehicle.service.VehicleImportService;
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -15,7 +27,9 @@ import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.StringUtils;
@@ -35,12 +49,29 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/v1/cars")
 public class CarController {
 
+  /** Encabezado de las respuestas con un vehículo archivado. */
+  static final String ARCHIVED_HEADER = "Vehicle-Archived";
+
   private final CarService carService;
   private final VehicleMapper vehicleMapper;
+  private final VehicleImportService vehicleImportService;
+  private final PhotoService photoService;
+  private final VehicleHistoryService vehicleHistoryService;
+  private final VehicleArchiveService vehicleArchiveService;
 
-  public CarController(CarService carService, VehicleMapper vehicleMapper) {
+  public CarController(
+      CarService carService,
+      VehicleMapper vehicleMapper,
+      VehicleImportService vehicleImportService,
+      PhotoService photoService,
+      VehicleHistoryService vehicleHistoryService,
+      VehicleArchiveService vehicleArchiveService) {
     this.carService = carService;
     this.vehicleMapper = vehicleMapper;
+    this.vehicleImportService = vehicleImportService;
+    this.photoService = photoService;
+    this.vehicleHistoryService = vehicleHistoryService;
+    this.vehicleArchiveService = vehicleArchiveService;
   }
 
   @PostMapping
@@ -53,13 +84,41 @@ public class CarController {
     return ResponseEntity.status(HttpStatus.CREATED).body(carResponse);
   }
 
+  /**
+   * Importa autos desde un CSV con encabezado (nombres de campo de la API). El cuerpo se procesa en
+   * streaming y se inserta por lotes; las filas inválidas o repetidas se informan en el resultado.
+   */
+  @PostMapping(
+      path = "/import",
+      consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  @PreAuthorize("hasAuthority('car:create')")
+  public ResponseEntity<ImportReport> importCsv(InputStream csv) throws IOException {
+    return ResponseEntity.ok(vehicleImportService.importCsv(VehicleType.CAR, csv));
+  }
+
+  /**
+   * Solo busca en el inventario activo; con {@code includeArchived=true} también en el archivo
+   * (eliminados y vendidos o inactivos archivados), y marca esas respuestas con el encabezado
+   * {@value #ARCHIVED_HEADER}. Junto con {@code /count}, es la única consulta que llega al archivo:
+   * listados, páginas y búsquedas muestran solo el inventario activo.
+   */
   @GetMapping("/{id}")
   @PreAuthorize("hasAuthority('car:read')")
-  public ResponseEntity<CarResponse> getById(@PathVariable Long id) {
-    return carService
-        .findById(id)
-        .map(car -> ResponseEntity.ok(vehicleMapper.toCarResponse(car)))
-        .orElse(ResponseEntity.notFound().build());
+  public ResponseEntity<CarResponse> getById(
+      @PathVariable Long id, @RequestParam(defaultValue = "false") boolean includeArchived) {
+    Optional<Car> active = carService.findById(id);
+    if (active.isPresent()) {
+      return ResponseEntity.ok(vehicleMapper.toCarResponse(active.get()));
+    }
+    if (includeArchived) {
+      Optional<Car> archived = carService.findArchivedById(id);
+      if (archived.isPresent()) {
+        return ResponseEntity.ok()
+            .header(ARCHIVED_HEADER, "true")
+            .body(vehicleMapper.toCarResponse(archived.get()));
+      }
+    }
+    return ResponseEntity.notFound().build();
   }
 
   @GetMapping
@@ -77,6 +136,26 @@ public class CarController {
         carService.findAll(PageRequest.of(page, 10)).map(vehicleMapper::toCarResponse));
   }
 
+  /**
+   * Lista por keyset los vehículos en un estado, del más al menos recientemente actualizado. Usa el
+   * índice {@code (status, updated_at, id)}, por lo que el costo no crece con la página solicitada.
+   */
+  @GetMapping("/status/{status}")
+  @PreAuthorize("hasAuthority('car:read')")
+  public ResponseEntity<ScrollResponse<CarResponse>> getByStatus(
+      @PathVariable VehicleStatus status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    Optional<ScrollPosition> position = KeysetCursors.decode(cursor);
+    if (position.isEmpty()) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(
+        KeysetCursors.toResponse(
+            carService.findByStatus(status, position.get(), KeysetCursors.size(size)),
+            vehicleMapper::toCarResponse));
+  }
+
   @PutMapping("/{id}")
   @PreAuthorize("hasAuthority('car:update')")
   public ResponseEntity<CarResponse> update(
@@ -93,16 +172,55 @@ public class CarController {
   @DeleteMapping("/{id}")
   @PreAuthorize("hasAuthority('car:delete')")
   public ResponseEntity<Void> deleteById(@PathVariable Long id) {
-    Optional<Car> carOptional = carService.findById(id);
-
-    if (carOptional.isPresent()) {
-      carService.deleteById(id);
+    if (carService.deleteById(id)) {
       return ResponseEntity.noContent().build();
     }
-
     return ResponseEntity.notFound().build();
   }
 
+  /**
+   * Elimina (archiva) por lista de ids o por filtro en bloques de una transacción cada uno, sin
+   * cargar los vehículos; ver {@link VehicleArchiveService#deleteAll}.
+   */
+  @PostMapping("/bulk-delete")
+  @PreAuthorize("hasAuthority('car:delete')")
+  public ResponseEntity<BulkDeleteReport> bulkDelete(@RequestBody BulkDeleteRequest request) {
+    if (!BulkDeleteRequests.isValid(request)) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(vehicleArchiveService.deleteAll(VehicleType.CAR, request));
+  }
+
+  /**
+   * Guarda la foto (JPEG o PNG, cuerpo binario) y la asigna al auto; su {@code photoUrl} pasa a
+   * apuntar a {@code /v1/vehicles/photos}.
+   */
+  @PutMapping(
+      path = "/{id}/photo",
+      consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+  @PreAuthorize("hasAuthority('car:update')")
+  public ResponseEntity<CarResponse> uploadPhoto(@PathVariable Long id, InputStream image)
+      throws IOException {
+    if (carService.findById(id).isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    String photoUrl = photoService.store(image);
+    return carService
+        .changePhoto(id, photoUrl)
+        .map(updated -> ResponseEntity.ok(vehicleMapper.toCarResponse(updated)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Cambios del auto en orden cronológico, con los días que duró cada estado. El historial se
+   * conserva tras eliminar el vehículo.
+   */
+  @GetMapping("/{id}/history")
+  @PreAuthorize("hasAuthority('car:read')")
+  public ResponseEntity<List<VehicleHistoryEntry>> getHistory(@PathVariable Long id) {
+    return ResponseEntity.ok(vehicleHistoryService.findTimeline(id, VehicleType.CAR));
+  }
+
   @PatchMapping("/{id}/status")
   @PreAuthorize("hasAuthority('car:update')")
   public ResponseEntity<Map<String, String>> changeStatus(
@@ -113,16 +231,22 @@ public class CarController {
     return ResponseEntity.notFound().build();
   }
 
+  /** Con {@code includeArchived=true} el total incluye los archivados, que se informan aparte. */
   @GetMapping("/count")
   @PreAuthorize("hasAuthority('car:read')")
-  public ResponseEntity<Map<String, Long>> getCarCounts() {
-    long totalCars = carService.findAll().size();
+  public ResponseEntity<Map<String, Long>> getCarCounts(
+      @RequestParam(defaultValue = "false") boolean includeArchived) {
+    long archivedCars = includeArchived ? carService.countArchived() : 0;
+    long totalCars = carService.count() + archivedCars;
     long availableCars = carService.countByStatus(VehicleStatus.AVAILABLE);
     long unavailableCars = totalCars - availableCars;
 
     Map<String, Long> counts = new HashMap<>(Map.of("totalCars", totalCars));
     counts.put("availableCars", availableCars);
     counts.put("unavailableCars", unavailableCars);
+    if (includeArchived) {
+      counts.put("archivedCars", archivedCars);
+    }
 
     return ResponseEntity.ok(counts);
   }
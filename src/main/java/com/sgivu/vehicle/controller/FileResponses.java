@@ -0,0 +1,137 @@
+package com.sgivu.vehicle.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * Envío de archivos locales con {@code ETag}, {@code Cache-Control} y un rango de bytes ({@code
+ * Range: bytes=inicio-fin}).
+ *
+ * <p>Con Tomcat el cuerpo se envía con sendfile: al terminar la petición el conector copia el
+ * archivo al socket con {@code FileChannel.transferTo}, sin pasar por la memoria de la JVM ni
+ * ocupar el hilo de la petición. Sin sendfile (otro contenedor, MockMvc) se usa {@code transferTo}
+ * hacia el flujo de salida. Varios rangos en un mismo {@code Range} no se soportan y se responde el
+ * archivo completo, como permite RFC 9110.
+ */
+final class FileResponses {
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private static final Pattern BYTE_RANGE = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
+
+  private FileResponses() {}
+
+  static void send(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Path file,
+      MediaType contentType,
+      String etag,
+      String cacheControl)
+      throws IOException {
+    long size = Files.size(file);
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    long start = 0;
+    long end = size - 1;
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    ByteRange range = byteRange(request.getHeader(HttpHeaders.RANGE), size);
+    if (range != null && (ifRange == null || ifRange.equals(etag))) {
+      if (range.start() >= size) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        return;
+      }
+      start = range.start();
+      end = range.end();
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+    }
+
+    response.setContentType(contentType.toString());
+    response.setContentLengthLong(end - start + 1);
+    if (HttpMethod.HEAD.matches(request.getMethod())) {
+      return;
+    }
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end + 1);
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(file)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      while (position <= end) {
+        long sent = channel.transferTo(position, end + 1 - position, out);
+        if (sent <= 0) {
+          break;
+        }
+        position += sent;
+      }
+    }
+  }
+
+  /**
+   * Rango de {@code Range}, o {@code null} si no hay uno válido y se responde el archivo completo.
+   * {@code bytes=-n} son los últimos {@code n} bytes.
+   */
+  private static ByteRange byteRange(String header, long size) {
+    Matcher matcher = header == null ? null : BYTE_RANGE.matcher(header.trim());
+    if (matcher == null || !matcher.matches()) {
+      return null;
+    }
+    String first = matcher.group(1);
+    String last = matcher.group(2);
+    if (first.isEmpty()) {
+      return last.isEmpty()
+          ? null
+          : new ByteRange(size - Math.min(Long.parseLong(last), size), size - 1);
+    }
+    long start = Long.parseLong(first);
+    if (last.isEmpty()) {
+      return new ByteRange(start, size - 1);
+    }
+    long end = Long.parseLong(last);
+    return end < start ? null : new ByteRange(start, Math.min(end, size - 1));
+  }
+
+  /** {@code If-None-Match} con la etiqueta (o {@code *}); las etiquetas débiles también valen. */
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record ByteRange(long start, long end) {}
+}
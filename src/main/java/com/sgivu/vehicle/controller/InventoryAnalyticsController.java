@@ -0,0 +1,95 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.AgeBucketReport;
+import com.sgivu.vehicle.dto.InventoryGroup;
+import com.sgivu.vehicle.enums.InventoryDimension;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.exception.ErrorReporter;
+import com.sgivu.vehicle.exception.ErrorType;
+import com.sgivu.vehicle.service.InventoryAnalyticsService;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Indicadores del inventario para tableros: valor, margen y antigüedad agregados en el servidor, en
+ * lugar de descargar los vehículos para calcularlos en el cliente. Sin {@code type} incluye autos y
+ * motos y requiere ambos permisos de lectura.
+ */
+@RestController
+@RequestMapping("/v1/vehicles/analytics")
+public class InventoryAnalyticsController {
+
+  private static final String READ_PERMISSION =
+      "#type == null ? hasAuthority('car:read') and hasAuthority('motorcycle:read')"
+          + " : hasAuthority(#type.name().toLowerCase() + ':read')";
+
+  private final InventoryAnalyticsService analyticsService;
+  private final ErrorReporter errorReporter;
+
+  public InventoryAnalyticsController(
+      InventoryAnalyticsService analyticsService, ErrorReporter errorReporter) {
+    this.analyticsService = analyticsService;
+    this.errorReporter = errorReporter;
+  }
+
+  @GetMapping("/inventory")
+  @PreAuthorize(READ_PERMISSION)
+  public ResponseEntity<List<InventoryGroup>> inventory(
+      @RequestParam(defaultValue = "brand") String groupBy,
+      @RequestParam(required = false) VehicleType type,
+      @RequestParam(required = false) VehicleStatus status,
+      @RequestParam(required = false) String brand,
+      @RequestParam(required = false) String city) {
+    Optional<InventoryDimension> dimension = InventoryDimension.fromParameter(groupBy);
+    if (dimension.isEmpty()) {
+      ProblemDetail problem =
+          errorReporter.report(ErrorType.INVALID_REQUEST, "groupBy inválido: " + groupBy);
+      problem.setDetail("groupBy debe ser type, brand, city o status.");
+      return ResponseEntity.of(problem).build();
+    }
+    return ResponseEntity.ok(
+        analyticsService.summarize(dimension.get(), filters(type, status, brand, city)));
+  }
+
+  /**
+   * Vehículos por días desde el alta; se recalcula cada {@code vehicle.analytics.refresh-interval}.
+   */
+  @GetMapping("/age-buckets")
+  @PreAuthorize(READ_PERMISSION)
+  public ResponseEntity<AgeBucketReport> ageBuckets(
+      @RequestParam(required = false) VehicleType type,
+      @RequestParam(required = false) VehicleStatus status,
+      @RequestParam(required = false) String brand,
+      @RequestParam(required = false) String city) {
+    return ResponseEntity.ok(analyticsService.ageBuckets(filters(type, status, brand, city)));
+  }
+
+  private static Map<InventoryDimension, String> filters(
+      VehicleType type, VehicleStatus status, String brand, String city) {
+    Map<InventoryDimension, String> filters = new EnumMap<>(InventoryDimension.class);
+    if (type != null) {
+      filters.put(InventoryDimension.TYPE, type.name());
+    }
+    if (status != null) {
+      filters.put(InventoryDimension.STATUS, status.name());
+    }
+    if (StringUtils.hasText(brand)) {
+      filters.put(InventoryDimension.BRAND, brand.trim());
+    }
+    if (StringUtils.hasText(city)) {
+      filters.put(InventoryDimension.CITY, city.trim());
+    }
+    return filters;
+  }
+}
@@ -0,0 +1,145 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.JobResponse;
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.JobType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.mapper.VehicleJobMapper;
+import com.sgivu.vehicle.service.VehicleJobService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Importaciones y exportaciones masivas en segundo plano. El envío responde {@code 202 Accepted}
+ * con la ubicación del trabajo, que se consulta hasta que termine.
+ */
+@RestController
+@RequestMapping("/v1/jobs")
+public class JobController {
+
+  private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+  private final VehicleJobService vehicleJobService;
+  private final VehicleJobMapper vehicleJobMapper;
+
+  public JobController(VehicleJobService vehicleJobService, VehicleJobMapper vehicleJobMapper) {
+    this.vehicleJobService = vehicleJobService;
+    this.vehicleJobMapper = vehicleJobMapper;
+  }
+
+  @PostMapping(
+      path = "/import",
+      consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  @PreAuthorize("hasAuthority(#type.name().toLowerCase() + ':create')")
+  public ResponseEntity<JobResponse> submitImport(
+      @RequestParam VehicleType type, InputStream csv, Authentication authentication)
+      throws IOException {
+    return accepted(vehicleJobService.submitImport(type, csv, authentication.getName()));
+  }
+
+  @PostMapping("/export")
+  @PreAuthorize("hasAuthority(#type.name().toLowerCase() + ':read')")
+  public ResponseEntity<JobResponse> submitExport(
+      @RequestParam VehicleType type,
+      @RequestParam(required = false) VehicleStatus status,
+      Authentication authentication) {
+    return accepted(vehicleJobService.submitExport(type, status, authentication.getName()));
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<JobResponse> getById(
+      @PathVariable Long id, Authentication authentication) {
+    return vehicleJobService
+        .findById(id)
+        .map(job -> authorize(job, authentication))
+        .map(job -> ResponseEntity.ok(vehicleJobMapper.toJobResponse(job)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  @PostMapping("/{id}/cancel")
+  public ResponseEntity<JobResponse> cancel(@PathVariable Long id, Authentication authentication) {
+    Optional<VehicleJob> job = vehicleJobService.findById(id);
+    if (job.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    authorize(job.get(), authentication);
+    return vehicleJobService
+        .cancel(id)
+        .map(cancelled -> ResponseEntity.ok(vehicleJobMapper.toJobResponse(cancelled)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /** Descarga el resultado: el CSV de una exportación o el reporte JSON de una importación. */
+  @GetMapping("/{id}/result")
+  public ResponseEntity<Resource> getResult(@PathVariable Long id, Authentication authentication) {
+    Optional<VehicleJob> job = vehicleJobService.findById(id);
+    if (job.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    authorize(job.get(), authentication);
+    Optional<Path> result = vehicleJobService.findResult(job.get());
+    if (result.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+
+    boolean export = job.get().getJobType() == JobType.EXPORT;
+    String fileName =
+        job.get().getVehicleType().name().toLowerCase(Locale.ROOT)
+            + "-"
+            + job.get().getJobType().name().toLowerCase(Locale.ROOT)
+            + "-"
+            + id
+            + (export ? ".csv" : ".json");
+    return ResponseEntity.ok()
+        .contentType(export ? TEXT_CSV : MediaType.APPLICATION_JSON)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName).build().toString())
+        .body(new FileSystemResource(result.get()));
+  }
+
+  private ResponseEntity<JobResponse> accepted(VehicleJob job) {
+    return ResponseEntity.accepted()
+        .location(URI.create("/v1/jobs/" + job.getId()))
+        .body(vehicleJobMapper.toJobResponse(job));
+  }
+
+  /**
+   * Un trabajo solo es visible con el mismo permiso con el que se creó: {@code <tipo>:create} para
+   * importaciones y {@code <tipo>:read} para exportaciones.
+   */
+  private static VehicleJob authorize(VehicleJob job, Authentication authentication) {
+    String required =
+        job.getVehicleType().name().toLowerCase(Locale.ROOT)
+            + (job.getJobType() == JobType.IMPORT ? ":create" : ":read");
+    boolean granted =
+        authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .anyMatch(required::equals);
+    if (!granted) {
+      throw new AuthorizationDeniedException("Permisos insuficientes");
+    }
+    return job;
+  }
+}
@@ -0,0 +1,65 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.ScrollResponse;
+import com.sgivu.vehicle.entity.Vehicle;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.util.StringUtils;
+
+/**
+ * Codifica la posición de un listado por keyset ({@code updatedAt}, {@code id}) como un cursor
+ * opaco para los clientes.
+ */
+final class KeysetCursors {
+
+  static final int DEFAULT_SIZE = 20;
+  static final int MAX_SIZE = 100;
+
+  private static final String UPDATED_AT = "updatedAt";
+  private static final String ID = "id";
+
+  private KeysetCursors() {}
+
+  /**
+   * @return la posición inicial si {@code cursor} está vacío, o vacío si el cursor es inválido.
+   */
+  static Optional<ScrollPosition> decode(String cursor) {
+    if (!StringUtils.hasText(cursor)) {
+      return Optional.of(ScrollPosition.keyset());
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.lastIndexOf('|');
+      LocalDateTime updatedAt = LocalDateTime.parse(decoded.substring(0, separator));
+      Long id = Long.valueOf(decoded.substring(separator + 1));
+      return Optional.of(ScrollPosition.forward(Map.of(UPDATED_AT, updatedAt, ID, id)));
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+      return Optional.empty();
+    }
+  }
+
+  static <T extends Vehicle, R> ScrollResponse<R> toResponse(
+      Window<T> window, Function<T, R> mapper) {
+    String nextCursor = null;
+    if (window.hasNext() && !window.isEmpty()) {
+      T last = window.getContent().get(window.size() - 1);
+      String raw = last.getUpdatedAt() + "|" + last.getId();
+      nextCursor =
+          Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    return new ScrollResponse<>(window.getContent().stream().map(mapper).toList(), nextCursor);
+  }
+
+  static int size(Integer requested) {
+    return requested == null || requested < 1 ? DEFAULT_SIZE : Math.min(requested, MAX_SIZE);
+  }
+}
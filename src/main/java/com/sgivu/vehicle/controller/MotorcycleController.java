@@ -1,20 +1,35 @@
 package com.sgivu.vehicle.controller;
 
+import com.sgivu.vehicle.dto.BulkDeleteReport;
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
+import com.sgivu.vehicle.dto.ImportReport;
 import com.sgivu.vehicle.dto.MotorcycleResponse;
+import com.sgivu.vehicle.dto.ScrollResponse;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
 import com.sgivu.vehicle.entity.Motorcycle;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
 import com.sgivu.vehicle.mapper.VehicleMapper;
 import com.sgivu.vehicle.service.MotorcycleService;
+import com.sgivu.vehicle.service.PhotoService;
+import com.sgivu.vehicle.service.VehicleArchiveService;
+import com.sgivu.vehicle.service.VehicleHistoryService;
+import com.sgivu.vehicle.service.VehicleImportService;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.StringUtils;
@@ -34,12 +49,29 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/v1/motorcycles")
 public class MotorcycleController {
 
+  /** Encabezado de las respuestas con un vehículo archivado. */
+  static final String ARCHIVED_HEADER = "Vehicle-Archived";
+
   private final MotorcycleService motorcycleService;
   private final VehicleMapper vehicleMapper;
+  private final VehicleImportService vehicleImportService;
+  private final PhotoService photoService;
+  private final VehicleHistoryService vehicleHistoryService;
+  private final VehicleArchiveService vehicleArchiveService;
 
-  public MotorcycleController(MotorcycleService motorcycleService, VehicleMapper vehicleMapper) {
+  public MotorcycleController(
+      MotorcycleService motorcycleService,
+      VehicleMapper vehicleMapper,
+      VehicleImportService vehicleImportService,
+      PhotoService photoService,
+      VehicleHistoryService vehicleHistoryService,
+      VehicleArchiveService vehicleArchiveService) {
     this.motorcycleService = motorcycleService;
     this.vehicleMapper = vehicleMapper;
+    this.vehicleImportService = vehicleImportService;
+    this.photoService = photoService;
+    this.vehicleHistoryService = vehicleHistoryService;
+    this.vehicleArchiveService = vehicleArchiveService;
   }
 
   @PostMapping
@@ -54,14 +86,42 @@ public class MotorcycleController {
     return ResponseEntity.status(HttpStatus.CREATED).body(motorcycleResponse);
   }
 
+  /**
+   * Importa motocicletas desde un CSV con encabezado (nombres de campo de la API). El cuerpo se
+   * procesa en streaming y se inserta por lotes; las filas inválidas o repetidas se informan en el
+   * resultado.
+   */
+  @PostMapping(
+      path = "/import",
+      consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  @PreAuthorize("hasAuthority('motorcycle:create')")
+  public ResponseEntity<ImportReport> importCsv(InputStream csv) throws IOException {
+    return ResponseEntity.ok(vehicleImportService.importCsv(VehicleType.MOTORCYCLE, csv));
+  }
+
+  /**
+   * Solo busca en el inventario activo; con {@code includeArchived=true} también en el archivo
+   * (eliminados y vendidos o inactivos archivados), y marca esas respuestas con el encabezado
+   * {@value #ARCHIVED_HEADER}. Junto con {@code /count}, es la única consulta que llega al archivo:
+   * listados, páginas y búsquedas muestran solo el inventario activo.
+   */
   @GetMapping("/{id}")
   @PreAuthorize("hasAuthority('motorcycle:read')")
-  public ResponseEntity<MotorcycleResponse> getById(@PathVariable Long id) {
-    return motorcycleService
-        .findById(id)
-        .map(vehicleMapper::toMotorcycleResponse)
-        .map(ResponseEntity::ok)
-        .orElse(ResponseEntity.notFound().build());
+  public ResponseEntity<MotorcycleResponse> getById(
+      @PathVariable Long id, @RequestParam(defaultValue = "false") boolean includeArchived) {
+    Optional<Motorcycle> active = motorcycleService.findById(id);
+    if (active.isPresent()) {
+      return ResponseEntity.ok(vehicleMapper.toMotorcycleResponse(active.get()));
+    }
+    if (includeArchived) {
+      Optional<Motorcycle> archived = motorcycleService.findArchivedById(id);
+      if (archived.isPresent()) {
+        return ResponseEntity.ok()
+            .header(ARCHIVED_HEADER, "true")
+            .body(vehicleMapper.toMotorcycleResponse(archived.get()));
+      }
+    }
+    return ResponseEntity.notFound().build();
   }
 
   @GetMapping
@@ -80,6 +140,26 @@ public class MotorcycleController {
             .map(vehicleMapper::toMotorcycleResponse));
   }
 
+  /**
+   * Lista por keyset los vehículos en un estado, del más al menos recientemente actualizado. Usa el
+   * índice {@code (status, updated_at, id)}, por lo que el costo no crece con la página solicitada.
+   */
+  @GetMapping("/status/{status}")
+  @PreAuthorize("hasAuthority('motorcycle:read')")
+  public ResponseEntity<ScrollResponse<MotorcycleResponse>> getByStatus(
+      @PathVariable VehicleStatus status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    Optional<ScrollPosition> position = KeysetCursors.decode(cursor);
+    if (position.isEmpty()) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(
+        KeysetCursors.toResponse(
+            motorcycleService.findByStatus(status, position.get(), KeysetCursors.size(size)),
+            vehicleMapper::toMotorcycleResponse));
+  }
+
   @PutMapping("/{id}")
   @PreAuthorize("hasAuthority('motorcycle:update')")
   public ResponseEntity<MotorcycleResponse> update(
@@ -98,13 +178,55 @@ public class MotorcycleController {
   @DeleteMapping("/{id}")
   @PreAuthorize("hasAuthority('motorcycle:delete')")
   public ResponseEntity<Void> deleteById(@PathVariable Long id) {
-    if (motorcycleService.findById(id).isPresent()) {
-      motorcycleService.deleteById(id);
+    if (motorcycleService.deleteById(id)) {
       return ResponseEntity.noContent().build();
     }
     return ResponseEntity.notFound().build();
   }
 
+  /**
+   * Elimina (archiva) por lista de ids o por filtro en bloques de una transacción cada uno, sin
+   * cargar los vehículos; ver {@link VehicleArchiveService#deleteAll}.
+   */
+  @PostMapping("/bulk-delete")
+  @PreAuthorize("hasAuthority('motorcycle:delete')")
+  public ResponseEntity<BulkDeleteReport> bulkDelete(@RequestBody BulkDeleteRequest request) {
+    if (!BulkDeleteRequests.isValid(request)) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(vehicleArchiveService.deleteAll(VehicleType.MOTORCYCLE, request));
+  }
+
+  /**
+   * Guarda la foto (JPEG o PNG, cuerpo binario) y la asigna a la motocicleta; su {@code photoUrl}
+   * pasa a apuntar a {@code /v1/vehicles/photos}.
+   */
+  @PutMapping(
+      path = "/{id}/photo",
+      consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+  @PreAuthorize("hasAuthority('motorcycle:update')")
+  public ResponseEntity<MotorcycleResponse> uploadPhoto(@PathVariable Long id, InputStream image)
+      throws IOException {
+    if (motorcycleService.findById(id).isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    String photoUrl = photoService.store(image);
+    return motorcycleService
+        .changePhoto(id, photoUrl)
+        .map(updated -> ResponseEntity.ok(vehicleMapper.toMotorcycleResponse(updated)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Cambios de la moto en orden cronológico, con los días que duró cada estado. El historial se
+   * conserva tras eliminar el vehículo.
+   */
+  @GetMapping("/{id}/history")
+  @PreAuthorize("hasAuthority('motorcycle:read')")
+  public ResponseEntity<List<VehicleHistoryEntry>> getHistory(@PathVariable Long id) {
+    return ResponseEntity.ok(vehicleHistoryService.findTimeline(id, VehicleType.MOTORCYCLE));
+  }
+
   @PatchMapping("/{id}/status")
   @PreAuthorize("hasAuthority('motorcycle:update')")
   public ResponseEntity<Map<String, String>> changeStatus(
@@ -115,16 +237,22 @@ public class MotorcycleController {
     return ResponseEntity.notFound().build();
   }
 
+  /** Con {@code includeArchived=true} el total incluye los archivados, que se informan aparte. */
   @GetMapping("/count")
   @PreAuthorize("hasAuthority('motorcycle:read')")
-  public ResponseEntity<Map<String, Long>> getMotorcycleCounts() {
-    long totalMotorcycles = motorcycleService.findAll().size();
+  public ResponseEntity<Map<String, Long>> getMotorcycleCounts(
+      @RequestParam(defaultValue = "false") boolean includeArchived) {
+    long archivedMotorcycles = includeArchived ? motorcycleService.countArchived() : 0;
+    long totalMotorcycles = motorcycleService.count() + archivedMotorcycles;
     long availableMotorcycles = motorcycleService.countByStatus(VehicleStatus.AVAILABLE);
     long unavailableMotorcycles = totalMotorcycles - availableMotorcycles;
 
     Map<String, Long> counts = new HashMap<>(Map.of("totalMotorcycles", totalMotorcycles));
     counts.put("availableMotorcycles", availableMotorcycles);
     counts.put("unavailableMotorcycles", unavailableMotorcycles);
+    if (includeArchived) {
+      counts.put("archivedMotorcycles", archivedMotorcycles);
+    }
 
     return ResponseEntity.ok(counts);
   }
@@ -0,0 +1,83 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.service.PhotoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Descarga de las fotos guardadas por el servicio. El nombre es el hash del contenido, así que la
+ * respuesta se puede guardar en caché sin vencimiento ({@code immutable}); {@code private} porque
+ * requiere autenticación.
+ */
+@RestController
+@RequestMapping("/v1/vehicles/photos")
+public class PhotoController {
+
+  private static final String IMMUTABLE =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable().getHeaderValue();
+  private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+  private final PhotoService photoService;
+
+  public PhotoController(PhotoService photoService) {
+    this.photoService = photoService;
+  }
+
+  @GetMapping("/{name}")
+  @PreAuthorize("hasAnyAuthority('car:read', 'motorcycle:read')")
+  public void getPhoto(
+      @PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    Path photo = photoService.findPhoto(name).orElseThrow(PhotoController::notFound);
+    FileResponses.send(request, response, photo, contentType(name), etag(name), IMMUTABLE);
+  }
+
+  /**
+   * Miniatura JPEG de una foto. Mientras se genera se responde la foto original sin caché, para
+   * que el cliente vuelva a pedirla.
+   */
+  @GetMapping("/thumbnails/{name}")
+  @PreAuthorize("hasAnyAuthority('car:read', 'motorcycle:read')")
+  public void getThumbnail(
+      @PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    Optional<Path> thumbnail = photoService.findThumbnail(name);
+    if (thumbnail.isPresent()) {
+      FileResponses.send(
+          request,
+          response,
+          thumbnail.get(),
+          MediaType.IMAGE_JPEG,
+          etag(name + "-thumbnail"),
+          IMMUTABLE);
+      return;
+    }
+    Path photo = photoService.findPhoto(name).orElseThrow(PhotoController::notFound);
+    FileResponses.send(request, response, photo, contentType(name), etag(name), REVALIDATE);
+  }
+
+  private static MediaType contentType(String name) {
+    return name.endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+  }
+
+  private static String etag(String value) {
+    return "\"" + value + "\"";
+  }
+
+  private static ResponseStatusException notFound() {
+    return new ResponseStatusException(HttpStatus.NOT_FOUND);
+  }
+}
@@ -0,0 +1,78 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.service.ReactiveVehicleService;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante de solo lectura no bloqueante para el tráfico interno, activa con {@code
+ * vehicle.reactive.enabled=true} (sin ella responde {@code 404}).
+ *
+ * <p>Las consultas van por R2DBC y Spring MVC atiende los {@link Flux} / {@link Mono} en modo
+ * asíncrono: el hilo de Tomcat se libera al devolver el publicador. La escritura en la respuesta
+ * del servlet sigue siendo bloqueante, así que Spring MVC la hace en el {@code
+ * applicationTaskExecutor}, que ocupa un hilo mientras escribe cada lote. El listado se envía como
+ * NDJSON (un vehículo por línea) a medida que el cliente lo consume, sin armar la lista completa en
+ * memoria, y se corta al cumplirse {@code vehicle.reactive.stream-timeout}.
+ */
+@RestController
+@RequestMapping("/v1/vehicles/reactive")
+public class ReactiveVehicleController {
+
+  private static final String READ_PERMISSION =
+      "hasAuthority(#type.name().toLowerCase() + ':read')";
+
+  private final ReactiveVehicleService reactiveVehicleService;
+
+  public ReactiveVehicleController(ReactiveVehicleService reactiveVehicleService) {
+    this.reactiveVehicleService = reactiveVehicleService;
+  }
+
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize(READ_PERMISSION)
+  public ResponseEntity<Flux<VehicleResponse>> stream(
+      @RequestParam VehicleType type, @RequestParam(required = false) VehicleStatus status) {
+    if (!reactiveVehicleService.isEnabled()) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(reactiveVehicleService.findAll(type, status));
+  }
+
+  @GetMapping("/{id}")
+  @PreAuthorize(READ_PERMISSION)
+  public Mono<ResponseEntity<VehicleResponse>> getById(
+      @PathVariable Long id, @RequestParam VehicleType type) {
+    if (!reactiveVehicleService.isEnabled()) {
+      return Mono.just(ResponseEntity.notFound().build());
+    }
+    return reactiveVehicleService
+        .findById(id, type)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  @GetMapping("/count")
+  @PreAuthorize(READ_PERMISSION)
+  public Mono<ResponseEntity<Map<String, Long>>> count(
+      @RequestParam VehicleType type, @RequestParam(required = false) VehicleStatus status) {
+    if (!reactiveVehicleService.isEnabled()) {
+      return Mono.just(ResponseEntity.notFound().build());
+    }
+    return reactiveVehicleService
+        .count(type, status)
+        .map(count -> ResponseEntity.ok(Collections.singletonMap("count", count)));
+  }
+}
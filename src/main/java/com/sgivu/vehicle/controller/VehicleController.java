@@ -0,0 +1,132 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.dto.StatusDurationReport;
+import com.sgivu.vehicle.dto.SuggestionResponse;
+import com.sgivu.vehicle.dto.UniquenessCheckRequest;
+import com.sgivu.vehicle.dto.UniquenessCheckResponse;
+import com.sgivu.vehicle.dto.VehicleIdentifiers;
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.enums.SuggestionField;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.service.VehicleHistoryService;
+import com.sgivu.vehicle.service.VehicleSearchService;
+import com.sgivu.vehicle.service.VehicleSuggestionService;
+import com.sgivu.vehicle.service.VehicleUniquenessService;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Operaciones que abarcan todo el inventario, sin distinguir entre autos y motocicletas. */
+@RestController
+@RequestMapping("/v1/vehicles")
+public class VehicleController {
+
+  private static final int MAX_PAGE_SIZE = 50;
+  private static final int MAX_SUGGESTIONS = 50;
+  private static final int MAX_UNIQUENESS_CANDIDATES = 500;
+  private static final int MAX_REPORT_DAYS = 366;
+
+  private final VehicleSearchService vehicleSearchService;
+  private final VehicleSuggestionService vehicleSuggestionService;
+  private final VehicleUniquenessService vehicleUniquenessService;
+  private final VehicleHistoryService vehicleHistoryService;
+  private final VehicleMapper vehicleMapper;
+
+  public VehicleController(
+      VehicleSearchService vehicleSearchService,
+      VehicleSuggestionService vehicleSuggestionService,
+      VehicleUniquenessService vehicleUniquenessService,
+      VehicleHistoryService vehicleHistoryService,
+      VehicleMapper vehicleMapper) {
+    this.vehicleSearchService = vehicleSearchService;
+    this.vehicleSuggestionService = vehicleSuggestionService;
+    this.vehicleUniquenessService = vehicleUniquenessService;
+    this.vehicleHistoryService = vehicleHistoryService;
+    this.vehicleMapper = vehicleMapper;
+  }
+
+  @GetMapping("/search")
+  @PreAuthorize("hasAuthority('car:read') and hasAuthority('motorcycle:read')")
+  public ResponseEntity<Page<VehicleResponse>> search(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "0") Integer page,
+      @RequestParam(defaultValue = "10") Integer size) {
+    if (!StringUtils.hasText(q) || page < 0 || size < 1) {
+      return ResponseEntity.badRequest().build();
+    }
+    PageRequest pageRequest = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+    return ResponseEntity.ok(
+        vehicleSearchService.search(q, pageRequest).map(vehicleMapper::toVehicleResponse));
+  }
+
+  @GetMapping("/suggestions")
+  @PreAuthorize("hasAuthority('car:read') or hasAuthority('motorcycle:read')")
+  public ResponseEntity<List<SuggestionResponse>> suggest(
+      @RequestParam String field,
+      @RequestParam(defaultValue = "") String prefix,
+      @RequestParam(defaultValue = "10") Integer limit) {
+    Optional<SuggestionField> suggestionField = SuggestionField.fromParameter(field);
+    if (suggestionField.isEmpty() || limit < 1) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(
+        vehicleSuggestionService.suggest(
+            suggestionField.get(), prefix, Math.min(limit, MAX_SUGGESTIONS)));
+  }
+
+  /**
+   * Verifica antes de crear o editar vehículos que placa, número de motor, serie y chasis no estén
+   * en uso, para hasta {@value #MAX_UNIQUENESS_CANDIDATES} candidatos en una sola consulta.
+   */
+  @PostMapping("/uniqueness-check")
+  @PreAuthorize(
+      "hasAuthority('car:create') or hasAuthority('motorcycle:create')"
+          + " or hasAuthority('car:update') or hasAuthority('motorcycle:update')")
+  public ResponseEntity<UniquenessCheckResponse> checkUniqueness(
+      @RequestBody UniquenessCheckRequest request) {
+    List<VehicleIdentifiers> candidates = request.getCandidates();
+    if (candidates == null
+        || candidates.isEmpty()
+        || candidates.size() > MAX_UNIQUENESS_CANDIDATES
+        || candidates.contains(null)) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(
+        new UniquenessCheckResponse(vehicleUniquenessService.check(candidates)));
+  }
+
+  /**
+   * Días que los vehículos pasaron en cada estado entre {@code from} y {@code to} (exclusivo, por
+   * defecto hasta hoy inclusive), calculados sobre las particiones de {@code vehicle_history} del
+   * periodo. Sin {@code type} incluye autos y motos y requiere ambos permisos de lectura.
+   */
+  @GetMapping("/history/status-durations")
+  @PreAuthorize(
+      "#type == null ? hasAuthority('car:read') and hasAuthority('motorcycle:read')"
+          + " : hasAuthority(#type.name().toLowerCase() + ':read')")
+  public ResponseEntity<StatusDurationReport> statusDurations(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) VehicleType type) {
+    LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+    if (!from.isBefore(end) || ChronoUnit.DAYS.between(from, end) > MAX_REPORT_DAYS) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(
+        vehicleHistoryService.statusDurations(from.atStartOfDay(), end.atStartOfDay(), type));
+  }
+}
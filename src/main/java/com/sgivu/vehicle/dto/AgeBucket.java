@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.entity.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vehículos con entre {@code minDays} y {@code maxDays} días desde el alta; {@code maxDays} es
+ * {@code null} en el último tramo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgeBucket {
+  private int minDays;
+  private Integer maxDays;
+  private long vehicles;
+  private Money purchaseValue;
+  private Money saleValue;
+}
@@ -0,0 +1,16 @@
+package com.sgivu.vehicle.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Distribución del inventario por antigüedad, calculada en {@code refreshedAt}. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgeBucketReport {
+  private LocalDateTime refreshedAt;
+  private List<AgeBucket> buckets;
+}
@@ -0,0 +1,20 @@
+package com.sgivu.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una eliminación masiva; cada bloque se confirmó en su propia transacción. {@code
+ * moreRemaining} indica que una eliminación por filtro alcanzó el máximo por petición y puede haber
+ * más vehículos que lo cumplan.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteReport {
+  private long deletedVehicles;
+  private long chunks;
+  private long durationMillis;
+  private boolean moreRemaining;
+}
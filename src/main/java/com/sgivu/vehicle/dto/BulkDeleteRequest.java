@@ -0,0 +1,25 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Eliminación masiva: por lista de {@code ids} o por filtro (valores exactos; {@code updatedBefore}
+ * toma los vehículos sin cambios desde esa fecha), nunca ambos. Un filtro vacío no se acepta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequest {
+  private List<Long> ids;
+  private VehicleStatus status;
+  private String brand;
+  private String model;
+  private String line;
+  private String cityRegistered;
+  private LocalDateTime updatedBefore;
+}
@@ -1,14 +1,29 @@
 package com.sgivu.vehicle.dto;
 
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.enums.VehicleStatus;
 
-@Data
-@NoArgsConstructor
-@EqualsAndHashCode(callSuper = true)
-public class CarResponse extends VehicleResponse {
-  private String bodyType;
-  private String fuelType;
-  private Integer numberOfDoors;
-}
+public record CarResponse(
+    long id,
+    String brand,
+    String model,
+    int capacity,
+    String line,
+    String plate,
+    String motorNumber,
+    String serialNumber,
+    String chassisNumber,
+    String color,
+    String cityRegistered,
+    int year,
+    int mileage,
+    String transmission,
+    VehicleStatus status,
+    Money purchasePrice,
+    Money salePrice,
+    String photoUrl,
+    String thumbnailUrl,
+    String bodyType,
+    String fuelType,
+    int numberOfDoors)
+    implements VehicleResponse {}
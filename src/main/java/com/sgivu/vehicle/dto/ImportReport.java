@@ -0,0 +1,22 @@
+package com.sgivu.vehicle.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una importación CSV. {@code errors} se limita a {@code
+ * vehicle.import.max-reported-errors} entradas; {@code errorsTruncated} indica que hubo más.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+  private long totalRows;
+  private long importedRows;
+  private long rejectedRows;
+  private long durationMillis;
+  private List<ImportRowError> errors;
+  private boolean errorsTruncated;
+}
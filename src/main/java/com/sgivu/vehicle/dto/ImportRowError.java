@@ -0,0 +1,15 @@
+package com.sgivu.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Error de una fila de una importación CSV. La fila 1 es el encabezado. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+  private long row;
+  private String field;
+  private String message;
+}
@@ -0,0 +1,24 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.entity.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Agregado de los vehículos de un grupo (una marca, una ciudad, un estado o un tipo). {@code
+ * margin} es {@code saleValue - purchaseValue}; {@code averageAgeDays}, los días promedio desde el
+ * alta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryGroup {
+  private String key;
+  private long vehicles;
+  private Money purchaseValue;
+  private Money saleValue;
+  private Money margin;
+  private Money averageMargin;
+  private Double averageAgeDays;
+}
@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.JobStatus;
+import com.sgivu.vehicle.enums.JobType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de un trabajo en segundo plano. {@code progress} va de 0 a 100; {@code resultAvailable}
+ * indica que {@code /v1/jobs/{id}/result} puede descargarse.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+  private Long id;
+  private JobType jobType;
+  private VehicleType vehicleType;
+  private JobStatus status;
+  private VehicleStatus statusFilter;
+  private int progress;
+  private long processedRows;
+  private Long totalRows;
+  private boolean cancelRequested;
+  private String errorMessage;
+  private LocalDateTime createdAt;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+  private boolean resultAvailable;
+}
@@ -1,12 +1,27 @@
 package com.sgivu.vehicle.dto;
 
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.enums.VehicleStatus;
 
-@Data
-@NoArgsConstructor
-@EqualsAndHashCode(callSuper = true)
-public class MotorcycleResponse extends VehicleResponse {
-  private String motorcycleType;
-}
+public record MotorcycleResponse(
+    long id,
+    String brand,
+    String model,
+    int capacity,
+    String line,
+    String plate,
+    String motorNumber,
+    String serialNumber,
+    String chassisNumber,
+    String color,
+    String cityRegistered,
+    int year,
+    int mileage,
+    String transmission,
+    VehicleStatus status,
+    Money purchasePrice,
+    Money salePrice,
+    String photoUrl,
+    String thumbnailUrl,
+    String motorcycleType)
+    implements VehicleResponse {}
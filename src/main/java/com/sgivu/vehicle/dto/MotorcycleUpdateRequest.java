@@ -1,5 +1,6 @@
 package com.sgivu.vehicle.dto;
 
+import com.sgivu.vehicle.entity.Money;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.EnumType;
@@ -80,11 +81,11 @@ public class MotorcycleUpdateRequest {
 
   @PositiveOrZero
   @Column(name = "purchase_price", nullable = false)
-  private Double purchasePrice;
+  private Money purchasePrice;
 
   @PositiveOrZero
   @Column(name = "sale_price", nullable = false)
-  private Double salePrice;
+  private Money salePrice;
 
   @NotBlank
   @Column(name = "motorcycle_type", nullable = false, length = 20)
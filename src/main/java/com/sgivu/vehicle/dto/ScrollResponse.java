@@ -0,0 +1,18 @@
+package com.sgivu.vehicle.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página obtenida por keyset. {@code nextCursor} se envía en la siguiente solicitud y es {@code
+ * null} cuando no hay más resultados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScrollResponse<T> {
+  private List<T> content;
+  private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tiempo que los vehículos pasaron en un estado dentro del periodo del reporte, en días.
+ * {@code averageDays} y {@code medianDays} son por vehículo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusDuration {
+  private VehicleStatus status;
+  private long vehicles;
+  private double totalDays;
+  private double averageDays;
+  private double medianDays;
+}
@@ -0,0 +1,19 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleType;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Días en cada estado entre {@code from} (inclusive) y {@code to} (exclusivo). */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusDurationReport {
+  private LocalDateTime from;
+  private LocalDateTime to;
+  private VehicleType type;
+  private List<StatusDuration> statuses;
+}
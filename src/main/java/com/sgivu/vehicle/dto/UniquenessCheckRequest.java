@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniquenessCheckRequest {
+  private List<VehicleIdentifiers> candidates;
+}
@@ -0,0 +1,14 @@
+package com.sgivu.vehicle.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Resultado de una verificación de unicidad; sin conflictos, todos los candidatos son válidos. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniquenessCheckResponse {
+  private List<UniquenessConflict> conflicts;
+}
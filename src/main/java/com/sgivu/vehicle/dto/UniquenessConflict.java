@@ -0,0 +1,23 @@
+package com.sgivu.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Identificador de un candidato que ya está en uso.
+ *
+ * <p>{@code index} es la posición del candidato en la petición y {@code field} el nombre del campo
+ * en la API ({@code plate}, {@code motorNumber}...). El valor pertenece a un vehículo registrado
+ * ({@code vehicleId}) o a otro candidato anterior de la misma petición ({@code duplicateOfIndex}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniquenessConflict {
+  private int index;
+  private String field;
+  private String value;
+  private Long vehicleId;
+  private Integer duplicateOfIndex;
+}
@@ -0,0 +1,24 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleChangeType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio del historial de un vehículo. {@code daysInStatus} es el tiempo que el vehículo pasó en
+ * {@code status} hasta el siguiente cambio (o hasta ahora); {@code null} si fue eliminado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleHistoryEntry {
+  private LocalDateTime changedAt;
+  private VehicleChangeType changeType;
+  private VehicleStatus previousStatus;
+  private VehicleStatus status;
+  private String changedBy;
+  private Double daysInStatus;
+}
@@ -0,0 +1,20 @@
+package com.sgivu.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Identificadores únicos de un vehículo candidato. {@code id} es opcional: el vehículo que se está
+ * editando, que no cuenta como conflicto consigo mismo. Los campos vacíos no se verifican.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleIdentifiers {
+  private Long id;
+  private String plate;
+  private String motorNumber;
+  private String serialNumber;
+  private String chassisNumber;
+}
@@ -1,27 +1,51 @@
 package com.sgivu.vehicle.dto;
 
+import com.sgivu.vehicle.entity.Money;
 import com.sgivu.vehicle.enums.VehicleStatus;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-public class VehicleResponse {
-  private Long id;
-  private String brand;
-  private String model;
-  private Integer capacity;
-  private String line;
-  private String plate;
-  private String motorNumber;
-  private String serialNumber;
-  private String chassisNumber;
-  private String color;
-  private String cityRegistered;
-  private Integer year;
-  private Integer mileage;
-  private String transmission;
-  private VehicleStatus status;
-  private Double purchasePrice;
-  private Double salePrice;
+
+/**
+ * Vehículo devuelto por la API. Las respuestas son registros inmutables con campos primitivos y
+ * precios en {@link Money}; {@code JacksonConfig} las escribe campo por campo, sin reflexión.
+ */
+public sealed interface VehicleResponse permits CarResponse, MotorcycleResponse {
+
+  long id();
+
+  String brand();
+
+  String model();
+
+  int capacity();
+
+  String line();
+
+  String plate();
+
+  String motorNumber();
+
+  String serialNumber();
+
+  String chassisNumber();
+
+  String color();
+
+  String cityRegistered();
+
+  int year();
+
+  int mileage();
+
+  String transmission();
+
+  VehicleStatus status();
+
+  Money purchasePrice();
+
+  Money salePrice();
+
+  /** Foto guardada por el servicio ({@code /v1/vehicles/photos/...}) o URL externa. */
+  String photoUrl();
+
+  /** Miniatura de la foto; para una URL externa, la misma {@code photoUrl}. */
+  String thumbnailUrl();
 }
@@ -0,0 +1,56 @@
+package com.sgivu.vehicle.entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Importe en pesos colombianos guardado en centavos ({@code BIGINT} en la base de datos, ver {@link
+ * MoneyConverter}). Las sumas y comparaciones de precios son exactas, sin el redondeo de {@code
+ * DOUBLE PRECISION}.
+ *
+ * <p>En el JSON de la API y en los CSV de importación y exportación se escribe en pesos con hasta
+ * dos decimales ({@code 65000000} o {@code 65000000.50}).
+ */
+public record Money(long minorUnits) implements Serializable, Comparable<Money> {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private static final int SCALE = 2;
+
+  /**
+   * Convierte un importe en pesos.
+   *
+   * @throws IllegalArgumentException si tiene más de dos decimales o no cabe en un {@code long}
+   */
+  public static Money of(BigDecimal pesos) {
+    try {
+      return new Money(pesos.movePointRight(SCALE).longValueExact());
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Importe inválido: " + pesos.toPlainString(), e);
+    }
+  }
+
+  /**
+   * Lee un importe en pesos ({@code "65000000"}, {@code "65000000.50"}).
+   *
+   * @throws IllegalArgumentException si el texto no es un número o el importe no es válido
+   */
+  public static Money parse(String pesos) {
+    return of(new BigDecimal(pesos.trim()));
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, SCALE);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(minorUnits, other.minorUnits);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
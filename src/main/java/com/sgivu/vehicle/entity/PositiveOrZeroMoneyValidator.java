@@ -0,0 +1,17 @@
+package com.sgivu.vehicle.entity;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * {@link PositiveOrZero} sobre atributos {@link Money}. Se registra en {@code
+ * META-INF/services/jakarta.validation.ConstraintValidator}.
+ */
+public class PositiveOrZeroMoneyValidator implements ConstraintValidator<PositiveOrZero, Money> {
+
+  @Override
+  public boolean isValid(Money value, ConstraintValidatorContext context) {
+    return value == null || value.minorUnits() >= 0;
+  }
+}
@@ -1,6 +1,8 @@
 package com.sgivu.vehicle.entity;
 
+import com.sgivu.vehicle.config.VehicleCache;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -24,12 +26,16 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @NoArgsConstructor
 @Table(name = "vehicles")
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = VehicleCache.VEHICLES)
 public abstract class Vehicle implements Serializable {
 
   @Serial private static final long serialVersionUID = 1L;
@@ -101,17 +107,18 @@ public abstract class Vehicle implements Serializable {
 
   @PositiveOrZero
   @Column(name = "purchase_price", nullable = false)
-  private Double purchasePrice;
+  private Money purchasePrice;
 
   @PositiveOrZero
   @Column(name = "sale_price", nullable = false)
-  private Double salePrice;
+  private Money salePrice;
 
   @Column(name = "photo_url", length = 500)
   private String photoUrl;
 
   private LocalDateTime createdAt;
 
+  @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
   @PrePersist
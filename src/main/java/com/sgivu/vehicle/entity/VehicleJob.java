@@ -0,0 +1,82 @@
+package com.sgivu.vehicle.entity;
+
+import com.sgivu.vehicle.enums.JobStatus;
+import com.sgivu.vehicle.enums.JobType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Importación o exportación masiva que se ejecuta en segundo plano. */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "vehicle_jobs")
+public class VehicleJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "job_type", nullable = false, length = 20)
+  private JobType jobType;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "vehicle_type", nullable = false, length = 20)
+  private VehicleType vehicleType;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private JobStatus status;
+
+  /** Estado de vehículo por el que se filtra una exportación; {@code null} exporta todos. */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status_filter", length = 20)
+  private VehicleStatus statusFilter;
+
+  @Column(nullable = false)
+  private short progress;
+
+  @Column(name = "processed_rows", nullable = false)
+  private long processedRows;
+
+  @Column(name = "total_rows")
+  private Long totalRows;
+
+  @Column(name = "cancel_requested", nullable = false)
+  private boolean cancelRequested;
+
+  @Column(name = "result_path", length = 500)
+  private String resultPath;
+
+  @Column(name = "error_message", length = 1000)
+  private String errorMessage;
+
+  @Column(name = "worker_id", nullable = false, length = 100)
+  private String workerId;
+
+  @Column(name = "created_by", length = 100)
+  private String createdBy;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
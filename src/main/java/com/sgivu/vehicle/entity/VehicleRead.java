@@ -0,0 +1,97 @@
+package com.sgivu.vehicle.entity;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Fila del modelo de lectura {@code vehicle_read}: un vehículo con las columnas de su subtipo en
+ * una sola tabla. La mantienen los triggers de la base de datos; desde la aplicación es solo de
+ * lectura.
+ *
+ * <p>{@link Synchronize} declara las tablas de origen: una escritura sobre ellas invalida las
+ * consultas sobre este modelo guardadas en la caché de segundo nivel.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Immutable
+@Synchronize({"vehicles", "cars", "motorcycles"})
+@Table(name = "vehicle_read")
+public class VehicleRead {
+
+  @Id private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "vehicle_type", length = 20)
+  private VehicleType vehicleType;
+
+  private String brand;
+
+  private String model;
+
+  private Integer capacity;
+
+  private String line;
+
+  private String plate;
+
+  @Column(name = "motor_number")
+  private String motorNumber;
+
+  @Column(name = "serial_number")
+  private String serialNumber;
+
+  @Column(name = "chassis_number")
+  private String chassisNumber;
+
+  private String color;
+
+  @Column(name = "city_registered")
+  private String cityRegistered;
+
+  private Integer year;
+
+  private Integer mileage;
+
+  private String transmission;
+
+  @Enumerated(EnumType.STRING)
+  private VehicleStatus status;
+
+  @Column(name = "purchase_price")
+  private Money purchasePrice;
+
+  @Column(name = "sale_price")
+  private Money salePrice;
+
+  @Column(name = "photo_url")
+  private String photoUrl;
+
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "body_type")
+  private String bodyType;
+
+  @Column(name = "fuel_type")
+  private String fuelType;
+
+  @Column(name = "number_of_doors")
+  private Integer numberOfDoors;
+
+  @Column(name = "motorcycle_type")
+  private String motorcycleType;
+}
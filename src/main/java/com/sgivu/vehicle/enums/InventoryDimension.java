@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.enums;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/** Criterio de agrupación de los agregados del inventario. */
+public enum InventoryDimension {
+  TYPE("vehicle_type"),
+  BRAND("brand"),
+  CITY("city_registered"),
+  STATUS("status");
+
+  private final String column;
+
+  InventoryDimension(String column) {
+    this.column = column;
+  }
+
+  /** Columna de {@code inventory_rollup} por la que se agrupa. */
+  public String column() {
+    return column;
+  }
+
+  public static Optional<InventoryDimension> fromParameter(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.enums;
+
+public enum JobStatus {
+  QUEUED,
+  RUNNING,
+  SUCCEEDED,
+  FAILED,
+  CANCELLED;
+
+  public boolean isFinished() {
+    return this != QUEUED && this != RUNNING;
+  }
+}
@@ -0,0 +1,6 @@
+package com.sgivu.vehicle.enums;
+
+public enum JobType {
+  IMPORT,
+  EXPORT
+}
@@ -0,0 +1,23 @@
+package com.sgivu.vehicle.enums;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum SuggestionField {
+  BRAND,
+  MODEL,
+  LINE,
+  COLOR,
+  CITY;
+
+  public static Optional<SuggestionField> fromParameter(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
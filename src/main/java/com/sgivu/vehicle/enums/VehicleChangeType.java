@@ -0,0 +1,30 @@
+package com.sgivu.vehicle.enums;
+
+import com.sgivu.vehicle.event.VehicleChangedEvent;
+import java.util.Objects;
+
+/** Tipo de cambio registrado en el historial de un vehículo. */
+public enum VehicleChangeType {
+  CREATED,
+  UPDATED,
+  STATUS_CHANGED,
+  PHOTO_CHANGED,
+  DELETED,
+  /** Vendido o inactivo movido al archivo por antigüedad; no se publica como evento. */
+  ARCHIVED;
+
+  public static VehicleChangeType of(VehicleChangedEvent event) {
+    if (event.previous() == null) {
+      return CREATED;
+    }
+    if (event.current() == null) {
+      return DELETED;
+    }
+    if (event.previous().status() != event.current().status()) {
+      return STATUS_CHANGED;
+    }
+    return Objects.equals(event.previous().photoUrl(), event.current().photoUrl())
+        ? UPDATED
+        : PHOTO_CHANGED;
+  }
+}
@@ -0,0 +1,20 @@
+package com.sgivu.vehicle.enums;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+
+public enum VehicleType {
+  CAR,
+  MOTORCYCLE;
+
+  public static VehicleType of(Vehicle vehicle) {
+    if (vehicle instanceof Car) {
+      return CAR;
+    }
+    if (vehicle instanceof Motorcycle) {
+      return MOTORCYCLE;
+    }
+    throw new IllegalArgumentException("Tipo de vehículo no soportado: " + vehicle.getClass());
+  }
+}
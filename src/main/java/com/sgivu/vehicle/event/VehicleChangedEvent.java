@@ -0,0 +1,15 @@
+package com.sgivu.vehicle.event;
+
+/**
+ * Evento publicado por los servicios de vehículos tras crear, actualizar, cambiar el estado o
+ * eliminar un vehículo.
+ *
+ * @param previous estado anterior; {@code null} si el vehículo fue creado.
+ * @param current estado resultante; {@code null} si el vehículo fue eliminado.
+ */
+public record VehicleChangedEvent(VehicleSnapshot previous, VehicleSnapshot current) {
+
+  public Long vehicleId() {
+    return current != null ? current.id() : previous.id();
+  }
+}
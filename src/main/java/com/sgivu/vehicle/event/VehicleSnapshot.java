@@ -0,0 +1,36 @@
+package com.sgivu.vehicle.event;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+
+/**
+ * Copia inmutable de los atributos de un {@link Vehicle} en un instante dado.
+ *
+ * <p>Las entidades son mutables y se reutilizan dentro de la transacción, por lo que los eventos
+ * transportan snapshots en lugar de referencias a la entidad.
+ */
+public record VehicleSnapshot(
+    Long id,
+    VehicleType type,
+    String brand,
+    String model,
+    String line,
+    String color,
+    String cityRegistered,
+    VehicleStatus status,
+    String photoUrl) {
+
+  public static VehicleSnapshot of(Vehicle vehicle) {
+    return new VehicleSnapshot(
+        vehicle.getId(),
+        VehicleType.of(vehicle),
+        vehicle.getBrand(),
+        vehicle.getModel(),
+        vehicle.getLine(),
+        vehicle.getColor(),
+        vehicle.getCityRegistered(),
+        vehicle.getStatus(),
+        vehicle.getPhotoUrl());
+  }
+}
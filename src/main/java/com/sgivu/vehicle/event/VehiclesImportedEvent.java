@@ -0,0 +1,12 @@
+package com.sgivu.vehicle.event;
+
+import com.sgivu.vehicle.enums.VehicleType;
+
+/**
+ * Evento publicado al terminar una carga masiva. Las filas se insertan con SQL por lotes, sin un
+ * {@link VehicleChangedEvent} por vehículo, así que los componentes derivados deben recalcularse.
+ *
+ * @param type tipo de los vehículos importados.
+ * @param imported número de vehículos insertados.
+ */
+public record VehiclesImportedEvent(VehicleType type, long imported) {}
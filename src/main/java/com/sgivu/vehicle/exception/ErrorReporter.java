@@ -0,0 +1,168 @@
+package com.sgivu.vehicle.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Construye las respuestas de error (RFC 7807) y registra cada error una sola vez.
+ *
+ * <p>Cada error suma al contador {@code sgivu.vehicle.errors} (etiquetas {@code type} y {@code
+ * status}). Los errores esperados se registran en {@code WARN}, sin traza y con muestreo: como
+ * máximo {@code vehicle.errors.log-limit} líneas por tipo cada {@code vehicle.errors.log-interval};
+ * la siguiente línea indica cuántas se omitieron. Solo los errores inesperados registran la traza
+ * completa, siempre.
+ */
+@Component
+public class ErrorReporter {
+
+  private static final Logger logger = LoggerFactory.getLogger(ErrorReporter.class);
+  private static final String METRIC_NAME = "sgivu.vehicle.errors";
+
+  private final MeterRegistry meterRegistry;
+  private final ObjectMapper objectMapper;
+  private final Map<ErrorType, Counter> counters = new EnumMap<>(ErrorType.class);
+  private final Map<String, Counter> countersByStatus = new ConcurrentHashMap<>();
+  private final Map<ErrorType, LogSampler> samplers = new EnumMap<>(ErrorType.class);
+
+  public ErrorReporter(
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper,
+      @Value("${vehicle.errors.log-limit:5}") int logLimit,
+      @Value("${vehicle.errors.log-interval:PT1S}") Duration logInterval) {
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+    for (ErrorType type : ErrorType.values()) {
+      counters.put(type, counter(type, type.status()));
+      samplers.put(type, new LogSampler(logLimit, logInterval.toNanos()));
+    }
+  }
+
+  /** Registra el error y devuelve su respuesta con el estado de la plantilla. */
+  public ProblemDetail report(ErrorType type, String detail, Throwable cause) {
+    record(type, type.status(), cause.getMessage(), cause);
+    return problem(type, type.status(), detail);
+  }
+
+  /** Igual que {@link #report(ErrorType, String, Throwable)}, para errores sin excepción. */
+  public ProblemDetail report(ErrorType type, String logMessage) {
+    record(type, type.status(), logMessage, null);
+    return problem(type, type.status(), null);
+  }
+
+  /** Registra un error cuyo estado lo define la excepción (errores de Spring MVC). */
+  public void record(ErrorType type, HttpStatusCode status, Throwable cause) {
+    record(type, status, cause.getMessage(), cause);
+  }
+
+  private void record(
+      ErrorType type, HttpStatusCode status, String message, @Nullable Throwable cause) {
+    counterFor(type, status).increment();
+
+    if (!type.expected()) {
+      logger.error("{} ({}): {}", type.title(), status.value(), message, cause);
+      return;
+    }
+    LogSampler sampler = samplers.get(type);
+    if (!sampler.tryAcquire()) {
+      return;
+    }
+    long suppressed = sampler.drainSuppressed();
+    if (suppressed > 0) {
+      logger.warn(
+          "{} ({}): {} [{} similares omitidos]", type.title(), status.value(), message, suppressed);
+    } else {
+      logger.warn("{} ({}): {}", type.title(), status.value(), message);
+    }
+  }
+
+  /**
+   * Registra el error y escribe su respuesta directamente, para los filtros que corren fuera de
+   * Spring MVC.
+   */
+  public void write(
+      HttpServletRequest request, HttpServletResponse response, ErrorType type, String logMessage)
+      throws IOException {
+    ProblemDetail problem = report(type, logMessage);
+    problem.setInstance(URI.create(request.getRequestURI()));
+    response.setStatus(problem.getStatus());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problem);
+  }
+
+  /** Respuesta de error sin registrar (la parte que ya registró el error completa los detalles). */
+  public static ProblemDetail problem(ErrorType type, HttpStatusCode status, String detail) {
+    ProblemDetail problem = ProblemDetail.forStatus(status);
+    problem.setType(type.type());
+    problem.setTitle(type.title());
+    problem.setDetail(detail != null ? detail : type.defaultDetail());
+    return problem;
+  }
+
+  private Counter counterFor(ErrorType type, HttpStatusCode status) {
+    if (status.value() == type.status().value()) {
+      return counters.get(type);
+    }
+    return countersByStatus.computeIfAbsent(
+        type.name() + ':' + status.value(), k -> counter(type, status));
+  }
+
+  private Counter counter(ErrorType type, HttpStatusCode status) {
+    return Counter.builder(METRIC_NAME)
+        .description("Respuestas de error por tipo")
+        .tag("type", type.name().toLowerCase(Locale.ROOT))
+        .tag("status", Integer.toString(status.value()))
+        .register(meterRegistry);
+  }
+
+  /** Ventana fija por tipo de error, sin bloqueos; bajo concurrencia el límite es aproximado. */
+  private static final class LogSampler {
+
+    private final int limit;
+    private final long intervalNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    private LogSampler(int limit, long intervalNanos) {
+      this.limit = limit;
+      this.intervalNanos = intervalNanos;
+    }
+
+    boolean tryAcquire() {
+      long now = System.nanoTime();
+      long start = windowStart.get();
+      if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+        logged.set(0);
+      }
+      if (logged.incrementAndGet() <= limit) {
+        return true;
+      }
+      suppressed.incrementAndGet();
+      return false;
+    }
+
+    long drainSuppressed() {
+      return suppressed.getAndSet(0);
+    }
+  }
+}
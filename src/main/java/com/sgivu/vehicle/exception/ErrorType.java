@@ -0,0 +1,146 @@
+package com.sgivu.vehicle.exception;
+
+import java.net.URI;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Plantillas de las respuestas de error (RFC 7807): tipo, título y estado HTTP se calculan una sola
+ * vez. Los errores esperados (conflictos, accesos denegados, peticiones inválidas) se registran con
+ * muestreo y sin traza; solo los inesperados registran la traza completa.
+ */
+public enum ErrorType {
+  CONSTRAINT_VIOLATION(
+      "constraint-violation",
+      "Violación de restricción",
+      HttpStatus.CONFLICT,
+      "Se produjo una violación de restricción. Verifique los campos únicos.",
+      true),
+  DATA_INTEGRITY(
+      "data-integrity",
+      "Violación de integridad de datos",
+      HttpStatus.CONFLICT,
+      "Se produjo una violación de integridad de datos. Verifique los campos únicos.",
+      true),
+  VEHICLE_CONFLICT(
+      "vehicle-conflict",
+      "Identificadores en uso",
+      HttpStatus.CONFLICT,
+      "Ya existe un vehículo con alguno de los identificadores enviados.",
+      true),
+  IMPORT_FORMAT(
+      "import-format",
+      "Archivo de importación inválido",
+      HttpStatus.BAD_REQUEST,
+      "El archivo de importación no es válido.",
+      true),
+  INVALID_PHOTO(
+      "invalid-photo",
+      "Imagen inválida",
+      HttpStatus.BAD_REQUEST,
+      "La imagen debe ser un JPEG o PNG válido.",
+      true),
+  PHOTO_TOO_LARGE(
+      "photo-too-large",
+      "Imagen demasiado grande",
+      HttpStatus.PAYLOAD_TOO_LARGE,
+      "La imagen supera el tamaño máximo permitido.",
+      true),
+  JOB_QUEUE_FULL(
+      "job-queue-full",
+      "Cola de trabajos llena",
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "Hay demasiados trabajos en curso. Intente de nuevo en unos minutos.",
+      true),
+  ACCESS_DENIED(
+      "access-denied",
+      "Acceso denegado",
+      HttpStatus.FORBIDDEN,
+      "No tiene los permisos necesarios para acceder a este recurso.",
+      true),
+  IDEMPOTENCY_KEY_INVALID(
+      "idempotency-key-invalid",
+      "Idempotency-Key inválida",
+      HttpStatus.BAD_REQUEST,
+      "El encabezado Idempotency-Key debe tener entre 1 y 100 caracteres.",
+      true),
+  IDEMPOTENCY_IN_PROGRESS(
+      "idempotency-in-progress",
+      "Petición en curso",
+      HttpStatus.CONFLICT,
+      "Una petición con la misma Idempotency-Key está en curso. Reintente cuando termine.",
+      true),
+  IDEMPOTENCY_MISMATCH(
+      "idempotency-mismatch",
+      "Idempotency-Key reutilizada",
+      HttpStatus.UNPROCESSABLE_ENTITY,
+      "La Idempotency-Key ya se usó con una petición distinta. Use una clave nueva.",
+      true),
+  RATE_LIMITED(
+      "rate-limited",
+      "Demasiadas peticiones",
+      HttpStatus.TOO_MANY_REQUESTS,
+      "Superó el límite de peticiones. Reintente después del tiempo indicado en Retry-After.",
+      true),
+  OVERLOADED(
+      "overloaded",
+      "Servicio sobrecargado",
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "El servicio está atendiendo demasiadas peticiones. Reintente en unos segundos.",
+      true),
+  NOT_FOUND(
+      "not-found",
+      "Recurso no encontrado",
+      HttpStatus.NOT_FOUND,
+      "El recurso solicitado no existe.",
+      true),
+  /** Errores de la propia petición detectados por Spring MVC; el estado lo define la excepción. */
+  INVALID_REQUEST(
+      "invalid-request",
+      "Petición inválida",
+      HttpStatus.BAD_REQUEST,
+      "La petición no es válida.",
+      true),
+  UNEXPECTED(
+      "unexpected",
+      "Error inesperado",
+      HttpStatus.INTERNAL_SERVER_ERROR,
+      "Ocurrió un error inesperado.",
+      false);
+
+  private static final String TYPE_PREFIX = "urn:sgivu:vehicle:error:";
+
+  private final URI type;
+  private final String title;
+  private final HttpStatus status;
+  private final String defaultDetail;
+  private final boolean expected;
+
+  ErrorType(
+      String slug, String title, HttpStatus status, String defaultDetail, boolean expected) {
+    this.type = URI.create(TYPE_PREFIX + slug);
+    this.title = title;
+    this.status = status;
+    this.defaultDetail = defaultDetail;
+    this.expected = expected;
+  }
+
+  public URI type() {
+    return type;
+  }
+
+  public String title() {
+    return title;
+  }
+
+  public HttpStatus status() {
+    return status;
+  }
+
+  public String defaultDetail() {
+    return defaultDetail;
+  }
+
+  public boolean expected() {
+    return expected;
+  }
+}
@@ -1,79 +1,136 @@
 package com.sgivu.vehicle.exception;
 
+import io.r2dbc.spi.R2dbcTimeoutException;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * Respuestas de error en formato {@code application/problem+json} (RFC 7807). Los errores propios
+ * de Spring MVC (ruta inexistente, cuerpo ilegible, método no soportado...) los resuelve {@link
+ * ResponseEntityExceptionHandler} con su estado correspondiente; el registro y las métricas de
+ * todos pasan por {@link ErrorReporter}.
+ */
 @ControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
-  private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
-  private static final String MESSAGE_KEY = "message";
-  private static final String DETAILS_KEY = "details";
-  private static final String STATUS_KEY = "status";
+  private static final String RETRY_AFTER_SECONDS = "60";
+  private static final String OVERLOADED_RETRY_AFTER_SECONDS = "1";
+
+  private final ErrorReporter errorReporter;
+
+  public GlobalExceptionHandler(ErrorReporter errorReporter) {
+    this.errorReporter = errorReporter;
+  }
 
   @ExceptionHandler(ConstraintViolationException.class)
   public ResponseEntity<Object> handleConstraintViolationException(ConstraintViolationException e) {
-    logger.error("Ocurrió una violación de restricción: {}", e.getMessage(), e);
-
-    Map<String, Object> errorResponse = new HashMap<>();
-    errorResponse.put(
-        MESSAGE_KEY, "Se produjo una violación de restricción. Verifique los campos únicos.");
-    errorResponse.put(DETAILS_KEY, e.getMessage());
-    errorResponse.put("constraintViolations", e.getConstraintViolations());
-    errorResponse.put(STATUS_KEY, HttpStatus.CONFLICT.value());
+    ProblemDetail problem = errorReporter.report(ErrorType.CONSTRAINT_VIOLATION, null, e);
+    Map<String, String> violations = new LinkedHashMap<>();
+    for (ConstraintViolation<?> violation : e.getConstraintViolations()) {
+      violations.put(violation.getPropertyPath().toString(), violation.getMessage());
+    }
+    problem.setProperty("violations", violations);
+    return ResponseEntity.of(problem).build();
+  }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  @ExceptionHandler(VehicleConflictException.class)
+  public ResponseEntity<Object> handleVehicleConflictException(VehicleConflictException e) {
+    ProblemDetail problem = errorReporter.report(ErrorType.VEHICLE_CONFLICT, null, e);
+    problem.setProperty("conflicts", e.getConflicts());
+    return ResponseEntity.of(problem).build();
   }
 
   @ExceptionHandler(DataIntegrityViolationException.class)
   public ResponseEntity<Object> handleDataIntegrityViolationException(
       DataIntegrityViolationException e) {
-    logger.error("Ocurrió una violación de integridad de datos: {}", e.getMessage(), e);
+    // Con la verificación previa de unicidad solo llegan aquí carreras entre escrituras
+    // simultáneas. El mensaje del driver (con la sentencia SQL) se registra, pero no se devuelve.
+    return ResponseEntity.of(
+            errorReporter.report(ErrorType.DATA_INTEGRITY, null, e.getMostSpecificCause()))
+        .build();
+  }
 
-    Map<String, Object> errorResponse = new HashMap<>();
-    errorResponse.put(
-        MESSAGE_KEY,
-        "Se produjo una violación de integridad de datos. Verifique los campos únicos.");
-    errorResponse.put(DETAILS_KEY, e.getMessage());
-    errorResponse.put(STATUS_KEY, HttpStatus.CONFLICT.value());
+  @ExceptionHandler(ImportFormatException.class)
+  public ResponseEntity<Object> handleImportFormatException(ImportFormatException e) {
+    return ResponseEntity.of(errorReporter.report(ErrorType.IMPORT_FORMAT, e.getMessage(), e))
+        .build();
+  }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  @ExceptionHandler(InvalidPhotoException.class)
+  public ResponseEntity<Object> handleInvalidPhotoException(InvalidPhotoException e) {
+    return ResponseEntity.of(errorReporter.report(ErrorType.INVALID_PHOTO, e.getMessage(), e))
+        .build();
   }
 
-  @ExceptionHandler(Exception.class)
-  public ResponseEntity<Object> handleGeneralException(Exception e) {
-    logger.error("Ocurrió un error inesperado: {}", e.getMessage(), e);
+  @ExceptionHandler(PhotoTooLargeException.class)
+  public ResponseEntity<Object> handlePhotoTooLargeException(PhotoTooLargeException e) {
+    return ResponseEntity.of(errorReporter.report(ErrorType.PHOTO_TOO_LARGE, e.getMessage(), e))
+        .build();
+  }
 
-    Map<String, Object> errorResponse = new HashMap<>();
-    errorResponse.put("exceptionType", e.getClass().getSimpleName());
-    errorResponse.put(MESSAGE_KEY, "Ocurrió un error inesperado.");
-    errorResponse.put(DETAILS_KEY, e.getMessage());
-    errorResponse.put(STATUS_KEY, HttpStatus.INTERNAL_SERVER_ERROR.value());
+  @ExceptionHandler(JobQueueFullException.class)
+  public ResponseEntity<Object> handleJobQueueFullException(JobQueueFullException e) {
+    return ResponseEntity.of(errorReporter.report(ErrorType.JOB_QUEUE_FULL, null, e))
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .build();
+  }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+  /** Sin conexión libre en el pool de la API reactiva dentro de su tiempo de espera. */
+  @ExceptionHandler(R2dbcTimeoutException.class)
+  public ResponseEntity<Object> handleR2dbcTimeoutException(R2dbcTimeoutException e) {
+    return ResponseEntity.of(errorReporter.report(ErrorType.OVERLOADED, null, e))
+        .header(HttpHeaders.RETRY_AFTER, OVERLOADED_RETRY_AFTER_SECONDS)
+        .build();
   }
 
   @ExceptionHandler(AuthorizationDeniedException.class)
   public ResponseEntity<Object> handleAuthorizationDeniedException(AuthorizationDeniedException e) {
-    logger.warn("Acceso denegado: {}", e.getMessage());
+    return ResponseEntity.of(errorReporter.report(ErrorType.ACCESS_DENIED, null, e)).build();
+  }
 
-    Map<String, Object> errorResponse = new HashMap<>();
-    errorResponse.put("exceptionType", "AuthorizationDeniedException");
-    errorResponse.put(
-        MESSAGE_KEY,
-        "Acceso denegado. No tiene los permisos necesarios para acceder a este recurso.");
-    errorResponse.put(DETAILS_KEY, "Permisos insuficientes");
-    errorResponse.put(STATUS_KEY, HttpStatus.FORBIDDEN.value());
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<Object> handleGeneralException(Exception e) {
+    ProblemDetail problem = errorReporter.report(ErrorType.UNEXPECTED, null, e);
+    problem.setProperty("exceptionType", e.getClass().getSimpleName());
+    return ResponseEntity.of(problem).build();
+  }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+  /** Errores de Spring MVC: conservan su estado y su detalle, con el tipo de error del servicio. */
+  @Override
+  protected ResponseEntity<Object> handleExceptionInternal(
+      Exception ex,
+      @Nullable Object body,
+      HttpHeaders headers,
+      HttpStatusCode statusCode,
+      WebRequest request) {
+    ErrorType type;
+    if (statusCode.is5xxServerError()) {
+      type = ErrorType.UNEXPECTED;
+    } else if (statusCode.value() == ErrorType.NOT_FOUND.status().value()) {
+      type = ErrorType.NOT_FOUND;
+    } else {
+      type = ErrorType.INVALID_REQUEST;
+    }
+    errorReporter.record(type, statusCode, ex);
+    ResponseEntity<Object> response =
+        super.handleExceptionInternal(ex, body, headers, statusCode, request);
+    if (response != null && response.getBody() instanceof ProblemDetail problem) {
+      problem.setType(type.type());
+      problem.setTitle(type.title());
+    }
+    return response;
   }
 }
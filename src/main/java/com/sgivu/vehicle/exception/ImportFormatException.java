@@ -0,0 +1,17 @@
+package com.sgivu.vehicle.exception;
+
+/**
+ * El archivo de una importación no se puede procesar (encabezado inválido, columnas faltantes o
+ * CSV mal formado). Los errores de filas individuales se reportan en el resultado, no con esta
+ * excepción.
+ */
+public class ImportFormatException extends RuntimeException {
+
+  public ImportFormatException(String message) {
+    super(message);
+  }
+
+  public ImportFormatException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
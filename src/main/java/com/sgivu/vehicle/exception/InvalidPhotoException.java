@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.exception;
+
+/** La imagen recibida no es un JPEG o PNG legible, o sus dimensiones superan el máximo. */
+public class InvalidPhotoException extends RuntimeException {
+
+  public InvalidPhotoException(String message) {
+    super(message);
+  }
+
+  public InvalidPhotoException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,9 @@
+package com.sgivu.vehicle.exception;
+
+/** La cola de trabajos en segundo plano está llena; el cliente debe reintentar más tarde. */
+public class JobQueueFullException extends RuntimeException {
+
+  public JobQueueFullException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,9 @@
+package com.sgivu.vehicle.exception;
+
+/** La imagen recibida supera {@code vehicle.photos.max-size}. */
+public class PhotoTooLargeException extends RuntimeException {
+
+  public PhotoTooLargeException(String message) {
+    super(message);
+  }
+}
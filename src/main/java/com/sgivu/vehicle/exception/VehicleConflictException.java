@@ -0,0 +1,24 @@
+package com.sgivu.vehicle.exception;
+
+import com.sgivu.vehicle.dto.UniquenessConflict;
+import java.util.List;
+
+/**
+ * Un vehículo repite placa, número de motor, serie o chasis de otro ya registrado. Se detecta con
+ * una consulta antes de insertar, sin llegar a la violación de la restricción única.
+ */
+public class VehicleConflictException extends RuntimeException {
+
+  private final transient List<UniquenessConflict> conflicts;
+
+  public VehicleConflictException(List<UniquenessConflict> conflicts) {
+    super(
+        "Identificadores en uso: "
+            + conflicts.stream().map(c -> c.getField() + "=" + c.getValue()).toList());
+    this.conflicts = conflicts;
+  }
+
+  public List<UniquenessConflict> getConflicts() {
+    return conflicts;
+  }
+}
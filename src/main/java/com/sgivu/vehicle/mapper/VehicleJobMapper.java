@@ -0,0 +1,16 @@
+package com.sgivu.vehicle.mapper;
+
+import com.sgivu.vehicle.dto.JobResponse;
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.JobStatus;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", imports = JobStatus.class)
+public interface VehicleJobMapper {
+
+  @Mapping(
+      target = "resultAvailable",
+      expression = "java(job.getStatus() == JobStatus.SUCCEEDED && job.getResultPath() != null)")
+  JobResponse toJobResponse(VehicleJob job);
+}
@@ -2,12 +2,18 @@ package com.sgivu.vehicle.mapper;
 
 import com.sgivu.vehicle.dto.CarResponse;
 import com.sgivu.vehicle.dto.MotorcycleResponse;
+import com.sgivu.vehicle.dto.VehicleResponse;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.service.PhotoService;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.SubclassExhaustiveStrategy;
+import org.mapstruct.SubclassMapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = PhotoService.class)
 public interface VehicleMapper {
 
   @Mapping(source = "id", target = "id")
@@ -27,6 +33,10 @@ public interface VehicleMapper {
   @Mapping(source = "status", target = "status")
   @Mapping(source = "purchasePrice", target = "purchasePrice")
   @Mapping(source = "salePrice", target = "salePrice")
+  @Mapping(source = "photoUrl", target = "photoUrl")
+  @Mapping(
+      target = "thumbnailUrl",
+      expression = "java(PhotoService.thumbnailUrl(car.getPhotoUrl()))")
   @Mapping(source = "bodyType", target = "bodyType")
   @Mapping(source = "fuelType", target = "fuelType")
   @Mapping(source = "numberOfDoors", target = "numberOfDoors")
@@ -49,6 +59,15 @@ public interface VehicleMapper {
   @Mapping(source = "status", target = "status")
   @Mapping(source = "purchasePrice", target = "purchasePrice")
   @Mapping(source = "salePrice", target = "salePrice")
+  @Mapping(source = "photoUrl", target = "photoUrl")
+  @Mapping(
+      target = "thumbnailUrl",
+      expression = "java(PhotoService.thumbnailUrl(motorcycle.getPhotoUrl()))")
   @Mapping(source = "motorcycleType", target = "motorcycleType")
   MotorcycleResponse toMotorcycleResponse(Motorcycle motorcycle);
+
+  @BeanMapping(subclassExhaustiveStrategy = SubclassExhaustiveStrategy.RUNTIME_EXCEPTION)
+  @SubclassMapping(source = Car.class, target = CarResponse.class)
+  @SubclassMapping(source = Motorcycle.class, target = MotorcycleResponse.class)
+  VehicleResponse toVehicleResponse(Vehicle vehicle);
 }
@@ -0,0 +1,30 @@
+package com.sgivu.vehicle.mapper;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.entity.VehicleRead;
+import org.mapstruct.Mapper;
+
+/**
+ * Convierte filas de {@code vehicle_read} en entidades {@link Car} / {@link Motorcycle} no
+ * administradas, para que los servicios devuelvan los mismos tipos con o sin el modelo de lectura.
+ */
+@Mapper(componentModel = "spring")
+public interface VehicleReadMapper {
+
+  Car toCar(VehicleRead row);
+
+  Motorcycle toMotorcycle(VehicleRead row);
+
+  default Vehicle toVehicle(VehicleRead row) {
+    if (row.getVehicleType() == null) {
+      throw new IllegalStateException(
+          "El vehículo " + row.getId() + " no tiene subtipo en el modelo de lectura");
+    }
+    return switch (row.getVehicleType()) {
+      case CAR -> toCar(row);
+      case MOTORCYCLE -> toMotorcycle(row);
+    };
+  }
+}
@@ -0,0 +1,22 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.config.VehicleCache;
+import jakarta.persistence.QueryHint;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Consulta sobre las entidades cuyo resultado (los identificadores) se guarda en la región {@link
+ * VehicleCache#VEHICLE_QUERIES} cuando la caché está activa.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@QueryHints({
+  @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+  @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VehicleCache.VEHICLE_QUERIES)
+})
+public @interface CachedVehicleQuery {}
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Optional;
 
 public interface CarRepository extends VehicleRepository<Car> {
+  @CachedVehicleQuery
   Optional<Car> findByFuelType(String fuelType);
 
+  @CachedVehicleQuery
   Optional<Car> findByBodyType(String bodyType);
 
   List<Car> findByFuelTypeContainingIgnoreCase(String fuelType);
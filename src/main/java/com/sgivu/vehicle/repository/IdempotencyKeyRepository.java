@@ -0,0 +1,135 @@
+package com.sgivu.vehicle.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Claves de idempotencia y la respuesta guardada de cada una. Cada operación es una sola sentencia
+ * en autocommit: la fila debe ser visible para un reintento concurrente antes de que termine la
+ * escritura que protege.
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+  private static final String IN_PROGRESS = "IN_PROGRESS";
+  private static final String COMPLETED = "COMPLETED";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Reserva una clave para una petición en curso.
+   *
+   * @return {@code true} si la clave estaba libre; {@code false} si ya existe.
+   */
+  public boolean tryClaim(
+      String principal,
+      String key,
+      String requestHash,
+      LocalDateTime now,
+      LocalDateTime expiresAt) {
+    return jdbcTemplate.update(
+            """
+            INSERT INTO idempotency_keys (principal, idempotency_key, request_hash, status,
+                                          created_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """,
+            principal,
+            key,
+            requestHash,
+            IN_PROGRESS,
+            now,
+            expiresAt)
+        == 1;
+  }
+
+  public Optional<StoredKey> find(String principal, String key) {
+    List<StoredKey> keys =
+        jdbcTemplate.query(
+            """
+            SELECT request_hash, status, response_status, content_type, location, response_body,
+                   created_at, expires_at
+            FROM idempotency_keys
+            WHERE principal = ? AND idempotency_key = ?
+            """,
+            (rs, i) ->
+                new StoredKey(
+                    rs.getString("request_hash"),
+                    COMPLETED.equals(rs.getString("status")),
+                    rs.getInt("response_status"),
+                    rs.getString("content_type"),
+                    rs.getString("location"),
+                    rs.getBytes("response_body"),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("expires_at", LocalDateTime.class)),
+            principal,
+            key);
+    return keys.stream().findFirst();
+  }
+
+  public void complete(
+      String principal,
+      String key,
+      int responseStatus,
+      String contentType,
+      String location,
+      byte[] body) {
+    jdbcTemplate.update(
+        """
+        UPDATE idempotency_keys
+        SET status = ?, response_status = ?, content_type = ?, location = ?, response_body = ?
+        WHERE principal = ? AND idempotency_key = ?
+        """,
+        COMPLETED,
+        responseStatus,
+        contentType,
+        location,
+        body,
+        principal,
+        key);
+  }
+
+  /**
+   * Libera una clave para que la petición pueda reintentarse.
+   *
+   * @param createdAt si no es {@code null}, solo se libera si la reserva sigue siendo esa (no la
+   *     de otro reintento que la tomó después).
+   */
+  public void release(String principal, String key, LocalDateTime createdAt) {
+    if (createdAt == null) {
+      jdbcTemplate.update(
+          "DELETE FROM idempotency_keys WHERE principal = ? AND idempotency_key = ?",
+          principal,
+          key);
+    } else {
+      jdbcTemplate.update(
+          "DELETE FROM idempotency_keys"
+              + " WHERE principal = ? AND idempotency_key = ? AND created_at = ?",
+          principal,
+          key,
+          createdAt);
+    }
+  }
+
+  public int deleteExpired(LocalDateTime now) {
+    return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", now);
+  }
+
+  /** Clave registrada; {@code completed} es {@code false} mientras la petición original sigue. */
+  public record StoredKey(
+      String requestHash,
+      boolean completed,
+      int responseStatus,
+      String contentType,
+      String location,
+      byte[] responseBody,
+      LocalDateTime createdAt,
+      LocalDateTime expiresAt) {}
+}
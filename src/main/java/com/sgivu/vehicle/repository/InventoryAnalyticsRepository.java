@@ -0,0 +1,124 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.dto.AgeBucket;
+import com.sgivu.vehicle.dto.AgeBucketReport;
+import com.sgivu.vehicle.dto.InventoryGroup;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.enums.InventoryDimension;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Consultas sobre los agregados del inventario ({@code inventory_rollup} e {@code
+ * inventory_age_buckets}, migración {@code V10}). Su tamaño depende de las combinaciones de tipo,
+ * marca, ciudad y estado, no de la cantidad de vehículos.
+ */
+@Repository
+public class InventoryAnalyticsRepository {
+
+  private static final String SUMMARIZE =
+      """
+      SELECT %1$s AS group_key,
+             sum(vehicles) AS vehicles,
+             sum(purchase_total) AS purchase_total,
+             sum(sale_total) AS sale_total,
+             round((sum(sale_total) - sum(purchase_total)) / sum(vehicles)) AS average_margin,
+             round(((extract(epoch FROM localtimestamp)
+                 - sum(created_epoch_total) / nullif(sum(created_count), 0)) / 86400)::numeric, 1)
+                 ::double precision AS average_age_days
+      FROM inventory_rollup
+      WHERE vehicles > 0%2$s
+      GROUP BY %1$s
+      ORDER BY sale_total DESC, group_key
+      """;
+
+  private static final String AGE_BUCKETS =
+      """
+      SELECT min_days, max_days,
+             sum(vehicles) AS vehicles,
+             sum(purchase_total) AS purchase_total,
+             sum(sale_total) AS sale_total
+      FROM inventory_age_buckets
+      WHERE true%s
+      GROUP BY min_days, max_days
+      ORDER BY min_days
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public InventoryAnalyticsRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Agregados agrupados por {@code groupBy}, ordenados por valor de venta.
+   *
+   * @param filters valor exacto de cada dimensión por la que se filtra.
+   */
+  public List<InventoryGroup> summarize(
+      InventoryDimension groupBy, Map<InventoryDimension, String> filters) {
+    List<Object> args = new ArrayList<>();
+    String where = where(filters, args);
+    return jdbcTemplate.query(
+        SUMMARIZE.formatted(groupBy.column(), where),
+        (rs, i) -> {
+          Money purchase = money(rs, "purchase_total");
+          Money sale = money(rs, "sale_total");
+          return new InventoryGroup(
+              rs.getString("group_key"),
+              rs.getLong("vehicles"),
+              purchase,
+              sale,
+              new Money(sale.minorUnits() - purchase.minorUnits()),
+              money(rs, "average_margin"),
+              rs.getObject("average_age_days", Double.class));
+        },
+        args.toArray());
+  }
+
+  /** Distribución por antigüedad según el último refresco de {@code inventory_age_buckets}. */
+  public AgeBucketReport ageBuckets(Map<InventoryDimension, String> filters) {
+    List<Object> args = new ArrayList<>();
+    String where = where(filters, args);
+    List<AgeBucket> buckets =
+        jdbcTemplate.query(
+            AGE_BUCKETS.formatted(where),
+            (rs, i) ->
+                new AgeBucket(
+                    rs.getInt("min_days"),
+                    rs.getObject("max_days", Integer.class),
+                    rs.getLong("vehicles"),
+                    money(rs, "purchase_total"),
+                    money(rs, "sale_total")),
+            args.toArray());
+    LocalDateTime refreshedAt =
+        jdbcTemplate.queryForObject(
+            "SELECT max(refreshed_at) FROM inventory_age_buckets", LocalDateTime.class);
+    return new AgeBucketReport(refreshedAt, buckets);
+  }
+
+  /** Recalcula {@code inventory_age_buckets} sin bloquear las lecturas. */
+  public void refreshAgeBuckets() {
+    jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY inventory_age_buckets");
+  }
+
+  private static String where(Map<InventoryDimension, String> filters, List<Object> args) {
+    StringBuilder where = new StringBuilder();
+    filters.forEach(
+        (dimension, value) -> {
+          where.append(" AND ").append(dimension.column()).append(" = ?");
+          args.add(value);
+        });
+    return where.toString();
+  }
+
+  private static Money money(ResultSet rs, String column) throws SQLException {
+    return new Money(rs.getLong(column));
+  }
+}
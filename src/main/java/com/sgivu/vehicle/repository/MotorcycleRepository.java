@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 public interface MotorcycleRepository extends VehicleRepository<Motorcycle> {
+  @CachedVehicleQuery
   Optional<Motorcycle> findByMotorcycleType(String motorcycleType);
 
   List<Motorcycle> findByMotorcycleTypeContainingIgnoreCase(String motorcycleType);
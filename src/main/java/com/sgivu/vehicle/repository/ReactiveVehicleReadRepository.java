@@ -0,0 +1,125 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.config.ReactiveDatabase;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.entity.VehicleRead;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lecturas no bloqueantes (R2DBC) sobre {@code vehicle_read}.
+ *
+ * <p>{@code vehicle_read} tiene en una sola fila las columnas de {@code vehicles} y de {@code
+ * cars}/{@code motorcycles}, así que cada consulta es de una tabla, sin los {@code JOIN} de la
+ * herencia. Los listados se leen por cursor en lotes de {@link ReactiveDatabase#fetchSize()}: el
+ * driver pide el siguiente lote solo cuando el suscriptor (la respuesta HTTP) consumió el anterior,
+ * de modo que un cliente lento no acumula filas en memoria.
+ */
+@Repository
+public class ReactiveVehicleReadRepository {
+
+  private static final String COLUMNS =
+      "id, vehicle_type, brand, model, capacity, line, plate, motor_number, serial_number,"
+          + " chassis_number, color, city_registered, year, mileage, transmission, status,"
+          + " purchase_price, sale_price, photo_url, created_at, updated_at, body_type, fuel_type,"
+          + " number_of_doors, motorcycle_type";
+
+  private final ReactiveDatabase database;
+
+  public ReactiveVehicleReadRepository(ReactiveDatabase database) {
+    this.database = database;
+  }
+
+  /**
+   * Vehículos de un tipo en orden de id, sobre el índice {@code (vehicle_type, id)}.
+   *
+   * @param status estado por el que filtrar, o {@code null} para todos.
+   */
+  public Flux<VehicleRead> findByType(VehicleType type, VehicleStatus status) {
+    DatabaseClient.GenericExecuteSpec spec =
+        database
+            .client()
+            .sql(
+                "SELECT "
+                    + COLUMNS
+                    + " FROM vehicle_read WHERE vehicle_type = :type"
+                    + (status == null ? "" : " AND status = :status")
+                    + " ORDER BY vehicle_type, id")
+            .bind("type", type.name());
+    if (status != null) {
+      spec = spec.bind("status", status.name());
+    }
+    int fetchSize = database.fetchSize();
+    return spec.filter(statement -> statement.fetchSize(fetchSize))
+        .map(ReactiveVehicleReadRepository::toVehicleRead)
+        .all();
+  }
+
+  public Mono<VehicleRead> findById(long id, VehicleType type) {
+    return database
+        .client()
+        .sql("SELECT " + COLUMNS + " FROM vehicle_read WHERE id = :id AND vehicle_type = :type")
+        .bind("id", id)
+        .bind("type", type.name())
+        .map(ReactiveVehicleReadRepository::toVehicleRead)
+        .one();
+  }
+
+  /**
+   * @param status estado por el que filtrar, o {@code null} para todos.
+   */
+  public Mono<Long> count(VehicleType type, VehicleStatus status) {
+    DatabaseClient.GenericExecuteSpec spec =
+        database
+            .client()
+            .sql(
+                "SELECT count(*) FROM vehicle_read WHERE vehicle_type = :type"
+                    + (status == null ? "" : " AND status = :status"))
+            .bind("type", type.name());
+    if (status != null) {
+      spec = spec.bind("status", status.name());
+    }
+    return spec.map(row -> row.get(0, Long.class)).one().defaultIfEmpty(0L);
+  }
+
+  private static VehicleRead toVehicleRead(Readable row) {
+    VehicleRead vehicle = new VehicleRead();
+    vehicle.setId(row.get("id", Long.class));
+    String vehicleType = row.get("vehicle_type", String.class);
+    vehicle.setVehicleType(vehicleType == null ? null : VehicleType.valueOf(vehicleType));
+    vehicle.setBrand(row.get("brand", String.class));
+    vehicle.setModel(row.get("model", String.class));
+    vehicle.setCapacity(row.get("capacity", Integer.class));
+    vehicle.setLine(row.get("line", String.class));
+    vehicle.setPlate(row.get("plate", String.class));
+    vehicle.setMotorNumber(row.get("motor_number", String.class));
+    vehicle.setSerialNumber(row.get("serial_number", String.class));
+    vehicle.setChassisNumber(row.get("chassis_number", String.class));
+    vehicle.setColor(row.get("color", String.class));
+    vehicle.setCityRegistered(row.get("city_registered", String.class));
+    vehicle.setYear(row.get("year", Integer.class));
+    vehicle.setMileage(row.get("mileage", Integer.class));
+    vehicle.setTransmission(row.get("transmission", String.class));
+    vehicle.setStatus(VehicleStatus.valueOf(row.get("status", String.class)));
+    vehicle.setPurchasePrice(money(row.get("purchase_price", Long.class)));
+    vehicle.setSalePrice(money(row.get("sale_price", Long.class)));
+    vehicle.setPhotoUrl(row.get("photo_url", String.class));
+    vehicle.setCreatedAt(row.get("created_at", LocalDateTime.class));
+    vehicle.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+    vehicle.setBodyType(row.get("body_type", String.class));
+    vehicle.setFuelType(row.get("fuel_type", String.class));
+    vehicle.setNumberOfDoors(row.get("number_of_doors", Integer.class));
+    vehicle.setMotorcycleType(row.get("motorcycle_type", String.class));
+    return vehicle;
+  }
+
+  private static Money money(Long minorUnits) {
+    return minorUnits == null ? null : new Money(minorUnits);
+  }
+}
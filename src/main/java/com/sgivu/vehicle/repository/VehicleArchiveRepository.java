@@ -0,0 +1,250 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.entity.VehicleRead;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleSnapshot;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Archivo de vehículos ({@code vehicles_archive}).
+ *
+ * <p>Archivar mueve el vehículo con una sola sentencia: copia su fila de {@code vehicle_read} (con
+ * las columnas del subtipo) al archivo y la borra de {@code cars} / {@code motorcycles} y {@code
+ * vehicles}; los triggers la quitan de {@code vehicle_read} y de los agregados. Las escrituras no
+ * pasan por Hibernate, así que quien las llama invalida la caché ({@link
+ * com.sgivu.vehicle.config.VehicleCache#evictAfterCommit}). Deben ejecutarse dentro de una
+ * transacción.
+ */
+@Repository
+public class VehicleArchiveRepository {
+
+  private static final String COLUMNS =
+      "id, vehicle_type, brand, model, capacity, line, plate, motor_number, serial_number,"
+          + " chassis_number, color, city_registered, year, mileage, transmission, status,"
+          + " purchase_price, sale_price, photo_url, created_at, updated_at, body_type, fuel_type,"
+          + " number_of_doors, motorcycle_type";
+
+  /**
+   * Mueve las filas de {@code batch} (columna {@code id}) al archivo. Los borrados de las tres
+   * tablas se hacen en la misma sentencia, así que las llaves foráneas de {@code cars} / {@code
+   * motorcycles} se verifican cuando ya no queda ninguna fila que las viole.
+   */
+  private static final String MOVE =
+      """
+      WITH batch AS (
+          %s
+      ), moved AS (
+          INSERT INTO vehicles_archive (%s, archive_reason, archived_at)
+          SELECT %s, '%s', localtimestamp
+          FROM vehicle_read r JOIN batch b ON b.id = r.id
+          WHERE r.vehicle_type IS NOT NULL
+          RETURNING %s
+      ), cars_deleted AS (
+          DELETE FROM cars c USING moved m WHERE c.vehicle_id = m.id
+      ), motorcycles_deleted AS (
+          DELETE FROM motorcycles mc USING moved m WHERE mc.vehicle_id = m.id
+      ), vehicles_deleted AS (
+          DELETE FROM vehicles v USING moved m WHERE v.id = m.id
+      )%s
+      %s
+      """;
+
+  private static final String SNAPSHOT_COLUMNS =
+      "id, vehicle_type, brand, model, line, color, city_registered, status, photo_url";
+
+  private static final String SELECT_MOVED = "SELECT " + SNAPSHOT_COLUMNS + " FROM moved";
+
+  /**
+   * Cada fila seleccionada, con los datos del vehículo si se movió: en {@code READ COMMITTED}, una
+   * fila que otra transacción cambia mientras se espera su bloqueo puede quedar fuera.
+   */
+  private static final String SELECT_BATCH =
+      "SELECT b.id AS selected_id, m."
+          + SNAPSHOT_COLUMNS.replace(", ", ", m.")
+          + " FROM batch b LEFT JOIN moved m ON m.id = b.id ORDER BY b.id";
+
+  /** Vehículos indicados, si existen y son del tipo; bloquea sus filas hasta confirmar. */
+  private static final String BY_IDS =
+      """
+      SELECT v.id FROM vehicles v JOIN vehicle_read r ON r.id = v.id
+          WHERE v.id = ANY (?) AND r.vehicle_type = ?
+          FOR UPDATE OF v""";
+
+  /**
+   * Siguientes vehículos del tipo que cumplen el filtro, en orden de id a partir de uno dado.
+   * Espera a las filas bloqueadas en lugar de saltarlas: una eliminación pedida no debe dejar
+   * vehículos atrás.
+   */
+  private static final String BY_FILTER =
+      """
+      SELECT v.id FROM vehicles v JOIN vehicle_read r ON r.id = v.id
+          WHERE r.vehicle_type = ? AND r.id > ?%s
+          ORDER BY r.id
+          LIMIT ?
+          FOR UPDATE OF v""";
+
+  /**
+   * Vendidos o inactivos sin cambios desde antes del corte, por el índice parcial {@code
+   * idx_vehicles_terminal_updated_at_id}. {@code SKIP LOCKED} deja fuera las filas que otra
+   * transacción (otra instancia archivando, o una edición en curso) tiene bloqueadas.
+   */
+  private static final String TERMINAL =
+      """
+      SELECT id FROM vehicles
+          WHERE status IN ('SOLD', 'INACTIVE') AND updated_at < ?
+          ORDER BY updated_at, id
+          LIMIT ?
+          FOR UPDATE SKIP LOCKED""";
+
+  /** El archivado automático registra el cambio en el historial en la misma sentencia. */
+  private static final String ARCHIVED_HISTORY =
+      """
+      , history AS (
+          INSERT INTO vehicle_history (vehicle_id, vehicle_type, change_type, previous_status,
+                                       status, changed_at)
+          SELECT id, vehicle_type, 'ARCHIVED', status, NULL, localtimestamp FROM moved
+      )""";
+
+  private static final String READ_COLUMNS = "r." + COLUMNS.replace(", ", ", r.");
+
+  private static final String ARCHIVE_DELETED =
+      move(BY_IDS, "DELETED", "", SELECT_MOVED);
+
+  private static final String ARCHIVE_TERMINAL =
+      move(TERMINAL, "ARCHIVED", ARCHIVED_HISTORY, SELECT_MOVED);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehicleArchiveRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Archiva como eliminados los vehículos indicados que sean del tipo. No registra historial: lo
+   * hacen los servicios con el usuario que elimina.
+   *
+   * @return los vehículos archivados; los que no existían o son de otro tipo se omiten.
+   */
+  public List<VehicleSnapshot> archiveDeleted(VehicleType type, Collection<Long> ids) {
+    return jdbcTemplate.query(
+        ARCHIVE_DELETED,
+        VehicleArchiveRepository::toSnapshot,
+        ids.toArray(Long[]::new),
+        type.name());
+  }
+
+  /**
+   * Archiva como eliminados hasta {@code limit} vehículos del tipo que cumplen el filtro, con id
+   * mayor que {@code afterId}. Como {@link #archiveDeleted}, no registra historial.
+   *
+   * @return los vehículos archivados y el último id seleccionado, desde el que sigue el recorrido;
+   *     sin id cuando no quedan vehículos que cumplan el filtro.
+   */
+  public Chunk archiveDeletedMatching(VehicleType type, Filter filter, long afterId, int limit) {
+    List<Object> args = new ArrayList<>(List.of(type.name(), afterId));
+    StringBuilder where = new StringBuilder();
+    if (filter.status() != null) {
+      condition(where, args, "r.status = ?", filter.status().name());
+    }
+    condition(where, args, "r.brand = ?", filter.brand());
+    condition(where, args, "r.model = ?", filter.model());
+    condition(where, args, "r.line = ?", filter.line());
+    condition(where, args, "r.city_registered = ?", filter.cityRegistered());
+    condition(where, args, "r.updated_at < ?", filter.updatedBefore());
+    args.add(limit);
+    return jdbcTemplate.query(
+        move(BY_FILTER.formatted(where), "DELETED", "", SELECT_BATCH),
+        rs -> {
+          List<VehicleSnapshot> moved = new ArrayList<>();
+          Long lastSelectedId = null;
+          while (rs.next()) {
+            lastSelectedId = rs.getLong("selected_id");
+            if (rs.getObject("id") != null) {
+              moved.add(toSnapshot(rs, moved.size()));
+            }
+          }
+          return new Chunk(moved, lastSelectedId);
+        },
+        args.toArray());
+  }
+
+  private static String move(String batch, String reason, String history, String select) {
+    return MOVE.formatted(batch, COLUMNS, READ_COLUMNS, reason, SNAPSHOT_COLUMNS, history, select);
+  }
+
+  private static void condition(
+      StringBuilder where, List<Object> args, String condition, Object value) {
+    if (value != null) {
+      where.append(" AND ").append(condition);
+      args.add(value);
+    }
+  }
+
+  private static VehicleSnapshot toSnapshot(ResultSet rs, int rowNum) throws SQLException {
+    return new VehicleSnapshot(
+        rs.getLong("id"),
+        VehicleType.valueOf(rs.getString("vehicle_type")),
+        rs.getString("brand"),
+        rs.getString("model"),
+        rs.getString("line"),
+        rs.getString("color"),
+        rs.getString("city_registered"),
+        VehicleStatus.valueOf(rs.getString("status")),
+        rs.getString("photo_url"));
+  }
+
+  private static VehicleRead toVehicleRead(ResultSet rs, int rowNum) throws SQLException {
+    VehicleRead vehicle = new VehicleRead();
+    vehicle.setId(rs.getLong("id"));
+    vehicle.setVehicleType(VehicleType.valueOf(rs.getString("vehicle_type")));
+    vehicle.setBrand(rs.getString("brand"));
+    vehicle.setModel(rs.getString("model"));
+    vehicle.setCapacity(rs.getInt("capacity"));
+    vehicle.setLine(rs.getString("line"));
+    vehicle.setPlate(rs.getString("plate"));
+    vehicle.setMotorNumber(rs.getString("motor_number"));
+    vehicle.setSerialNumber(rs.getString("serial_number"));
+    vehicle.setChassisNumber(rs.getString("chassis_number"));
+    vehicle.setColor(rs.getString("color"));
+    vehicle.setCityRegistered(rs.getString("city_registered"));
+    vehicle.setYear(rs.getInt("year"));
+    vehicle.setMileage(rs.getInt("mileage"));
+    vehicle.setTransmission(rs.getString("transmission"));
+    vehicle.setStatus(VehicleStatus.valueOf(rs.getString("status")));
+    vehicle.setPurchasePrice(new Money(rs.getLong("purchase_price")));
+    vehicle.setSalePrice(new Money(rs.getLong("sale_price")));
+    vehicle.setPhotoUrl(rs.getString("photo_url"));
+    vehicle.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+    vehicle.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+    vehicle.setBodyType(rs.getString("body_type"));
+    vehicle.setFuelType(rs.getString("fuel_type"));
+    vehicle.setNumberOfDoors(rs.getObject("number_of_doors", Integer.class));
+    vehicle.setMotorcycleType(rs.getString("motorcycle_type"));
+    return vehicle;
+  }
+
+  /**
+   * Filtro de una eliminación masiva: valores exactos de las columnas de {@code vehicle_read}; los
+   * {@code null} no filtran.
+   */
+  public record Filter(
+      VehicleStatus status,
+      String brand,
+      String model,
+      String line,
+      String cityRegistered,
+      LocalDateTime updatedBefore) {}
+
+  /** Resultado de un bloque de {@link #archiveDeletedMatching}. */
+  public record Chunk(List<VehicleSnapshot> moved, Long lastSelectedId) {}
+}
@@ -0,0 +1,128 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lectura por páginas de vehículos para exportarlos a CSV.
+ *
+ * <p>Lee de {@code vehicle_read}, que los triggers mantienen aunque el modelo de lectura no esté
+ * habilitado para la API, así que no hay {@code JOIN} con la tabla del subtipo. Las columnas usan
+ * los nombres de la API en el mismo formato que acepta la importación (los precios, guardados en
+ * centavos, salen en pesos con dos decimales). Cada página es una consulta por keyset sobre {@code
+ * (vehicle_type, id)}: una exportación larga no retiene una transacción ni un snapshot abiertos, y
+ * su costo por página no crece con el avance.
+ */
+@Repository
+public class VehicleExportRepository {
+
+  private static final Map<String, String> COMMON_COLUMNS = new LinkedHashMap<>();
+  private static final Map<String, String> CAR_COLUMNS = new LinkedHashMap<>();
+  private static final Map<String, String> MOTORCYCLE_COLUMNS = new LinkedHashMap<>();
+
+  static {
+    COMMON_COLUMNS.put("plate", "plate");
+    COMMON_COLUMNS.put("brand", "brand");
+    COMMON_COLUMNS.put("model", "model");
+    COMMON_COLUMNS.put("line", "line");
+    COMMON_COLUMNS.put("capacity", "capacity");
+    COMMON_COLUMNS.put("motorNumber", "motor_number");
+    COMMON_COLUMNS.put("serialNumber", "serial_number");
+    COMMON_COLUMNS.put("chassisNumber", "chassis_number");
+    COMMON_COLUMNS.put("color", "color");
+    COMMON_COLUMNS.put("cityRegistered", "city_registered");
+    COMMON_COLUMNS.put("year", "year");
+    COMMON_COLUMNS.put("mileage", "mileage");
+    COMMON_COLUMNS.put("transmission", "transmission");
+    COMMON_COLUMNS.put("status", "status");
+    COMMON_COLUMNS.put("purchasePrice", "round(purchase_price / 100.0, 2)");
+    COMMON_COLUMNS.put("salePrice", "round(sale_price / 100.0, 2)");
+    COMMON_COLUMNS.put("photoUrl", "photo_url");
+
+    CAR_COLUMNS.put("bodyType", "body_type");
+    CAR_COLUMNS.put("fuelType", "fuel_type");
+    CAR_COLUMNS.put("numberOfDoors", "number_of_doors");
+
+    MOTORCYCLE_COLUMNS.put("motorcycleType", "motorcycle_type");
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehicleExportRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Encabezado del CSV de un tipo de vehículo. */
+  public static List<String> header(VehicleType type) {
+    List<String> header = new ArrayList<>(COMMON_COLUMNS.keySet());
+    header.addAll(subtypeColumns(type).keySet());
+    return header;
+  }
+
+  public long count(VehicleType type, VehicleStatus status) {
+    Long count =
+        status == null
+            ? jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM vehicle_read WHERE vehicle_type = ?", Long.class, type.name())
+            : jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM vehicle_read WHERE vehicle_type = ? AND status = ?",
+                Long.class,
+                type.name(),
+                status.name());
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Recorre una página de vehículos de un tipo en orden de id, con las columnas en el orden de
+   * {@link #header(VehicleType)}.
+   *
+   * @param status estado por el que filtrar, o {@code null} para todos.
+   * @param afterId id del último vehículo de la página anterior ({@code 0} para la primera).
+   * @param rowConsumer recibe cada fila; el arreglo se reutiliza entre filas.
+   * @return id del último vehículo de la página, o {@code afterId} si la página está vacía.
+   */
+  public long page(
+      VehicleType type,
+      VehicleStatus status,
+      long afterId,
+      int limit,
+      Consumer<String[]> rowConsumer) {
+    List<String> columns = new ArrayList<>(COMMON_COLUMNS.values());
+    columns.addAll(subtypeColumns(type).values());
+    String sql =
+        "SELECT id, "
+            + String.join(", ", columns)
+            + " FROM vehicle_read WHERE vehicle_type = ? AND id > ?"
+            + (status == null ? "" : " AND status = ?")
+            + " ORDER BY vehicle_type, id LIMIT ?";
+    Object[] args =
+        status == null
+            ? new Object[] {type.name(), afterId, limit}
+            : new Object[] {type.name(), afterId, status.name(), limit};
+
+    String[] row = new String[columns.size()];
+    long[] lastId = {afterId};
+    jdbcTemplate.query(
+        sql,
+        rs -> {
+          lastId[0] = rs.getLong(1);
+          for (int i = 0; i < row.length; i++) {
+            row[i] = rs.getString(i + 2);
+          }
+          rowConsumer.accept(row);
+        },
+        args);
+    return lastId[0];
+  }
+
+  private static Map<String, String> subtypeColumns(VehicleType type) {
+    return type == VehicleType.CAR ? CAR_COLUMNS : MOTORCYCLE_COLUMNS;
+  }
+}
@@ -0,0 +1,228 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.dto.StatusDuration;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
+import com.sgivu.vehicle.enums.VehicleChangeType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Historial de cambios de los vehículos ({@code vehicle_history}, particionada por mes de {@code
+ * changed_at}).
+ *
+ * <p>Las consultas por periodo comparan {@code changed_at} directamente con los parámetros para que
+ * PostgreSQL descarte las particiones fuera del rango. El estado de cada vehículo al inicio del
+ * periodo sale del {@code previous_status} de su primer cambio dentro del rango o, si no tuvo
+ * cambios, del de su primer cambio posterior; {@code vehicle_read} solo da el estado de los que no
+ * volvieron a cambiar. No se leen las particiones anteriores al periodo.
+ */
+@Repository
+public class VehicleHistoryRepository {
+
+  private static final String INSERT =
+      """
+      INSERT INTO vehicle_history (vehicle_id, vehicle_type, change_type, previous_status,
+                                   status, changed_by, changed_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String FIND_TIMELINE =
+      """
+      SELECT changed_at, change_type, previous_status, status, changed_by,
+             CASE WHEN status IS NOT NULL THEN
+                 round((extract(epoch FROM coalesce(lead(changed_at) OVER w, localtimestamp)
+                     - changed_at) / 86400)::numeric, 2)::double precision
+             END AS days_in_status
+      FROM vehicle_history
+      WHERE vehicle_id = ? AND vehicle_type = ?
+      WINDOW w AS (ORDER BY changed_at, id)
+      ORDER BY changed_at, id
+      """;
+
+  /**
+   * Cada cambio abre un intervalo en su estado hasta el siguiente cambio del vehículo (o el fin del
+   * periodo); antes del primero, el vehículo estaba en su {@code previous_status}. Los vehículos
+   * sin cambios en el periodo pasaron todo el periodo en el {@code previous_status} de su primer
+   * cambio posterior ({@code later}; también los eliminados o archivados después) o, si no
+   * volvieron a cambiar, en su estado actual de {@code vehicle_read}.
+   */
+  private static final String STATUS_DURATIONS =
+      """
+      WITH events AS (
+          SELECT vehicle_id, previous_status, status, changed_at,
+                 row_number() OVER w AS seq,
+                 lead(changed_at) OVER w AS next_at
+          FROM vehicle_history
+          WHERE changed_at >= ? AND changed_at < ?%1$s
+          WINDOW w AS (PARTITION BY vehicle_id ORDER BY changed_at, id)
+      ), later AS (
+          SELECT DISTINCT ON (vehicle_id) vehicle_id, previous_status
+          FROM vehicle_history
+          WHERE changed_at >= ?%1$s
+          ORDER BY vehicle_id, changed_at, id
+      ), quiet AS (
+          SELECT coalesce(l.vehicle_id, r.id) AS vehicle_id,
+                 CASE WHEN l.vehicle_id IS NOT NULL THEN l.previous_status ELSE r.status END
+                     AS status,
+                 greatest(r.created_at, ?::timestamp) AS started_at
+          FROM later l
+          FULL JOIN (SELECT id, status, created_at FROM vehicle_read WHERE created_at < ?%1$s) r
+              ON r.id = l.vehicle_id
+      ), intervals AS (
+          SELECT vehicle_id, previous_status AS status, ?::timestamp AS started_at,
+                 changed_at AS ended_at
+          FROM events
+          WHERE seq = 1 AND previous_status IS NOT NULL
+          UNION ALL
+          SELECT vehicle_id, status, changed_at, coalesce(next_at, ?::timestamp)
+          FROM events
+          WHERE status IS NOT NULL
+          UNION ALL
+          SELECT vehicle_id, status, started_at, ?::timestamp
+          FROM quiet q
+          WHERE status IS NOT NULL
+            AND NOT EXISTS (SELECT 1 FROM events e WHERE e.vehicle_id = q.vehicle_id)
+      ), per_vehicle AS (
+          SELECT status, vehicle_id, sum(extract(epoch FROM ended_at - started_at)) / 86400 AS days
+          FROM intervals
+          GROUP BY status, vehicle_id
+      )
+      SELECT status,
+             count(*) AS vehicles,
+             round(sum(days)::numeric, 2) AS total_days,
+             round(avg(days)::numeric, 2) AS average_days,
+             round(percentile_cont(0.5) WITHIN GROUP (ORDER BY days)::numeric, 2) AS median_days
+      FROM per_vehicle
+      GROUP BY status
+      ORDER BY status
+      """;
+
+  private static final String TYPE_FILTER = " AND vehicle_type = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehicleHistoryRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Inserta los cambios con una sola sentencia por lote de JDBC. */
+  public void insertAll(List<Change> changes) {
+    jdbcTemplate.batchUpdate(
+        INSERT,
+        changes,
+        changes.size(),
+        (ps, change) -> {
+          ps.setLong(1, change.vehicleId());
+          ps.setString(2, change.type().name());
+          ps.setString(3, change.changeType().name());
+          ps.setString(4, name(change.previousStatus()));
+          ps.setString(5, name(change.status()));
+          ps.setString(6, change.changedBy());
+          ps.setObject(7, change.changedAt());
+        });
+  }
+
+  /** Cambios de un vehículo en orden cronológico, con el tiempo que duró cada estado. */
+  public List<VehicleHistoryEntry> findTimeline(long vehicleId, VehicleType type) {
+    return jdbcTemplate.query(
+        FIND_TIMELINE,
+        (rs, i) ->
+            new VehicleHistoryEntry(
+                rs.getObject("changed_at", LocalDateTime.class),
+                VehicleChangeType.valueOf(rs.getString("change_type")),
+                status(rs, "previous_status"),
+                status(rs, "status"),
+                rs.getString("changed_by"),
+                rs.getObject("days_in_status", Double.class)),
+        vehicleId,
+        type.name());
+  }
+
+  /**
+   * Días que los vehículos pasaron en cada estado entre {@code from} (inclusive) y {@code to}
+   * (exclusivo, no posterior al instante actual).
+   *
+   * @param type tipo de vehículo, o {@code null} para todos.
+   */
+  public List<StatusDuration> statusDurations(
+      LocalDateTime from, LocalDateTime to, VehicleType type) {
+    String typeName = type == null ? null : type.name();
+    List<Object> args = new ArrayList<>();
+    addWithType(args, typeName, from, to);
+    addWithType(args, typeName, to);
+    args.add(from);
+    addWithType(args, typeName, to);
+    args.addAll(List.of(from, to, to));
+    return jdbcTemplate.query(
+        STATUS_DURATIONS.formatted(type == null ? "" : TYPE_FILTER),
+        (rs, i) ->
+            new StatusDuration(
+                VehicleStatus.valueOf(rs.getString("status")),
+                rs.getLong("vehicles"),
+                rs.getDouble("total_days"),
+                rs.getDouble("average_days"),
+                rs.getDouble("median_days")),
+        args.toArray());
+  }
+
+  /**
+   * Crea las particiones mensuales que falten desde el mes en curso hasta {@code monthsAhead} meses
+   * adelante.
+   *
+   * @return número de particiones creadas.
+   */
+  public int createPartitions(int monthsAhead) {
+    Integer created =
+        jdbcTemplate.queryForObject(
+            "SELECT vehicle_history_create_partitions(?)", Integer.class, monthsAhead);
+    return created == null ? 0 : created;
+  }
+
+  /**
+   * Como {@link #createPartitions(int)}, pero desde el mes de {@code firstDay}, para cargar
+   * historial con fechas pasadas sin llenar la partición por defecto.
+   */
+  public int createPartitions(LocalDateTime firstDay, int monthsAhead) {
+    Integer created =
+        jdbcTemplate.queryForObject(
+            "SELECT vehicle_history_create_partitions(?, ?)",
+            Integer.class,
+            firstDay,
+            monthsAhead);
+    return created == null ? 0 : created;
+  }
+
+  /** Agrega los parámetros de una condición seguida, si hay tipo, del filtro por tipo. */
+  private static void addWithType(List<Object> args, String typeName, Object... values) {
+    args.addAll(List.of(values));
+    if (typeName != null) {
+      args.add(typeName);
+    }
+  }
+
+  private static String name(Enum<?> value) {
+    return value == null ? null : value.name();
+  }
+
+  private static VehicleStatus status(ResultSet rs, String column) throws SQLException {
+    String value = rs.getString(column);
+    return value == null ? null : VehicleStatus.valueOf(value);
+  }
+
+  /** Cambio pendiente de registrar. */
+  public record Change(
+      long vehicleId,
+      VehicleType type,
+      VehicleChangeType changeType,
+      VehicleStatus previousStatus,
+      VehicleStatus status,
+      String changedBy,
+      LocalDateTime changedAt) {}
+}
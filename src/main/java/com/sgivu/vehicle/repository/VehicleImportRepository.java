@@ -0,0 +1,257 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Carga masiva de vehículos ya validados.
+ *
+ * <p>Cada lote se copia con {@code COPY} a una tabla temporal ({@code ON COMMIT DROP}) y se inserta
+ * en {@code vehicles} y la tabla del subtipo con una única sentencia. {@code ON CONFLICT DO
+ * NOTHING} descarta las filas que repiten placa, motor, serie o chasis (ya registrados o repetidos
+ * dentro del archivo), que se devuelven como conflictos. Debe ejecutarse dentro de una transacción.
+ *
+ * <p>{@code search_terms} se calcula en el mismo {@code INSERT} (igual que los triggers de {@code
+ * cars} / {@code motorcycles}) para que esos triggers no reescriban cada fila recién insertada. La
+ * misma sentencia registra el alta de cada vehículo en {@code vehicle_history}.
+ *
+ * <p>{@code created_at} / {@code updated_at} se toman del vehículo si los trae (datos sintéticos
+ * con fechas repartidas en el tiempo); si no, son la hora de la carga, como en una importación CSV.
+ */
+@Repository
+public class VehicleImportRepository {
+
+  private static final String CREATE_STAGING =
+      """
+      CREATE TEMP TABLE vehicle_import_staging (
+          row_number      BIGINT PRIMARY KEY,
+          brand           TEXT,
+          model           TEXT,
+          capacity        INT,
+          line            TEXT,
+          plate           TEXT,
+          motor_number    TEXT,
+          serial_number   TEXT,
+          chassis_number  TEXT,
+          color           TEXT,
+          city_registered TEXT,
+          year            INT,
+          mileage         INT,
+          transmission    TEXT,
+          status          TEXT,
+          purchase_price  BIGINT,
+          sale_price      BIGINT,
+          photo_url       TEXT,
+          body_type       TEXT,
+          fuel_type       TEXT,
+          number_of_doors INT,
+          motorcycle_type TEXT,
+          created_at      TIMESTAMP,
+          updated_at      TIMESTAMP
+      ) ON COMMIT DROP
+      """;
+
+  private static final String COPY_STAGING =
+      "COPY vehicle_import_staging FROM STDIN WITH (FORMAT csv)";
+
+  private static final String INSERT_VEHICLES =
+      """
+      WITH staged AS MATERIALIZED (
+          SELECT nextval('vehicles_id_seq') AS id, s.*
+          FROM vehicle_import_staging s
+          ORDER BY s.row_number
+      ), inserted AS (
+          INSERT INTO vehicles (id, brand, model, capacity, line, plate, motor_number,
+                                serial_number, chassis_number, color, city_registered, year,
+                                mileage, transmission, status, purchase_price, sale_price,
+                                photo_url, search_terms, created_at, updated_at)
+          SELECT id, brand, model, capacity, line, plate, motor_number, serial_number,
+                 chassis_number, color, city_registered, year, mileage, transmission, status,
+                 purchase_price, sale_price, photo_url,
+                 concat_ws(' ', body_type, fuel_type, motorcycle_type),
+                 coalesce(created_at, localtimestamp), coalesce(updated_at, localtimestamp)
+          FROM staged
+          ON CONFLICT DO NOTHING
+          RETURNING id
+      ), subtype AS (
+          %s
+      ), history AS (
+          INSERT INTO vehicle_history (vehicle_id, vehicle_type, change_type, status, changed_at)
+          SELECT s.id, '%s', 'CREATED', s.status, coalesce(s.created_at, localtimestamp)
+          FROM staged s JOIN inserted i ON i.id = s.id
+      )
+      SELECT s.row_number FROM staged s WHERE s.id NOT IN (SELECT id FROM inserted)
+      """;
+
+  private static final String INSERT_CARS =
+      """
+      INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)
+          SELECT s.id, s.body_type, s.fuel_type, s.number_of_doors
+          FROM staged s JOIN inserted i ON i.id = s.id""";
+
+  private static final String INSERT_MOTORCYCLES =
+      """
+      INSERT INTO motorcycles (vehicle_id, motorcycle_type)
+          SELECT s.id, s.motorcycle_type FROM staged s JOIN inserted i ON i.id = s.id""";
+
+  private static final String FIND_CONFLICTS =
+      """
+      SELECT s.row_number,
+        EXISTS (SELECT 1 FROM vehicles v WHERE v.plate = s.plate) AS plate,
+        EXISTS (SELECT 1 FROM vehicles v WHERE v.motor_number = s.motor_number) AS motor_number,
+        EXISTS (SELECT 1 FROM vehicles v WHERE v.serial_number = s.serial_number) AS serial_number,
+        EXISTS (SELECT 1 FROM vehicles v WHERE v.chassis_number = s.chassis_number)
+            AS chassis_number
+      FROM vehicle_import_staging s
+      WHERE s.row_number = ANY (?)
+      ORDER BY s.row_number
+      """;
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final SQLExceptionTranslator exceptionTranslator = new SQLStateSQLExceptionTranslator();
+
+  public VehicleImportRepository(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Inserta un lote de vehículos del mismo tipo.
+   *
+   * @param type tipo de los vehículos del lote.
+   * @param rows vehículos validados con su número de fila en el archivo.
+   * @return las filas que no se insertaron por repetir un identificador único.
+   */
+  public List<Conflict> insertBatch(VehicleType type, List<StagedVehicle> rows) {
+    jdbcTemplate.execute(CREATE_STAGING);
+    copy(rows);
+
+    String subtype = type == VehicleType.CAR ? INSERT_CARS : INSERT_MOTORCYCLES;
+    List<Long> rejected =
+        jdbcTemplate.queryForList(INSERT_VEHICLES.formatted(subtype, type.name()), Long.class);
+    if (rejected.isEmpty()) {
+      return List.of();
+    }
+
+    return jdbcTemplate.query(
+        FIND_CONFLICTS,
+        (rs, i) -> {
+          List<String> fields = new ArrayList<>(4);
+          if (rs.getBoolean("plate")) fields.add("plate");
+          if (rs.getBoolean("motor_number")) fields.add("motorNumber");
+          if (rs.getBoolean("serial_number")) fields.add("serialNumber");
+          if (rs.getBoolean("chassis_number")) fields.add("chassisNumber");
+          return new Conflict(rs.getLong("row_number"), fields);
+        },
+        (Object) rejected.toArray(Long[]::new));
+  }
+
+  private void copy(List<StagedVehicle> rows) {
+    StringBuilder csv = new StringBuilder(rows.size() * 256);
+    for (StagedVehicle row : rows) {
+      appendRow(csv, row);
+    }
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      connection
+          .unwrap(PGConnection.class)
+          .getCopyAPI()
+          .copyIn(COPY_STAGING, new StringReader(csv.toString()));
+    } catch (SQLException e) {
+      throw exceptionTranslator.translate("COPY vehicle_import_staging", COPY_STAGING, e);
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException("Error al enviar el lote con COPY", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private static void appendRow(StringBuilder csv, StagedVehicle row) {
+    Vehicle v = row.vehicle();
+    csv.append(row.rowNumber());
+    append(csv, v.getBrand());
+    append(csv, v.getModel());
+    append(csv, v.getCapacity());
+    append(csv, v.getLine());
+    append(csv, v.getPlate());
+    append(csv, v.getMotorNumber());
+    append(csv, v.getSerialNumber());
+    append(csv, v.getChassisNumber());
+    append(csv, v.getColor());
+    append(csv, v.getCityRegistered());
+    append(csv, v.getYear());
+    append(csv, v.getMileage());
+    append(csv, v.getTransmission());
+    append(csv, v.getStatus().name());
+    append(csv, minorUnits(v.getPurchasePrice()));
+    append(csv, minorUnits(v.getSalePrice()));
+    append(csv, v.getPhotoUrl());
+    if (v instanceof Car car) {
+      append(csv, car.getBodyType());
+      append(csv, car.getFuelType());
+      append(csv, car.getNumberOfDoors());
+      append(csv, null);
+    } else {
+      append(csv, null);
+      append(csv, null);
+      append(csv, null);
+      append(csv, ((Motorcycle) v).getMotorcycleType());
+    }
+    append(csv, v.getCreatedAt());
+    append(csv, v.getUpdatedAt());
+    csv.append('\n');
+  }
+
+  /** Los precios viajan en centavos, igual que en {@code vehicles}. */
+  private static Long minorUnits(Money money) {
+    return money == null ? null : money.minorUnits();
+  }
+
+  /** Agrega un campo; {@code null} queda sin comillas, que {@code COPY ... csv} lee como NULL. */
+  private static void append(StringBuilder csv, Object value) {
+    csv.append(',');
+    if (value == null) {
+      return;
+    }
+    String text = value.toString();
+    csv.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        csv.append('"');
+      }
+      csv.append(c);
+    }
+    csv.append('"');
+  }
+
+  /** Vehículo validado y su número de fila en el archivo de origen. */
+  public record StagedVehicle(long rowNumber, Vehicle vehicle) {}
+
+  /**
+   * Fila descartada por repetir identificadores únicos.
+   *
+   * @param fields campos repetidos, con los nombres de la API ({@code plate}, {@code
+   *     motorNumber}...).
+   */
+  public record Conflict(long rowNumber, List<String> fields) {}
+}
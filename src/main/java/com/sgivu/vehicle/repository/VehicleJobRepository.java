@@ -0,0 +1,139 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.JobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Estado de los trabajos en segundo plano. Las transiciones se hacen con {@code UPDATE}
+ * condicionados al estado actual, de modo que un trabajo terminado no vuelve a cambiar aunque otra
+ * instancia (o la detección de huérfanos) lo toque a la vez.
+ */
+public interface VehicleJobRepository extends JpaRepository<VehicleJob, Long> {
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.status = com.sgivu.vehicle.enums.JobStatus.RUNNING,
+             j.startedAt = :now, j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.sgivu.vehicle.enums.JobStatus.QUEUED
+        AND j.cancelRequested = false
+      """)
+  int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.processedRows = :processedRows, j.totalRows = :totalRows,
+             j.progress = :progress, j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.sgivu.vehicle.enums.JobStatus.RUNNING
+      """)
+  int updateProgress(
+      @Param("id") Long id,
+      @Param("processedRows") long processedRows,
+      @Param("totalRows") Long totalRows,
+      @Param("progress") short progress,
+      @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.status = :status, j.resultPath = :resultPath,
+             j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now
+      WHERE j.id = :id AND j.status IN (com.sgivu.vehicle.enums.JobStatus.QUEUED,
+                                        com.sgivu.vehicle.enums.JobStatus.RUNNING)
+      """)
+  int finish(
+      @Param("id") Long id,
+      @Param("status") JobStatus status,
+      @Param("resultPath") String resultPath,
+      @Param("errorMessage") String errorMessage,
+      @Param("now") LocalDateTime now);
+
+  /** Cancela un trabajo que aún no empezó; el worker lo descarta al sacarlo de la cola. */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.status = com.sgivu.vehicle.enums.JobStatus.CANCELLED,
+             j.cancelRequested = true, j.finishedAt = :now, j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.sgivu.vehicle.enums.JobStatus.QUEUED
+      """)
+  int cancelIfQueued(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  /** Pide a un trabajo en curso que se detenga en su siguiente punto de control. */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.cancelRequested = true, j.updatedAt = :now
+      WHERE j.id = :id AND j.status = com.sgivu.vehicle.enums.JobStatus.RUNNING
+      """)
+  int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  @Query("SELECT j.cancelRequested FROM VehicleJob j WHERE j.id = :id")
+  boolean isCancelRequested(@Param("id") Long id);
+
+  /** Latido de los trabajos pendientes o en curso de una instancia. */
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.updatedAt = :now
+      WHERE j.workerId = :workerId AND j.status IN (com.sgivu.vehicle.enums.JobStatus.QUEUED,
+                                                    com.sgivu.vehicle.enums.JobStatus.RUNNING)
+      """)
+  int heartbeat(@Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+  /** Marca como fallidos los trabajos cuya instancia dejó de enviar latidos. */
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.status = com.sgivu.vehicle.enums.JobStatus.FAILED,
+             j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now
+      WHERE j.status IN (com.sgivu.vehicle.enums.JobStatus.QUEUED,
+                         com.sgivu.vehicle.enums.JobStatus.RUNNING)
+        AND j.updatedAt < :staleBefore
+      """)
+  int failStale(
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("errorMessage") String errorMessage,
+      @Param("now") LocalDateTime now);
+
+  /** Marca como fallidos los trabajos pendientes o en curso de una instancia que se detiene. */
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE VehicleJob j SET j.status = com.sgivu.vehicle.enums.JobStatus.FAILED,
+             j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now
+      WHERE j.workerId = :workerId AND j.status IN (com.sgivu.vehicle.enums.JobStatus.QUEUED,
+                                                    com.sgivu.vehicle.enums.JobStatus.RUNNING)
+      """)
+  int failActiveByWorker(
+      @Param("workerId") String workerId,
+      @Param("errorMessage") String errorMessage,
+      @Param("now") LocalDateTime now);
+
+  List<VehicleJob> findTop100ByFinishedAtBefore(LocalDateTime finishedBefore);
+
+  /** Cuáles de los trabajos indicados siguen pendientes o en curso. */
+  @Query(
+      """
+      SELECT j.id FROM VehicleJob j
+      WHERE j.id IN :ids AND j.status IN (com.sgivu.vehicle.enums.JobStatus.QUEUED,
+                                          com.sgivu.vehicle.enums.JobStatus.RUNNING)
+      """)
+  List<Long> findActiveIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,37 @@
+package com.sgivu.vehicle.repository;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** Referencias de los vehículos a las fotos guardadas por el servicio. */
+@Repository
+public class VehiclePhotoRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehiclePhotoRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Nombres de las fotos que referencia algún vehículo, activo o archivado, para las {@code
+   * photoUrl} que empiezan con {@code urlPrefix}. Se llama fuera de transacción, así que lee del
+   * principal y no de una réplica atrasada.
+   */
+  public Set<String> findReferencedNames(String urlPrefix) {
+    Set<String> names = new HashSet<>();
+    jdbcTemplate.query(
+        "SELECT substr(photo_url, ?) FROM vehicles WHERE photo_url LIKE ?"
+            + " UNION SELECT substr(photo_url, ?) FROM vehicles_archive WHERE photo_url LIKE ?",
+        rs -> {
+          names.add(rs.getString(1));
+        },
+        urlPrefix.length() + 1,
+        urlPrefix + "%",
+        urlPrefix.length() + 1,
+        urlPrefix + "%");
+    return names;
+  }
+}
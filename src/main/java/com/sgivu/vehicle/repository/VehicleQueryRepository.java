@@ -0,0 +1,79 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.config.VehicleCache;
+import com.sgivu.vehicle.entity.Vehicle;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Consultas transversales sobre {@link Vehicle} que no dependen del subtipo (auto o motocicleta).
+ */
+public interface VehicleQueryRepository extends Repository<Vehicle, Long> {
+
+  /**
+   * Busca vehículos por texto libre usando la columna {@code search_vector} (índice GIN) y devuelve
+   * los identificadores ordenados por relevancia.
+   *
+   * <p>Con la caché activa, la página y el conteo se guardan en {@link
+   * VehicleCache#SEARCH_QUERIES}. Al ser SQL nativo, Hibernate no sabe qué tablas lee: la pista
+   * {@code vehicles} hace que cualquier escritura de un vehículo invalide las búsquedas guardadas.
+   *
+   * @param query texto ingresado por el usuario, interpretado con {@code websearch_to_tsquery}.
+   * @param pageable página solicitada; el orden lo define la relevancia, no {@code pageable}.
+   * @return identificadores de los vehículos que coinciden, del más al menos relevante.
+   */
+  @Query(
+      value =
+          "SELECT v.id FROM vehicles v, websearch_to_tsquery('public.sgivu_spanish', :query) q"
+              + " WHERE v.search_vector @@ q"
+              + " ORDER BY ts_rank_cd(v.search_vector, q) DESC, v.id",
+      countQuery =
+          "SELECT count(*) FROM vehicles v"
+              + " WHERE v.search_vector @@ websearch_to_tsquery('public.sgivu_spanish', :query)",
+      nativeQuery = true)
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VehicleCache.SEARCH_QUERIES),
+    @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vehicles")
+  })
+  Page<Long> searchIds(@Param("query") String query, Pageable pageable);
+
+  @CachedVehicleQuery
+  List<Vehicle> findByIdIn(Collection<Long> ids);
+
+  /**
+   * Cuenta los valores distintos de los campos usados para autocompletar, recorriendo la tabla una
+   * sola vez mediante {@code GROUPING SETS}.
+   *
+   * @return una fila por campo y valor, con el número de vehículos que lo usan.
+   */
+  @Query(
+      value =
+          "SELECT CASE WHEN GROUPING(brand) = 0 THEN 'BRAND'"
+              + " WHEN GROUPING(model) = 0 THEN 'MODEL'"
+              + " WHEN GROUPING(line) = 0 THEN 'LINE'"
+              + " WHEN GROUPING(color) = 0 THEN 'COLOR'"
+              + " ELSE 'CITY' END AS field,"
+              + " coalesce(brand, model, line, color, city_registered) AS value,"
+              + " count(*) AS total"
+              + " FROM vehicles"
+              + " GROUP BY GROUPING SETS ((brand), (model), (line), (color), (city_registered))",
+      nativeQuery = true)
+  List<TermCount> countSuggestionTerms();
+
+  interface TermCount {
+    String getField();
+
+    String getValue();
+
+    Long getTotal();
+  }
+}
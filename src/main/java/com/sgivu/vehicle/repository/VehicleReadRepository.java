@@ -0,0 +1,63 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.VehicleRead;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** Consultas sobre el modelo de lectura {@code vehicle_read}, filtradas por tipo de vehículo. */
+public interface VehicleReadRepository extends JpaRepository<VehicleRead, Long> {
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleType(VehicleType vehicleType);
+
+  @CachedReadModelQuery
+  Page<VehicleRead> findByVehicleType(VehicleType vehicleType, Pageable pageable);
+
+  @CachedReadModelQuery
+  long countByVehicleType(VehicleType vehicleType);
+
+  @CachedReadModelQuery
+  long countByVehicleTypeAndStatus(VehicleType vehicleType, VehicleStatus status);
+
+  @CachedReadModelQuery
+  Window<VehicleRead> findByVehicleTypeAndStatusOrderByUpdatedAtDescIdDesc(
+      VehicleType vehicleType, VehicleStatus status, ScrollPosition position, Limit limit);
+
+  @CachedReadModelQuery
+  Optional<VehicleRead> findByVehicleTypeAndPlate(VehicleType vehicleType, String plate);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndPlateContainingIgnoreCase(
+      VehicleType vehicleType, String plate);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndBrandContainingIgnoreCase(
+      VehicleType vehicleType, String brand);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndModelContainingIgnoreCase(
+      VehicleType vehicleType, String model);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndLineContainingIgnoreCase(
+      VehicleType vehicleType, String line);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndFuelTypeContainingIgnoreCase(
+      VehicleType vehicleType, String fuelType);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndBodyTypeContainingIgnoreCase(
+      VehicleType vehicleType, String bodyType);
+
+  @CachedReadModelQuery
+  List<VehicleRead> findByVehicleTypeAndMotorcycleTypeContainingIgnoreCase(
+      VehicleType vehicleType, String motorcycleType);
+}
@@ -4,9 +4,28 @@ import com.sgivu.vehicle.entity.Vehicle;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+/**
+ * Consultas comunes a autos y motocicletas. Los listados paginados y las búsquedas exactas se
+ * guardan en la caché de consultas cuando está activa ({@link CachedVehicleQuery}); las lecturas
+ * por id usan la caché de entidades.
+ *
+ * <p>{@code findAll()} y las búsquedas parciales ({@code *Containing*}) no se guardan: devuelven
+ * listas sin límite, y al acertar Hibernate buscaría cada id en la región {@code vehicles}, más
+ * pequeña que la tabla, con una consulta por cada entidad que ya no esté en ella.
+ */
 public interface VehicleRepository<T extends Vehicle> extends JpaRepository<T, Long> {
+  @CachedVehicleQuery
+  @Override
+  Page<T> findAll(Pageable pageable);
+
+  @CachedVehicleQuery
   Optional<T> findByPlate(String plate);
 
   List<T> findByPlateContainingIgnoreCase(String plate);
@@ -17,5 +36,10 @@ public interface VehicleRepository<T extends Vehicle> extends JpaRepository<T, L
 
   List<T> findByLineContainingIgnoreCase(String line);
 
+  @CachedVehicleQuery
   long countByStatus(VehicleStatus status);
+
+  @CachedVehicleQuery
+  Window<T> findByStatusOrderByUpdatedAtDescIdDesc(
+      VehicleStatus status, ScrollPosition position, Limit limit);
 }
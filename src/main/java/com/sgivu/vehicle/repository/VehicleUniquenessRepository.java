@@ -0,0 +1,85 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.dto.VehicleIdentifiers;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Búsqueda de identificadores únicos ya registrados para un lote de candidatos.
+ *
+ * <p>Los candidatos viajan como arreglos paralelos ({@code unnest ... WITH ORDINALITY}) y cada campo
+ * se cruza con su índice único en una rama del {@code UNION ALL}: una sola consulta con búsquedas
+ * por índice, sin importar cuántos candidatos haya.
+ */
+@Repository
+public class VehicleUniquenessRepository {
+
+  private static final String FIND_MATCHES =
+      """
+      WITH c AS (
+          SELECT *
+          FROM unnest(?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[])
+              WITH ORDINALITY AS c(exclude_id, plate, motor_number, serial_number,
+                                   chassis_number, ord)
+      )
+      SELECT c.ord, 'plate' AS field, v.id
+      FROM c JOIN vehicles v ON v.plate = c.plate
+      WHERE v.id IS DISTINCT FROM c.exclude_id
+      UNION ALL
+      SELECT c.ord, 'motorNumber', v.id
+      FROM c JOIN vehicles v ON v.motor_number = c.motor_number
+      WHERE v.id IS DISTINCT FROM c.exclude_id
+      UNION ALL
+      SELECT c.ord, 'serialNumber', v.id
+      FROM c JOIN vehicles v ON v.serial_number = c.serial_number
+      WHERE v.id IS DISTINCT FROM c.exclude_id
+      UNION ALL
+      SELECT c.ord, 'chassisNumber', v.id
+      FROM c JOIN vehicles v ON v.chassis_number = c.chassis_number
+      WHERE v.id IS DISTINCT FROM c.exclude_id
+      ORDER BY 1
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehicleUniquenessRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * @return los identificadores de los candidatos que ya pertenecen a otro vehículo, ordenados por
+   *     posición del candidato.
+   */
+  public List<Match> findMatches(List<VehicleIdentifiers> candidates) {
+    int size = candidates.size();
+    Long[] ids = new Long[size];
+    String[] plates = new String[size];
+    String[] motorNumbers = new String[size];
+    String[] serialNumbers = new String[size];
+    String[] chassisNumbers = new String[size];
+    for (int i = 0; i < size; i++) {
+      VehicleIdentifiers candidate = candidates.get(i);
+      ids[i] = candidate.getId();
+      plates[i] = candidate.getPlate();
+      motorNumbers[i] = candidate.getMotorNumber();
+      serialNumbers[i] = candidate.getSerialNumber();
+      chassisNumbers[i] = candidate.getChassisNumber();
+    }
+    return jdbcTemplate.query(
+        FIND_MATCHES,
+        (rs, i) -> new Match((int) rs.getLong(1) - 1, rs.getString(2), rs.getLong(3)),
+        ids,
+        plates,
+        motorNumbers,
+        serialNumbers,
+        chassisNumbers);
+  }
+
+  /**
+   * @param index posición del candidato en el lote.
+   * @param field campo repetido, con el nombre de la API.
+   * @param vehicleId vehículo registrado que ya usa el valor.
+   */
+  public record Match(int index, String field, long vehicleId) {}
+}
@@ -2,10 +2,15 @@ package com.sgivu.vehicle.security;
 
 import com.sgivu.vehicle.config.InternalServiceAuthorizationManager;
 import com.sgivu.vehicle.config.ServicesProperties;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.AuthorizationManager;
@@ -18,16 +23,25 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
+  /** Perfil de pruebas de carga, el único en el que se acepta {@code vehicle.security.jwt.secret}. */
+  private static final String PERF_PROFILE = "perf";
+
+  /** Emisor ({@code iss}) que deben llevar los tokens firmados con la clave local. */
+  private static final String LOCAL_ISSUER = "sgivu-load-test";
+
   private final InternalServiceAuthorizationManager internalServiceAuthManager;
   private final ServicesProperties servicesProperties;
 
@@ -45,10 +59,10 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             authz ->
                 authz
-                    .requestMatchers("/actuator/health", "/actuator/info")
+                    .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info")
                     .permitAll()
                     // Servicios internos (clave) o clientes autenticados pueden acceder
-                    .requestMatchers("/v1/cars/**", "/v1/motorcycles/**")
+                    .requestMatchers("/v1/cars/**", "/v1/motorcycles/**", "/v1/vehicles/**")
                     .access(internalOrAuthenticatedAuthorizationManager())
                     .anyRequest()
                     .authenticated())
@@ -73,11 +87,33 @@ public class SecurityConfig {
     return AuthorizationManagers.anyOf(internalServiceAuthManager, authenticatedManager);
   }
 
+  /**
+   * Decodificador de JWT cuyo descubrimiento del emisor (metadatos OIDC y JWK Set) se difiere hasta
+   * el primer token recibido, para que el arranque no espere ni dependa de {@code sgivu-auth}.
+   *
+   * <p>Con {@code vehicle.security.jwt.secret} los tokens se validan con esa clave HMAC (HS256) en
+   * lugar de las de {@code sgivu-auth}, para que las pruebas de carga firmen sus propios tokens sin
+   * el servidor de autorización; deben traer el emisor {@value #LOCAL_ISSUER}. La clave solo se
+   * acepta con el perfil {@code perf}: en cualquier otro el arranque falla, para que una clave
+   * conocida no reemplace por error la validación de {@code sgivu-auth}.
+   */
   @Bean
-  JwtDecoder jwtDecoder() {
-    return NimbusJwtDecoder.withIssuerLocation(
-            servicesProperties.getMap().get("sgivu-auth").getUrl())
-        .build();
+  JwtDecoder jwtDecoder(
+      Environment environment, @Value("${vehicle.security.jwt.secret:}") String localSecret) {
+    if (StringUtils.hasText(localSecret)) {
+      if (!environment.acceptsProfiles(Profiles.of(PERF_PROFILE))) {
+        throw new IllegalStateException(
+            "vehicle.security.jwt.secret solo se admite con el perfil " + PERF_PROFILE);
+      }
+      NimbusJwtDecoder decoder =
+          NimbusJwtDecoder.withSecretKey(
+                  new SecretKeySpec(localSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+              .build();
+      decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(LOCAL_ISSUER));
+      return decoder;
+    }
+    String issuer = servicesProperties.getMap().get("sgivu-auth").getUrl();
+    return new SupplierJwtDecoder(() -> NimbusJwtDecoder.withIssuerLocation(issuer).build());
   }
 
   /**
@@ -0,0 +1,23 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.AgeBucketReport;
+import com.sgivu.vehicle.dto.InventoryGroup;
+import com.sgivu.vehicle.enums.InventoryDimension;
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryAnalyticsService {
+
+  /**
+   * Cantidad, valor de compra y venta, margen y antigüedad promedio por grupo.
+   *
+   * @param filters valor exacto de cada dimensión por la que se filtra.
+   */
+  List<InventoryGroup> summarize(
+      InventoryDimension groupBy, Map<InventoryDimension, String> filters);
+
+  /** Distribución por días desde el alta, con el último refresco de los agregados. */
+  AgeBucketReport ageBuckets(Map<InventoryDimension, String> filters);
+
+  void refreshAgeBuckets();
+}
@@ -0,0 +1,53 @@
+package com.sgivu.vehicle.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Fotos de vehículos guardadas por el propio servicio.
+ *
+ * <p>Cada imagen se guarda una sola vez, con el hash SHA-256 de su contenido como nombre ({@code
+ * <hash>.jpg} o {@code <hash>.png}), y el vehículo la referencia en {@code photoUrl} con la URL
+ * {@code /v1/vehicles/photos/<nombre>}. Como el contenido de un nombre nunca cambia, los clientes
+ * pueden guardarla en caché indefinidamente. La miniatura ({@code /v1/vehicles/photos/thumbnails/
+ * <nombre>}) se genera en segundo plano después de la carga.
+ */
+public interface PhotoService {
+
+  String PHOTOS_PATH = "/v1/vehicles/photos/";
+  String THUMBNAILS_PATH = PHOTOS_PATH + "thumbnails/";
+
+  /**
+   * Guarda una imagen JPEG o PNG y encola la generación de su miniatura. Si la misma imagen ya
+   * estaba guardada no se duplica.
+   *
+   * @return URL de la imagen, para guardar en {@code photoUrl}.
+   * @throws com.sgivu.vehicle.exception.InvalidPhotoException si no es un JPEG o PNG legible o sus
+   *     dimensiones superan el máximo.
+   * @throws com.sgivu.vehicle.exception.PhotoTooLargeException si supera {@code
+   *     vehicle.photos.max-size}.
+   */
+  String store(InputStream image) throws IOException;
+
+  /** Archivo de una imagen guardada en esta instancia. */
+  Optional<Path> findPhoto(String name);
+
+  /**
+   * Miniatura de una imagen guardada en esta instancia. Vacío si aún no se generó; en ese caso se
+   * vuelve a encolar su generación.
+   */
+  Optional<Path> findThumbnail(String name);
+
+  /**
+   * URL de la miniatura para una {@code photoUrl}: la de la imagen guardada, o la misma URL si la
+   * foto es externa.
+   */
+  static String thumbnailUrl(String photoUrl) {
+    if (photoUrl == null || !photoUrl.startsWith(PHOTOS_PATH)) {
+      return photoUrl;
+    }
+    return THUMBNAILS_PATH + photoUrl.substring(PHOTOS_PATH.length());
+  }
+}
@@ -0,0 +1,28 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Lecturas no bloqueantes del inventario, en paralelo a las de JPA. */
+public interface ReactiveVehicleService {
+
+  /** {@code false} si {@code vehicle.reactive.enabled} no está activo. */
+  boolean isEnabled();
+
+  /**
+   * Vehículos de un tipo en orden de id, emitidos a medida que el suscriptor los solicita.
+   *
+   * @param status estado por el que filtrar, o {@code null} para todos.
+   */
+  Flux<VehicleResponse> findAll(VehicleType type, VehicleStatus status);
+
+  Mono<VehicleResponse> findById(long id, VehicleType type);
+
+  /**
+   * @param status estado por el que filtrar, o {@code null} para todos.
+   */
+  Mono<Long> count(VehicleType type, VehicleStatus status);
+}
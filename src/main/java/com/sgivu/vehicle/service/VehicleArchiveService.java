@@ -0,0 +1,24 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.BulkDeleteReport;
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
+import com.sgivu.vehicle.enums.VehicleType;
+
+public interface VehicleArchiveService {
+
+  /**
+   * Archiva por lotes los vehículos vendidos o inactivos sin cambios durante el plazo configurado.
+   *
+   * @return vehículos archivados.
+   */
+  long archiveTerminal();
+
+  /**
+   * Elimina (archiva) los vehículos del tipo indicados por id o que cumplen el filtro de la
+   * petición, en bloques confirmados uno a uno. Si un bloque falla, los anteriores se conservan.
+   * Por filtro se detiene al llegar al máximo por petición y lo indica en el resultado.
+   *
+   * @return vehículos eliminados; los ids inexistentes o de otro tipo se omiten.
+   */
+  BulkDeleteReport deleteAll(VehicleType type, BulkDeleteRequest request);
+}
@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.StatusDurationReport;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface VehicleHistoryService {
+
+  /** Cambios de un vehículo en orden cronológico; se conservan aunque el vehículo se elimine. */
+  List<VehicleHistoryEntry> findTimeline(long vehicleId, VehicleType type);
+
+  /**
+   * Días en cada estado entre {@code from} y {@code to}.
+   *
+   * @param to fin exclusivo del periodo; se recorta al instante actual.
+   * @param type tipo de vehículo, o {@code null} para todos.
+   */
+  StatusDurationReport statusDurations(LocalDateTime from, LocalDateTime to, VehicleType type);
+}
@@ -0,0 +1,36 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.ImportReport;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface VehicleImportService {
+
+  /**
+   * Importa vehículos de un tipo desde un CSV en UTF-8 con encabezado.
+   *
+   * @param type tipo de los vehículos del archivo.
+   * @param csv contenido del archivo; se lee de forma incremental.
+   * @return conteo de filas importadas y rechazadas, con el detalle de los errores.
+   */
+  default ImportReport importCsv(VehicleType type, InputStream csv) throws IOException {
+    return importCsv(type, csv, (processedRows, importedRows) -> {});
+  }
+
+  /**
+   * Igual que {@link #importCsv(VehicleType, InputStream)}, notificando el avance después de cada
+   * lote confirmado.
+   *
+   * @param listener recibe el avance; si lanza {@link java.util.concurrent.CancellationException}
+   *     la importación se detiene y los lotes ya confirmados se conservan.
+   */
+  ImportReport importCsv(VehicleType type, InputStream csv, ProgressListener listener)
+      throws IOException;
+
+  /** Avance de una importación. */
+  @FunctionalInterface
+  interface ProgressListener {
+    void onChunkLoaded(long processedRows, long importedRows);
+  }
+}
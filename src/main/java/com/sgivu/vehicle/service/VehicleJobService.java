@@ -0,0 +1,42 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface VehicleJobService {
+
+  /**
+   * Guarda el CSV recibido y encola su importación.
+   *
+   * @param createdBy usuario que solicita el trabajo.
+   * @return el trabajo en estado {@code QUEUED}.
+   * @throws com.sgivu.vehicle.exception.JobQueueFullException si la cola de trabajos está llena.
+   */
+  VehicleJob submitImport(VehicleType type, InputStream csv, String createdBy) throws IOException;
+
+  /**
+   * Encola la exportación a CSV de los vehículos de un tipo.
+   *
+   * @param status estado por el que filtrar, o {@code null} para exportar todos.
+   * @throws com.sgivu.vehicle.exception.JobQueueFullException si la cola de trabajos está llena.
+   */
+  VehicleJob submitExport(VehicleType type, VehicleStatus status, String createdBy);
+
+  Optional<VehicleJob> findById(Long id);
+
+  /**
+   * Cancela un trabajo: si aún no empezó se descarta; si está en curso se detiene en su siguiente
+   * punto de control, conservando los lotes de importación ya confirmados.
+   *
+   * @return el trabajo con su estado actualizado.
+   */
+  Optional<VehicleJob> cancel(Long id);
+
+  /** Archivo de resultado de un trabajo finalizado, si existe en esta instancia. */
+  Optional<Path> findResult(VehicleJob job);
+}
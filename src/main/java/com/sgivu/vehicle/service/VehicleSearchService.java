@@ -0,0 +1,10 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface VehicleSearchService {
+
+  Page<Vehicle> search(String query, Pageable pageable);
+}
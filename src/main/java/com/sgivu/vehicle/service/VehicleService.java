@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface VehicleService<T extends Vehicle> {
 
@@ -19,14 +21,31 @@ public interface VehicleService<T extends Vehicle> {
 
   Optional<T> update(Long id, T vehicle);
 
-  void deleteById(Long id);
+  /**
+   * Borrado lógico: mueve el vehículo al archivo con una sola sentencia, sin cargarlo antes.
+   *
+   * @return {@code false} si no existe un vehículo activo del tipo con ese id.
+   */
+  boolean deleteById(Long id);
+
+  /** Vehículo archivado (eliminado, o vendido o inactivo por más del plazo de archivado). */
+  Optional<T> findArchivedById(Long id);
+
+  long countArchived();
 
   Optional<T> findByPlate(String plate);
 
   Optional<T> changeStatus(Long id, VehicleStatus status);
 
+  /** Reemplaza la foto del vehículo por la URL de una imagen guardada con {@code PhotoService}. */
+  Optional<T> changePhoto(Long id, String photoUrl);
+
+  long count();
+
   long countByStatus(VehicleStatus status);
 
+  Window<T> findByStatus(VehicleStatus status, ScrollPosition position, int limit);
+
   List<T> findByPlateContainingIgnoreCase(String plate);
 
   List<T> findByBrandContainingIgnoreCase(String brand);
@@ -0,0 +1,12 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.SuggestionResponse;
+import com.sgivu.vehicle.enums.SuggestionField;
+import java.util.List;
+
+public interface VehicleSuggestionService {
+
+  List<SuggestionResponse> suggest(SuggestionField field, String prefix, int limit);
+
+  void rebuild();
+}
@@ -0,0 +1,26 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.UniquenessConflict;
+import com.sgivu.vehicle.dto.VehicleIdentifiers;
+import com.sgivu.vehicle.entity.Vehicle;
+import java.util.List;
+
+public interface VehicleUniquenessService {
+
+  /**
+   * Verifica un lote de candidatos con una sola consulta: valores ya registrados en otro vehículo y
+   * valores repetidos entre los propios candidatos.
+   *
+   * @return los conflictos encontrados, ordenados por posición del candidato.
+   */
+  List<UniquenessConflict> check(List<VehicleIdentifiers> candidates);
+
+  /**
+   * Verifica un vehículo antes de insertarlo o actualizarlo.
+   *
+   * @param excludeId id del vehículo que se actualiza, o {@code null} al crear.
+   * @throws com.sgivu.vehicle.exception.VehicleConflictException si algún identificador ya está en
+   *     uso.
+   */
+  void assertUnique(Vehicle vehicle, Long excludeId);
+}
@@ -1,13 +1,25 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.VehicleCache;
 import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.entity.VehicleRead;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleChangedEvent;
+import com.sgivu.vehicle.event.VehicleSnapshot;
+import com.sgivu.vehicle.repository.VehicleArchiveRepository;
 import com.sgivu.vehicle.repository.VehicleRepository;
 import com.sgivu.vehicle.service.VehicleService;
+import com.sgivu.vehicle.service.VehicleUniquenessService;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -16,6 +28,22 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>Proporciona operaciones comunes y gestión de estado para entidades de tipo {@code T} que
  * extienden {@link Vehicle}.
  *
+ * <p>Cada escritura publica un {@link VehicleChangedEvent} con el estado previo y el resultante del
+ * vehículo, para que los componentes derivados (p. ej. el índice de sugerencias) se actualicen sin
+ * volver a consultar la base de datos.
+ *
+ * <p>Antes de insertar, o de actualizar cambiando placa, motor, serie o chasis, se verifica la
+ * unicidad con una consulta indexada ({@link VehicleUniquenessService}); un identificador repetido
+ * se rechaza con {@link com.sgivu.vehicle.exception.VehicleConflictException} sin intentar la
+ * escritura. La restricción única de la base sigue cubriendo la carrera entre dos escrituras.
+ *
+ * <p>Con el modelo de lectura activo ({@link VehicleReadModel}), listados, conteos y búsquedas se
+ * resuelven sobre {@code vehicle_read} y devuelven entidades no administradas del mismo tipo.
+ *
+ * <p>Eliminar es un borrado lógico: el vehículo se mueve a {@code vehicles_archive} ({@link
+ * VehicleArchiveRepository}) y deja de aparecer en todas las consultas del inventario activo; solo
+ * {@link #findArchivedById} y {@link #countArchived} lo ven.
+ *
  * @param <T> Tipo de entidad que extiende {@link Vehicle}.
  * @param <R> Tipo de repositorio que maneja la entidad {@code T}.
  */
@@ -24,24 +52,55 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
     implements VehicleService<T> {
 
   protected final R vehicleRepository;
+  protected final VehicleReadModel readModel;
+  private final VehicleUniquenessService uniquenessService;
+  private final VehicleArchiveRepository archiveRepository;
+  private final VehicleCache vehicleCache;
+  private final ApplicationEventPublisher eventPublisher;
 
-  protected AbstractVehicleServiceImpl(R vehicleRepository) {
+  protected AbstractVehicleServiceImpl(
+      R vehicleRepository,
+      VehicleReadModel readModel,
+      VehicleUniquenessService uniquenessService,
+      VehicleArchiveRepository archiveRepository,
+      VehicleCache vehicleCache,
+      ApplicationEventPublisher eventPublisher) {
     this.vehicleRepository = vehicleRepository;
+    this.readModel = readModel;
+    this.uniquenessService = uniquenessService;
+    this.archiveRepository = archiveRepository;
+    this.vehicleCache = vehicleCache;
+    this.eventPublisher = eventPublisher;
   }
 
+  /** Tipo de vehículo que filtra las consultas sobre el modelo de lectura. */
+  protected abstract VehicleType vehicleType();
+
   @Transactional
   @Override
   public T save(T vehicle) {
-    return vehicleRepository.save(vehicle);
+    uniquenessService.assertUnique(vehicle, null);
+    T saved = vehicleRepository.save(vehicle);
+    publishChange(null, saved);
+    return saved;
   }
 
   @Override
   public List<T> findAll() {
+    if (readModel.isEnabled()) {
+      return fromReadModel(readModel.repository().findByVehicleType(vehicleType()));
+    }
     return vehicleRepository.findAll();
   }
 
   @Override
   public Page<T> findAll(Pageable pageable) {
+    if (readModel.isEnabled()) {
+      return readModel
+          .repository()
+          .findByVehicleType(vehicleType(), pageable)
+          .map(this::fromReadModel);
+    }
     return vehicleRepository.findAll(pageable);
   }
 
@@ -57,6 +116,10 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
         .findById(id)
         .map(
             existing -> {
+              if (identifiersChanged(existing, vehicle)) {
+                uniquenessService.assertUnique(vehicle, id);
+              }
+              VehicleSnapshot previous = VehicleSnapshot.of(existing);
               existing.setBrand(vehicle.getBrand());
               existing.setModel(vehicle.getModel());
               existing.setCapacity(vehicle.getCapacity());
@@ -73,14 +136,33 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
               existing.setStatus(vehicle.getStatus());
               existing.setPurchasePrice(vehicle.getPurchasePrice());
               existing.setSalePrice(vehicle.getSalePrice());
-              return vehicleRepository.save(existing);
+              T saved = vehicleRepository.save(existing);
+              publishChange(previous, saved);
+              return saved;
             });
   }
 
   @Transactional
   @Override
-  public void deleteById(Long id) {
-    vehicleRepository.deleteById(id);
+  public boolean deleteById(Long id) {
+    List<VehicleSnapshot> archived = archiveRepository.archiveDeleted(vehicleType(), List.of(id));
+    if (archived.isEmpty()) {
+      return false;
+    }
+    vehicleCache.evictAfterCommit(List.of(id));
+    archived.forEach(
+        vehicle -> eventPublisher.publishEvent(new VehicleChangedEvent(vehicle, null)));
+    return true;
+  }
+
+  @Override
+  public Optional<T> findArchivedById(Long id) {
+    return archiveRepository.findById(id, vehicleType()).map(this::fromReadModel);
+  }
+
+  @Override
+  public long countArchived() {
+    return archiveRepository.countByVehicleType(vehicleType());
   }
 
   @Transactional
@@ -90,40 +172,140 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
         .findById(id)
         .map(
             vehicle -> {
+              VehicleSnapshot previous = VehicleSnapshot.of(vehicle);
               vehicle.setStatus(status);
               vehicleRepository.save(vehicle);
+              publishChange(previous, vehicle);
               return Optional.of(vehicle);
             })
         .orElse(Optional.empty());
   }
 
+  @Transactional
+  @Override
+  public Optional<T> changePhoto(Long id, String photoUrl) {
+    return vehicleRepository
+        .findById(id)
+        .map(
+            vehicle -> {
+              VehicleSnapshot previous = VehicleSnapshot.of(vehicle);
+              vehicle.setPhotoUrl(photoUrl);
+              T saved = vehicleRepository.save(vehicle);
+              publishChange(previous, saved);
+              return saved;
+            });
+  }
+
+  @Override
+  public long count() {
+    if (readModel.isEnabled()) {
+      return readModel.repository().countByVehicleType(vehicleType());
+    }
+    return vehicleRepository.count();
+  }
+
   @Override
   public long countByStatus(VehicleStatus status) {
+    if (readModel.isEnabled()) {
+      return readModel.repository().countByVehicleTypeAndStatus(vehicleType(), status);
+    }
     return vehicleRepository.countByStatus(status);
   }
 
+  @Override
+  public Window<T> findByStatus(VehicleStatus status, ScrollPosition position, int limit) {
+    if (readModel.isEnabled()) {
+      return readModel
+          .repository()
+          .findByVehicleTypeAndStatusOrderByUpdatedAtDescIdDesc(
+              vehicleType(), status, position, Limit.of(limit))
+          .map(this::fromReadModel);
+    }
+    return vehicleRepository.findByStatusOrderByUpdatedAtDescIdDesc(
+        status, position, Limit.of(limit));
+  }
+
   @Override
   public List<T> findByBrandContainingIgnoreCase(String brand) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndBrandContainingIgnoreCase(vehicleType(), brand));
+    }
     return vehicleRepository.findByBrandContainingIgnoreCase(brand);
   }
 
   @Override
   public List<T> findByLineContainingIgnoreCase(String line) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel.repository().findByVehicleTypeAndLineContainingIgnoreCase(vehicleType(), line));
+    }
     return vehicleRepository.findByLineContainingIgnoreCase(line);
   }
 
   @Override
   public List<T> findByModelContainingIgnoreCase(String model) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndModelContainingIgnoreCase(vehicleType(), model));
+    }
     return vehicleRepository.findByModelContainingIgnoreCase(model);
   }
 
   @Override
   public Optional<T> findByPlate(String plate) {
+    if (readModel.isEnabled()) {
+      return readModel
+          .repository()
+          .findByVehicleTypeAndPlate(vehicleType(), plate)
+          .map(this::fromReadModel);
+    }
     return vehicleRepository.findByPlate(plate);
   }
 
   @Override
   public List<T> findByPlateContainingIgnoreCase(String plate) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndPlateContainingIgnoreCase(vehicleType(), plate));
+    }
     return vehicleRepository.findByPlateContainingIgnoreCase(plate);
   }
+
+  /**
+   * Convierte una fila del modelo de lectura en una entidad no administrada de tipo {@code T}. Las
+   * consultas ya filtran por {@link #vehicleType()}, por lo que la conversión es segura.
+   */
+  @SuppressWarnings("unchecked")
+  protected T fromReadModel(VehicleRead row) {
+    return (T) readModel.toVehicle(row);
+  }
+
+  protected List<T> fromReadModel(List<VehicleRead> rows) {
+    return rows.stream().map(this::fromReadModel).toList();
+  }
+
+  private static boolean identifiersChanged(Vehicle existing, Vehicle updated) {
+    return !Objects.equals(existing.getPlate(), updated.getPlate())
+        || !Objects.equals(existing.getMotorNumber(), updated.getMotorNumber())
+        || !Objects.equals(existing.getSerialNumber(), updated.getSerialNumber())
+        || !Objects.equals(existing.getChassisNumber(), updated.getChassisNumber());
+  }
+
+  /**
+   * Publica el cambio de un vehículo. Los oyentes transaccionales lo reciben al confirmar la
+   * transacción en curso.
+   *
+   * @param previous snapshot previo a la modificación, o {@code null} si el vehículo es nuevo.
+   * @param current entidad ya persistida.
+   */
+  protected void publishChange(VehicleSnapshot previous, T current) {
+    eventPublisher.publishEvent(new VehicleChangedEvent(previous, VehicleSnapshot.of(current)));
+  }
 }
@@ -1,10 +1,16 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.VehicleCache;
 import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleSnapshot;
 import com.sgivu.vehicle.repository.CarRepository;
+import com.sgivu.vehicle.repository.VehicleArchiveRepository;
 import com.sgivu.vehicle.service.CarService;
+import com.sgivu.vehicle.service.VehicleUniquenessService;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +21,28 @@ public class CarServiceImpl extends AbstractVehicleServiceImpl<Car, CarRepositor
 
   private final CarRepository carRepository;
 
-  public CarServiceImpl(CarRepository carRepository) {
-    super(carRepository);
+  public CarServiceImpl(
+      CarRepository carRepository,
+      VehicleReadModel readModel,
+      VehicleUniquenessService uniquenessService,
+      VehicleArchiveRepository archiveRepository,
+      VehicleCache vehicleCache,
+      ApplicationEventPublisher eventPublisher) {
+    super(
+        carRepository,
+        readModel,
+        uniquenessService,
+        archiveRepository,
+        vehicleCache,
+        eventPublisher);
     this.carRepository = carRepository;
   }
 
+  @Override
+  protected VehicleType vehicleType() {
+    return VehicleType.CAR;
+  }
+
   @Override
   public Optional<Car> findByFuelType(String fuelType) {
     return carRepository.findByFuelType(fuelType);
@@ -32,11 +55,23 @@ public class CarServiceImpl extends AbstractVehicleServiceImpl<Car, CarRepositor
 
   @Override
   public List<Car> findByFuelTypeContainingIgnoreCase(String fuelType) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndFuelTypeContainingIgnoreCase(vehicleType(), fuelType));
+    }
     return carRepository.findByFuelTypeContainingIgnoreCase(fuelType);
   }
 
   @Override
   public List<Car> findByBodyTypeContainingIgnoreCase(String bodyType) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndBodyTypeContainingIgnoreCase(vehicleType(), bodyType));
+    }
     return carRepository.findByBodyTypeContainingIgnoreCase(bodyType);
   }
 
@@ -47,10 +82,13 @@ public class CarServiceImpl extends AbstractVehicleServiceImpl<Car, CarRepositor
         .findById(id)
         .map(
             existing -> {
+              VehicleSnapshot previous = VehicleSnapshot.of(existing);
               existing.setBodyType(vehicle.getBodyType());
               existing.setFuelType(vehicle.getFuelType());
               existing.setNumberOfDoors(vehicle.getNumberOfDoors());
-              return carRepository.save(existing);
+              Car saved = carRepository.save(existing);
+              publishChange(previous, saved);
+              return saved;
             });
   }
 }
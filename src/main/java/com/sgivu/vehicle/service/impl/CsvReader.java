@@ -0,0 +1,138 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.exception.ImportFormatException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV (RFC 4180) que entrega un registro a la vez sin cargar el archivo en memoria. Admite
+ * campos entre comillas con separadores, comillas dobles escapadas y saltos de línea, finales de
+ * línea {@code \n} o {@code \r\n}, y un BOM inicial. Las líneas vacías se ignoran.
+ */
+final class CsvReader implements Closeable {
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+  private static final char BOM = '﻿';
+
+  private final Reader reader;
+  private final char[] buffer = new char[16 * 1024];
+  private final StringBuilder field = new StringBuilder(64);
+  private int position;
+  private int limit;
+  private long record;
+  private boolean started;
+
+  CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Lee el siguiente registro.
+   *
+   * @return los campos del registro, o {@code null} al final del archivo.
+   */
+  List<String> next() throws IOException {
+    List<String> fields = new ArrayList<>();
+    field.setLength(0);
+    boolean quoted = false;
+    boolean afterQuote = false;
+    boolean empty = true;
+
+    while (true) {
+      int c = read();
+      if (c < 0) {
+        if (quoted) {
+          throw new ImportFormatException(
+              "Comillas sin cerrar en el registro " + (record + 1) + " del CSV");
+        }
+        if (empty) {
+          return null;
+        }
+        fields.add(field.toString());
+        record++;
+        return fields;
+      }
+
+      if (quoted) {
+        if (c == QUOTE) {
+          if (peek() == QUOTE) {
+            position++;
+            field.append(QUOTE);
+          } else {
+            quoted = false;
+            afterQuote = true;
+          }
+        } else {
+          field.append((char) c);
+        }
+        continue;
+      }
+
+      if (c == '\r' && peek() == '\n') {
+        continue;
+      }
+      if (c == '\n' || c == '\r') {
+        if (empty) {
+          continue;
+        }
+        fields.add(field.toString());
+        record++;
+        return fields;
+      }
+
+      empty = false;
+      if (c == SEPARATOR) {
+        fields.add(field.toString());
+        field.setLength(0);
+        afterQuote = false;
+      } else if (c == QUOTE && field.isEmpty() && !afterQuote) {
+        quoted = true;
+      } else if (afterQuote) {
+        throw new ImportFormatException(
+            "Contenido después de las comillas de cierre en el registro " + (record + 1));
+      } else {
+        field.append((char) c);
+      }
+    }
+  }
+
+  private int read() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position++];
+  }
+
+  private int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position];
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    position = 0;
+    limit = Math.max(read, 0);
+    if (limit > 0 && !started) {
+      started = true;
+      if (buffer[0] == BOM) {
+        position = 1;
+        return position < limit || fill();
+      }
+    }
+    return limit > 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
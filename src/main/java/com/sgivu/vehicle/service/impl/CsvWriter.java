@@ -0,0 +1,56 @@
+package com.sgivu.vehicle.service.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Escritor CSV (RFC 4180) complementario de {@link CsvReader}: solo entrecomilla los campos que
+ * contienen separadores, comillas o saltos de línea, y escribe {@code null} como campo vacío.
+ */
+final class CsvWriter implements Closeable {
+
+  private final Writer writer;
+
+  CsvWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  void write(List<String> fields) throws IOException {
+    write(fields.toArray(String[]::new));
+  }
+
+  void write(String[] fields) throws IOException {
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writeField(fields[i]);
+    }
+    writer.write('\n');
+  }
+
+  private void writeField(String value) throws IOException {
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
@@ -0,0 +1,128 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.exception.InvalidPhotoException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Lectura de encabezados y escalado de imágenes con {@code javax.imageio}.
+ *
+ * <p>Las dimensiones se leen del encabezado antes de decodificar, así que una imagen enorme se
+ * rechaza sin reservar su memoria. La miniatura se decodifica con submuestreo (solo las filas y
+ * columnas necesarias para el doble del tamaño final) y se escala con interpolación bilineal.
+ */
+final class ImageThumbnails {
+
+  private static final float JPEG_QUALITY = 0.85f;
+
+  private ImageThumbnails() {}
+
+  /**
+   * Verifica que el archivo sea un JPEG o PNG de como máximo {@code maxPixels} píxeles.
+   *
+   * @return extensión del archivo: {@code jpg} o {@code png}.
+   */
+  static String extension(Path file, long maxPixels) {
+    try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+      ImageReader reader = reader(input);
+      try {
+        checkDimensions(reader, maxPixels);
+        return "jpeg".equals(reader.getFormatName().toLowerCase(Locale.ROOT)) ? "jpg" : "png";
+      } finally {
+        reader.dispose();
+      }
+    } catch (IOException e) {
+      throw new InvalidPhotoException("No se pudo leer la imagen", e);
+    }
+  }
+
+  /** Escribe en {@code target} un JPEG cuyo lado mayor mide como máximo {@code size} píxeles. */
+  static void write(Path source, Path target, int size, long maxPixels) throws IOException {
+    BufferedImage image;
+    try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+      ImageReader reader = reader(input);
+      try {
+        int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+        checkDimensions(reader, maxPixels);
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = Math.max(1, longest / (size * 2));
+        param.setSourceSubsampling(step, step, 0, 0);
+        image = reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+
+    double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+    int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+    BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = thumbnail.createGraphics();
+    try {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      // JPEG no tiene transparencia: las zonas transparentes de un PNG quedan en blanco.
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(thumbnail, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  private static ImageReader reader(ImageInputStream input) {
+    if (input != null) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      while (readers.hasNext()) {
+        ImageReader reader = readers.next();
+        String format;
+        try {
+          format = reader.getFormatName().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+          reader.dispose();
+          continue;
+        }
+        if (format.equals("jpeg") || format.equals("png")) {
+          reader.setInput(input, true, true);
+          return reader;
+        }
+        reader.dispose();
+      }
+    }
+    throw new InvalidPhotoException("La imagen debe ser JPEG o PNG");
+  }
+
+  private static void checkDimensions(ImageReader reader, long maxPixels) throws IOException {
+    long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+    if (pixels > maxPixels) {
+      throw new InvalidPhotoException(
+          "La imagen tiene " + pixels + " píxeles; el máximo es " + maxPixels);
+    }
+  }
+}
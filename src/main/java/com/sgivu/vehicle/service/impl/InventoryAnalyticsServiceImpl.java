@@ -0,0 +1,61 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.AgeBucketReport;
+import com.sgivu.vehicle.dto.InventoryGroup;
+import com.sgivu.vehicle.enums.InventoryDimension;
+import com.sgivu.vehicle.repository.InventoryAnalyticsRepository;
+import com.sgivu.vehicle.service.InventoryAnalyticsService;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Analítica del inventario servida desde agregados precalculados.
+ *
+ * <p>Los totales por tipo, marca, ciudad y estado se mantienen por trigger en la misma transacción
+ * de cada escritura, así que están siempre al día. La distribución por antigüedad depende de la
+ * fecha actual y se recalcula cada {@code vehicle.analytics.refresh-interval}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class InventoryAnalyticsServiceImpl implements InventoryAnalyticsService {
+
+  private static final Logger logger = LoggerFactory.getLogger(InventoryAnalyticsServiceImpl.class);
+
+  private final InventoryAnalyticsRepository analyticsRepository;
+
+  public InventoryAnalyticsServiceImpl(InventoryAnalyticsRepository analyticsRepository) {
+    this.analyticsRepository = analyticsRepository;
+  }
+
+  @Override
+  public List<InventoryGroup> summarize(
+      InventoryDimension groupBy, Map<InventoryDimension, String> filters) {
+    return analyticsRepository.summarize(groupBy, filters);
+  }
+
+  @Override
+  public AgeBucketReport ageBuckets(Map<InventoryDimension, String> filters) {
+    return analyticsRepository.ageBuckets(filters);
+  }
+
+  /** Fuera de transacción: el refresco escribe y debe ejecutarse en el principal. */
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @Scheduled(
+      initialDelayString = "${vehicle.analytics.refresh-interval:PT1H}",
+      fixedDelayString = "${vehicle.analytics.refresh-interval:PT1H}")
+  public void refreshAgeBuckets() {
+    try {
+      analyticsRepository.refreshAgeBuckets();
+    } catch (DataAccessException e) {
+      logger.warn("No se pudo refrescar inventory_age_buckets: {}", e.getMessage());
+    }
+  }
+}
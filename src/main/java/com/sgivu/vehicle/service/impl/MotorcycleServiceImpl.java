@@ -1,13 +1,19 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.VehicleCache;
 import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleSnapshot;
 import com.sgivu.vehicle.repository.MotorcycleRepository;
+import com.sgivu.vehicle.repository.VehicleArchiveRepository;
 import com.sgivu.vehicle.service.MotorcycleService;
+import com.sgivu.vehicle.service.VehicleUniquenessService;
 
 
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +25,28 @@ public class MotorcycleServiceImpl
 
   private final MotorcycleRepository motorcycleRepository;
 
-  public MotorcycleServiceImpl(MotorcycleRepository motorcycleRepository) {
-    super(motorcycleRepository);
+  public MotorcycleServiceImpl(
+      MotorcycleRepository motorcycleRepository,
+      VehicleReadModel readModel,
+      VehicleUniquenessService uniquenessService,
+      VehicleArchiveRepository archiveRepository,
+      VehicleCache vehicleCache,
+      ApplicationEventPublisher eventPublisher) {
+    super(
+        motorcycleRepository,
+        readModel,
+        uniquenessService,
+        archiveRepository,
+        vehicleCache,
+        eventPublisher);
     this.motorcycleRepository = motorcycleRepository;
   }
 
+  @Override
+  protected VehicleType vehicleType() {
+    return VehicleType.MOTORCYCLE;
+  }
+
   @Override
   public Optional<Motorcycle> findByMotorcycleType(String motorcycleType) {
     return motorcycleRepository.findByMotorcycleType(motorcycleType);
@@ -31,6 +54,13 @@ public class MotorcycleServiceImpl
 
   @Override
   public List<Motorcycle> findByMotorcycleTypeContainingIgnoreCase(String motorcycleType) {
+    if (readModel.isEnabled()) {
+      return fromReadModel(
+          readModel
+              .repository()
+              .findByVehicleTypeAndMotorcycleTypeContainingIgnoreCase(
+                  vehicleType(), motorcycleType));
+    }
     return motorcycleRepository.findByMotorcycleTypeContainingIgnoreCase(motorcycleType);
   }
 
@@ -41,8 +71,11 @@ public class MotorcycleServiceImpl
         .findById(id)
         .map(
             existing -> {
+              VehicleSnapshot previous = VehicleSnapshot.of(existing);
               existing.setMotorcycleType(vehicle.getMotorcycleType());
-              return motorcycleRepository.save(existing);
+              Motorcycle saved = motorcycleRepository.save(existing);
+              publishChange(previous, saved);
+              return saved;
             });
   }
 }
@@ -0,0 +1,236 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.PhotosConfig;
+import com.sgivu.vehicle.exception.PhotoTooLargeException;
+import com.sgivu.vehicle.repository.VehiclePhotoRepository;
+import com.sgivu.vehicle.service.PhotoService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Fotos en disco local ({@code vehicle.photos.storage-dir}), con el hash SHA-256 del contenido como
+ * nombre: {@code <dir>/<2 primeros caracteres del hash>/<hash>.<jpg|png>} y la miniatura junto a
+ * ella como {@code <hash>.thumb.jpg}.
+ *
+ * <p>La carga se escribe en {@code incoming/} mientras se calcula el hash y se mueve a su nombre
+ * definitivo con un {@code rename} atómico; si el contenido ya existía no se guarda otra copia. Las
+ * fotos que ningún vehículo referencia se eliminan cada {@code vehicle.photos.cleanup-interval}
+ * cuando tienen más de {@code vehicle.photos.orphan-grace}. Con varias réplicas el directorio debe
+ * ser un volumen compartido.
+ */
+@Service
+public class PhotoServiceImpl implements PhotoService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PhotoServiceImpl.class);
+
+  private static final Pattern NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png)");
+  private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final VehiclePhotoRepository photoRepository;
+  private final TaskExecutor thumbnailExecutor;
+  private final Path storageDir;
+  private final Path incomingDir;
+  private final DataSize maxSize;
+  private final long maxPixels;
+  private final int thumbnailSize;
+  private final Duration orphanGrace;
+  private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+  private final Set<String> failedThumbnails = ConcurrentHashMap.newKeySet();
+
+  public PhotoServiceImpl(
+      VehiclePhotoRepository photoRepository,
+      @Qualifier(PhotosConfig.THUMBNAIL_EXECUTOR) TaskExecutor thumbnailExecutor,
+      @Value("${vehicle.photos.storage-dir:${java.io.tmpdir}/sgivu-vehicle-photos}")
+          Path storageDir,
+      @Value("${vehicle.photos.max-size:10MB}") DataSize maxSize,
+      @Value("${vehicle.photos.max-pixels:40000000}") long maxPixels,
+      @Value("${vehicle.photos.thumbnail-size:320}") int thumbnailSize,
+      @Value("${vehicle.photos.orphan-grace:PT24H}") Duration orphanGrace)
+      throws IOException {
+    this.photoRepository = photoRepository;
+    this.thumbnailExecutor = thumbnailExecutor;
+    this.storageDir = Files.createDirectories(storageDir);
+    this.incomingDir = Files.createDirectories(storageDir.resolve("incoming"));
+    this.maxSize = maxSize;
+    this.maxPixels = maxPixels;
+    this.thumbnailSize = thumbnailSize;
+    this.orphanGrace = orphanGrace;
+  }
+
+  @Override
+  public String store(InputStream image) throws IOException {
+    Path incoming = Files.createTempFile(incomingDir, "upload-", ".part");
+    try {
+      MessageDigest digest = sha256();
+      try (OutputStream out = Files.newOutputStream(incoming)) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        int read;
+        while ((read = image.read(buffer)) != -1) {
+          size += read;
+          if (size > maxSize.toBytes()) {
+            throw new PhotoTooLargeException("La imagen supera " + maxSize);
+          }
+          digest.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+        }
+      }
+      String name =
+          HexFormat.of().formatHex(digest.digest())
+              + "."
+              + ImageThumbnails.extension(incoming, maxPixels);
+
+      Path photo = photoPath(name);
+      if (Files.exists(photo)) {
+        // Ya guardada: se renueva la fecha para que la limpieza no la tome por huérfana.
+        Files.setLastModifiedTime(photo, FileTime.from(Instant.now()));
+      } else {
+        Files.createDirectories(photo.getParent());
+        Files.move(
+            incoming, photo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      }
+      if (!Files.exists(thumbnailPath(name))) {
+        generateThumbnail(name);
+      }
+      return PHOTOS_PATH + name;
+    } finally {
+      Files.deleteIfExists(incoming);
+    }
+  }
+
+  @Override
+  public Optional<Path> findPhoto(String name) {
+    if (!NAME.matcher(name).matches()) {
+      return Optional.empty();
+    }
+    Path photo = photoPath(name);
+    return Files.isReadable(photo) ? Optional.of(photo) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Path> findThumbnail(String name) {
+    if (!NAME.matcher(name).matches()) {
+      return Optional.empty();
+    }
+    Path thumbnail = thumbnailPath(name);
+    if (Files.isReadable(thumbnail)) {
+      return Optional.of(thumbnail);
+    }
+    if (Files.exists(photoPath(name)) && !failedThumbnails.contains(name)) {
+      generateThumbnail(name);
+    }
+    return Optional.empty();
+  }
+
+  @Scheduled(
+      initialDelayString = "${vehicle.photos.cleanup-interval:PT6H}",
+      fixedDelayString = "${vehicle.photos.cleanup-interval:PT6H}")
+  public void purgeOrphans() throws IOException {
+    Instant cutoff = Instant.now().minus(orphanGrace);
+    Set<String> referenced = photoRepository.findReferencedNames(PHOTOS_PATH);
+    int deleted = 0;
+    try (Stream<Path> files = Files.walk(storageDir, 2)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        String fileName = file.getFileName().toString();
+        boolean orphan =
+            file.startsWith(incomingDir)
+                || (NAME.matcher(fileName).matches() && !referenced.contains(fileName));
+        if (orphan && Files.isRegularFile(file) && isOlderThan(file, cutoff)) {
+          Files.deleteIfExists(file);
+          if (!file.startsWith(incomingDir)) {
+            Files.deleteIfExists(thumbnailPath(fileName));
+            deleted++;
+          }
+        }
+      }
+    }
+    if (deleted > 0) {
+      logger.info("{} fotos sin vehículo eliminadas", deleted);
+    }
+  }
+
+  /** Encola la miniatura, una sola vez por foto aunque se pida varias veces antes de generarse. */
+  private void generateThumbnail(String name) {
+    if (!pendingThumbnails.add(name)) {
+      return;
+    }
+    try {
+      thumbnailExecutor.execute(() -> writeThumbnail(name));
+    } catch (TaskRejectedException e) {
+      pendingThumbnails.remove(name);
+      logger.debug("Cola de miniaturas llena; {} se generará cuando se pida", name);
+    }
+  }
+
+  private void writeThumbnail(String name) {
+    Path part = null;
+    try {
+      part = Files.createTempFile(incomingDir, "thumbnail-", ".part");
+      ImageThumbnails.write(photoPath(name), part, thumbnailSize, maxPixels);
+      Files.move(
+          part,
+          thumbnailPath(name),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException | RuntimeException e) {
+      // Imágenes que javax.imageio no decodifica (p. ej. JPEG CMYK): se sirve la original.
+      failedThumbnails.add(name);
+      logger.warn("No se pudo generar la miniatura de {}: {}", name, e.getMessage());
+    } finally {
+      pendingThumbnails.remove(name);
+      if (part != null) {
+        try {
+          Files.deleteIfExists(part);
+        } catch (IOException e) {
+          logger.warn("No se pudo eliminar {}: {}", part, e.getMessage());
+        }
+      }
+    }
+  }
+
+  private Path photoPath(String name) {
+    return storageDir.resolve(name.substring(0, 2)).resolve(name);
+  }
+
+  private Path thumbnailPath(String name) {
+    String hash = name.substring(0, name.indexOf('.'));
+    return storageDir.resolve(name.substring(0, 2)).resolve(hash + THUMBNAIL_SUFFIX);
+  }
+
+  private static boolean isOlderThan(Path file, Instant cutoff) throws IOException {
+    return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
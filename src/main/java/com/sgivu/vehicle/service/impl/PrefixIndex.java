@@ -0,0 +1,89 @@
+package com.sgivu.vehicle.service.impl;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice ordenado de términos con su frecuencia, pensado para autocompletado.
+ *
+ * <p>Los términos se normalizan (minúsculas, sin tildes) y se guardan en un mapa ordenado, de modo
+ * que todas las completaciones de un prefijo forman un rango contiguo. Las operaciones son seguras
+ * para uso concurrente sin bloqueos.
+ */
+final class PrefixIndex {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Comparator<Term> BY_COUNT_DESC =
+      Comparator.comparingLong(Term::count).reversed().thenComparing(Term::value);
+
+  private final ConcurrentSkipListMap<String, Term> terms = new ConcurrentSkipListMap<>();
+
+  /** Término indexado: el valor tal como se muestra y el número de vehículos que lo usan. */
+  record Term(String value, long count) {}
+
+  void add(String value, long occurrences) {
+    String key = normalize(value);
+    if (key.isEmpty() || occurrences <= 0) {
+      return;
+    }
+    terms.compute(
+        key,
+        (k, term) ->
+            term == null
+                ? new Term(value.trim(), occurrences)
+                : new Term(term.value(), term.count() + occurrences));
+  }
+
+  void remove(String value) {
+    String key = normalize(value);
+    if (key.isEmpty()) {
+      return;
+    }
+    terms.computeIfPresent(
+        key, (k, term) -> term.count() <= 1 ? null : new Term(term.value(), term.count() - 1));
+  }
+
+  /**
+   * Devuelve los {@code limit} términos más frecuentes que empiezan por {@code prefix}.
+   *
+   * @param prefix prefijo escrito por el usuario; vacío para considerar todos los términos.
+   * @param limit número máximo de resultados.
+   * @return términos ordenados por frecuencia descendente y luego alfabéticamente.
+   */
+  List<Term> complete(String prefix, int limit) {
+    String key = normalize(prefix);
+    NavigableMap<String, Term> range =
+        key.isEmpty() ? terms : terms.subMap(key, true, key + Character.MAX_VALUE, false);
+
+    PriorityQueue<Term> top = new PriorityQueue<>(limit + 1, BY_COUNT_DESC.reversed());
+    for (Term term : range.values()) {
+      top.offer(term);
+      if (top.size() > limit) {
+        top.poll();
+      }
+    }
+
+    List<Term> result = new ArrayList<>(top);
+    result.sort(BY_COUNT_DESC);
+    return result;
+  }
+
+  int size() {
+    return terms.size();
+  }
+
+  static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+    return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,73 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.ReactiveDatabase;
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.entity.VehicleRead;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.mapper.VehicleReadMapper;
+import com.sgivu.vehicle.repository.ReactiveVehicleReadRepository;
+import com.sgivu.vehicle.service.ReactiveVehicleService;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lecturas reactivas sobre el modelo de lectura {@code vehicle_read}, que los triggers mantienen
+ * aunque {@code vehicle.read-model.enabled} esté desactivado. Las respuestas son las mismas que las
+ * de la API bloqueante.
+ */
+@Service
+public class ReactiveVehicleServiceImpl implements ReactiveVehicleService {
+
+  private final ReactiveDatabase reactiveDatabase;
+  private final ReactiveVehicleReadRepository reactiveRepository;
+  private final VehicleReadMapper vehicleReadMapper;
+  private final VehicleMapper vehicleMapper;
+
+  public ReactiveVehicleServiceImpl(
+      ReactiveDatabase reactiveDatabase,
+      ReactiveVehicleReadRepository reactiveRepository,
+      VehicleReadMapper vehicleReadMapper,
+      VehicleMapper vehicleMapper) {
+    this.reactiveDatabase = reactiveDatabase;
+    this.reactiveRepository = reactiveRepository;
+    this.vehicleReadMapper = vehicleReadMapper;
+    this.vehicleMapper = vehicleMapper;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return reactiveDatabase.isEnabled();
+  }
+
+  /**
+   * El plazo de {@link ReactiveDatabase#streamTimeout()} cuenta desde que empieza el listado: todos
+   * los elementos comparten el mismo {@code Mono.delay}, así que vencido el plazo el siguiente
+   * elemento ya no llega y el listado termina con {@link java.util.concurrent.TimeoutException},
+   * liberando la conexión.
+   */
+  @Override
+  public Flux<VehicleResponse> findAll(VehicleType type, VehicleStatus status) {
+    Mono<Long> deadline = Mono.delay(reactiveDatabase.streamTimeout()).cache();
+    return reactiveRepository
+        .findByType(type, status)
+        .map(this::toResponse)
+        .timeout(deadline, row -> deadline);
+  }
+
+  @Override
+  public Mono<VehicleResponse> findById(long id, VehicleType type) {
+    return reactiveRepository.findById(id, type).map(this::toResponse);
+  }
+
+  @Override
+  public Mono<Long> count(VehicleType type, VehicleStatus status) {
+    return reactiveRepository.count(type, status);
+  }
+
+  private VehicleResponse toResponse(VehicleRead row) {
+    return vehicleMapper.toVehicleResponse(vehicleReadMapper.toVehicle(row));
+  }
+}
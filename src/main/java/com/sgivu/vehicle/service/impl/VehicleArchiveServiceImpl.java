@@ -0,0 +1,192 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.VehicleCache;
+import com.sgivu.vehicle.dto.BulkDeleteReport;
+import com.sgivu.vehicle.dto.BulkDeleteRequest;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleChangedEvent;
+import com.sgivu.vehicle.event.VehicleSnapshot;
+import com.sgivu.vehicle.repository.VehicleArchiveRepository;
+import com.sgivu.vehicle.repository.VehicleArchiveRepository.Chunk;
+import com.sgivu.vehicle.service.VehicleArchiveService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Archivado en segundo plano de los vehículos en estado final.
+ *
+ * <p>Cada {@code vehicle.archive.interval} mueve a {@code vehicles_archive} los vehículos vendidos
+ * o inactivos sin cambios desde hace más de {@code vehicle.archive.after}, en lotes de {@code
+ * vehicle.archive.batch-size} confirmados uno a uno: cada lote bloquea pocas filas durante poco
+ * tiempo, y un error solo deshace el lote en curso. Las filas bloqueadas por otra transacción se
+ * saltan, así que varias instancias pueden archivar a la vez sin esperarse. Una ejecución se
+ * detiene tras {@code vehicle.archive.max-batches} lotes y continúa en la siguiente. Se desactiva
+ * con {@code vehicle.archive.enabled=false}.
+ *
+ * <p>El índice de sugerencias incorpora las bajas en su reconstrucción periódica.
+ *
+ * <p>Las eliminaciones masivas usan el mismo movimiento que la eliminación por id, en bloques de
+ * {@code vehicle.bulk-delete.chunk-size} vehículos por transacción, y publican un {@link
+ * VehicleChangedEvent} por vehículo: el historial registra {@code DELETED} con el usuario que
+ * elimina. Por filtro se eliminan como máximo {@code vehicle.bulk-delete.max-vehicles} vehículos
+ * por petición, para no ocupar un hilo de la petición sin límite; el resultado indica si quedan
+ * más y el cliente repite la petición.
+ */
+@Service
+public class VehicleArchiveServiceImpl implements VehicleArchiveService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleArchiveServiceImpl.class);
+
+  private final VehicleArchiveRepository archiveRepository;
+  private final VehicleCache vehicleCache;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final Duration after;
+  private final int batchSize;
+  private final int maxBatches;
+  private final int deleteChunkSize;
+  private final long maxDeletedPerRequest;
+
+  public VehicleArchiveServiceImpl(
+      VehicleArchiveRepository archiveRepository,
+      VehicleCache vehicleCache,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${vehicle.archive.enabled:true}") boolean enabled,
+      @Value("${vehicle.archive.after:P180D}") Duration after,
+      @Value("${vehicle.archive.batch-size:500}") int batchSize,
+      @Value("${vehicle.archive.max-batches:200}") int maxBatches,
+      @Value("${vehicle.bulk-delete.chunk-size:500}") int deleteChunkSize,
+      @Value("${vehicle.bulk-delete.max-vehicles:20000}") long maxDeletedPerRequest) {
+    this.archiveRepository = archiveRepository;
+    this.vehicleCache = vehicleCache;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.after = after;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.deleteChunkSize = deleteChunkSize;
+    this.maxDeletedPerRequest = maxDeletedPerRequest;
+  }
+
+  @Override
+  @Scheduled(
+      initialDelayString = "${vehicle.archive.interval:PT1H}",
+      fixedDelayString = "${vehicle.archive.interval:PT1H}")
+  public long archiveTerminal() {
+    if (!enabled) {
+      return 0;
+    }
+    LocalDateTime updatedBefore = LocalDateTime.now().minus(after);
+    long start = System.nanoTime();
+    long archived = 0;
+    try {
+      for (int batch = 0; batch < maxBatches; batch++) {
+        List<VehicleSnapshot> moved =
+            transactionTemplate.execute(
+                status -> {
+                  List<VehicleSnapshot> vehicles =
+                      archiveRepository.archiveTerminal(updatedBefore, batchSize);
+                  vehicleCache.evictAfterCommit(
+                      vehicles.stream().map(VehicleSnapshot::id).toList());
+                  return vehicles;
+                });
+        archived += moved.size();
+        if (moved.size() < batchSize) {
+          break;
+        }
+      }
+    } catch (DataAccessException e) {
+      logger.warn("Archivado interrumpido tras {} vehículos: {}", archived, e.getMessage());
+    }
+    if (archived > 0) {
+      logger.info(
+          "{} vehículos vendidos o inactivos archivados en {} ms",
+          archived,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+    return archived;
+  }
+
+  @Override
+  public BulkDeleteReport deleteAll(VehicleType type, BulkDeleteRequest request) {
+    long start = System.nanoTime();
+    long deleted = 0;
+    long chunks = 0;
+    boolean moreRemaining = false;
+    if (request.getIds() != null) {
+      List<Long> ids = request.getIds().stream().distinct().sorted().toList();
+      for (int from = 0; from < ids.size(); from += deleteChunkSize) {
+        List<Long> chunk = ids.subList(from, Math.min(from + deleteChunkSize, ids.size()));
+        deleted +=
+            deleteChunk(() -> new Chunk(archiveRepository.archiveDeleted(type, chunk), null))
+                .moved()
+                .size();
+        chunks++;
+      }
+    } else {
+      VehicleArchiveRepository.Filter filter =
+          new VehicleArchiveRepository.Filter(
+              request.getStatus(),
+              request.getBrand(),
+              request.getModel(),
+              request.getLine(),
+              request.getCityRegistered(),
+              request.getUpdatedBefore());
+      // Se avanza por el último id seleccionado y se termina solo con una selección vacía: un
+      // bloque corto no significa que no queden vehículos (ver archiveDeletedMatching).
+      long afterId = 0;
+      while (true) {
+        if (deleted >= maxDeletedPerRequest) {
+          moreRemaining = true;
+          break;
+        }
+        long after = afterId;
+        int limit = (int) Math.min(deleteChunkSize, maxDeletedPerRequest - deleted);
+        Chunk chunk =
+            deleteChunk(
+                () -> archiveRepository.archiveDeletedMatching(type, filter, after, limit));
+        if (chunk.lastSelectedId() == null) {
+          break;
+        }
+        deleted += chunk.moved().size();
+        chunks++;
+        afterId = chunk.lastSelectedId();
+      }
+    }
+    long durationMillis = (System.nanoTime() - start) / 1_000_000;
+    logger.info(
+        "Eliminación masiva: {} vehículos {} archivados en {} bloques, {} ms",
+        deleted,
+        type,
+        chunks,
+        durationMillis);
+    return new BulkDeleteReport(deleted, chunks, durationMillis, moreRemaining);
+  }
+
+  /** Archiva un bloque en su propia transacción y publica la eliminación de cada vehículo. */
+  private Chunk deleteChunk(Supplier<Chunk> archive) {
+    return transactionTemplate.execute(
+        status -> {
+          Chunk chunk = archive.get();
+          vehicleCache.evictAfterCommit(chunk.moved().stream().map(VehicleSnapshot::id).toList());
+          chunk
+              .moved()
+              .forEach(
+                  vehicle -> eventPublisher.publishEvent(new VehicleChangedEvent(vehicle, null)));
+          return chunk;
+        });
+  }
+}
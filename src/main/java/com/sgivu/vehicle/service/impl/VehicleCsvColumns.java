@@ -0,0 +1,178 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.ImportRowError;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.exception.ImportFormatException;
+import jakarta.persistence.Column;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Columnas de un CSV de importación y su conversión a entidades {@link Car} / {@link Motorcycle}.
+ *
+ * <p>El encabezado usa los mismos nombres que el JSON de la API ({@code plate}, {@code
+ * motorNumber}, {@code bodyType}...), sin distinguir mayúsculas. {@code status} y {@code photoUrl}
+ * son opcionales; las demás columnas del tipo son obligatorias y las desconocidas se rechazan.
+ */
+final class VehicleCsvColumns {
+
+  private static final List<String> OPTIONAL = List.of("status", "photoUrl");
+
+  private static final Map<String, BiConsumer<Vehicle, String>> COMMON = new LinkedHashMap<>();
+  private static final Map<String, BiConsumer<Vehicle, String>> CAR = new LinkedHashMap<>();
+  private static final Map<String, BiConsumer<Vehicle, String>> MOTORCYCLE = new LinkedHashMap<>();
+
+  static {
+    COMMON.put("brand", Vehicle::setBrand);
+    COMMON.put("model", Vehicle::setModel);
+    COMMON.put("capacity", (v, s) -> v.setCapacity(Integer.valueOf(s)));
+    COMMON.put("line", Vehicle::setLine);
+    COMMON.put("plate", Vehicle::setPlate);
+    COMMON.put("motorNumber", Vehicle::setMotorNumber);
+    COMMON.put("serialNumber", Vehicle::setSerialNumber);
+    COMMON.put("chassisNumber", Vehicle::setChassisNumber);
+    COMMON.put("color", Vehicle::setColor);
+    COMMON.put("cityRegistered", Vehicle::setCityRegistered);
+    COMMON.put("year", (v, s) -> v.setYear(Integer.valueOf(s)));
+    COMMON.put("mileage", (v, s) -> v.setMileage(Integer.valueOf(s)));
+    COMMON.put("transmission", Vehicle::setTransmission);
+    COMMON.put("status", (v, s) -> v.setStatus(VehicleStatus.valueOf(s.toUpperCase(Locale.ROOT))));
+    COMMON.put("purchasePrice", (v, s) -> v.setPurchasePrice(Money.parse(s)));
+    COMMON.put("salePrice", (v, s) -> v.setSalePrice(Money.parse(s)));
+    COMMON.put("photoUrl", Vehicle::setPhotoUrl);
+
+    CAR.put("bodyType", (v, s) -> ((Car) v).setBodyType(s));
+    CAR.put("fuelType", (v, s) -> ((Car) v).setFuelType(s));
+    CAR.put("numberOfDoors", (v, s) -> ((Car) v).setNumberOfDoors(Integer.valueOf(s)));
+
+    MOTORCYCLE.put("motorcycleType", (v, s) -> ((Motorcycle) v).setMotorcycleType(s));
+  }
+
+  /** Columnas {@code VARCHAR} por clase, cuya longitud Bean Validation no verifica por sí solo. */
+  private static final Map<Class<?>, List<Field>> TEXT_COLUMNS = new HashMap<>();
+
+  static {
+    for (Class<?> type : List.of(Vehicle.class, Car.class, Motorcycle.class)) {
+      List<Field> fields = new ArrayList<>();
+      for (Field field : type.getDeclaredFields()) {
+        if (field.getType() == String.class && field.isAnnotationPresent(Column.class)) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+      TEXT_COLUMNS.put(type, fields);
+    }
+  }
+
+  private final VehicleType type;
+  private final String[] names;
+  private final BiConsumer<Vehicle, String>[] setters;
+
+  @SuppressWarnings("unchecked")
+  private VehicleCsvColumns(
+      VehicleType type, List<String> names, List<BiConsumer<Vehicle, String>> setters) {
+    this.type = type;
+    this.names = names.toArray(String[]::new);
+    this.setters = setters.toArray(BiConsumer[]::new);
+  }
+
+  /**
+   * Resuelve las columnas del encabezado para un tipo de vehículo.
+   *
+   * @throws ImportFormatException si faltan columnas obligatorias, hay columnas desconocidas o
+   *     repetidas.
+   */
+  static VehicleCsvColumns of(VehicleType type, List<String> header) {
+    Map<String, BiConsumer<Vehicle, String>> known = new LinkedHashMap<>(COMMON);
+    known.putAll(type == VehicleType.CAR ? CAR : MOTORCYCLE);
+    Map<String, String> byLowerCase = new HashMap<>();
+    known.keySet().forEach(name -> byLowerCase.put(name.toLowerCase(Locale.ROOT), name));
+
+    List<String> names = new ArrayList<>();
+    List<String> unknown = new ArrayList<>();
+    for (String column : header) {
+      String name = byLowerCase.get(column.trim().toLowerCase(Locale.ROOT));
+      if (name == null) {
+        unknown.add(column);
+      } else if (names.contains(name)) {
+        throw new ImportFormatException("Columna repetida en el encabezado: " + name);
+      } else {
+        names.add(name);
+      }
+    }
+    if (!unknown.isEmpty()) {
+      throw new ImportFormatException("Columnas desconocidas en el encabezado: " + unknown);
+    }
+    List<String> missing =
+        known.keySet().stream()
+            .filter(name -> !OPTIONAL.contains(name) && !names.contains(name))
+            .toList();
+    if (!missing.isEmpty()) {
+      throw new ImportFormatException("Faltan columnas obligatorias: " + missing);
+    }
+
+    return new VehicleCsvColumns(type, names, names.stream().map(known::get).toList());
+  }
+
+  /**
+   * Convierte un registro en una entidad no persistida. Los valores vacíos quedan en {@code null}
+   * para que los valide Bean Validation; los que no se pueden convertir se agregan a {@code
+   * errors}.
+   */
+  Vehicle toVehicle(long row, List<String> record, List<ImportRowError> errors) {
+    if (record.size() != names.length) {
+      errors.add(
+          new ImportRowError(
+              row,
+              null,
+              "Se esperaban " + names.length + " columnas y se encontraron " + record.size()));
+      return null;
+    }
+
+    Vehicle vehicle = type == VehicleType.CAR ? new Car() : new Motorcycle();
+    for (int i = 0; i < names.length; i++) {
+      String value = record.get(i).trim();
+      if (value.isEmpty()) {
+        continue;
+      }
+      try {
+        setters[i].accept(vehicle, value);
+      } catch (IllegalArgumentException e) {
+        errors.add(new ImportRowError(row, names[i], "Valor inválido: " + value));
+      }
+    }
+    if (vehicle.getStatus() == null) {
+      vehicle.setStatus(VehicleStatus.AVAILABLE);
+    }
+    return vehicle;
+  }
+
+  /** Verifica que los textos quepan en sus columnas {@code VARCHAR}. */
+  static void checkLengths(long row, Vehicle vehicle, List<ImportRowError> errors) {
+    for (Class<?> type : List.of(Vehicle.class, vehicle.getClass())) {
+      for (Field field : TEXT_COLUMNS.getOrDefault(type, List.of())) {
+        int max = field.getAnnotation(Column.class).length();
+        try {
+          String value = (String) field.get(vehicle);
+          if (value != null && value.length() > max) {
+            errors.add(
+                new ImportRowError(row, field.getName(), "Supera la longitud máxima de " + max));
+          }
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,375 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Money;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Genera vehículos sintéticos para pruebas a escala: el vehículo número {@code n} depende solo de
+ * {@code n}, de la semilla y de la fecha de referencia, así que cualquier rango se puede generar (o
+ * regenerar) por separado y en cualquier orden.
+ *
+ * <p>Tres de cada cinco vehículos son autos. Marca, modelo, ciudad, color, estado y antigüedad
+ * siguen distribuciones aproximadas del mercado colombiano; el kilometraje crece con la antigüedad
+ * y el precio se deprecia con ella. Placa, número de motor, serie y chasis salen de permutaciones
+ * de {@code n} (distintas según la semilla), de modo que no se repiten dentro de una semilla hasta
+ * {@value #MAX_CARS} autos y {@value #MAX_MOTORCYCLES} motos. Los vehículos no tienen foto: una URL
+ * apuntaría a un archivo que no existe.
+ */
+public final class VehicleDataGenerator {
+
+  /** Placas de auto {@code AAA000}-{@code ZZZ999}. */
+  static final long MAX_CARS = 26L * 26 * 26 * 1000;
+
+  /** Placas de moto {@code AAA00A}-{@code ZZZ99Z}. */
+  static final long MAX_MOTORCYCLES = 26L * 26 * 26 * 100 * 26;
+
+  private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final int MAX_AGE_YEARS = 15;
+
+  private static final Weighted<Model> CARS =
+      new Weighted<>(
+          List.of(
+              w(9, car("Chevrolet", "Onix", 68_000_000, "Hatchback", "LT", "LTZ", "Premier")),
+              w(6, car("Chevrolet", "Tracker", 98_000_000, "SUV", "LS", "LTZ", "Premier")),
+              w(3, car("Chevrolet", "Spark GT", 45_000_000, "Hatchback", "LT", "Activ")),
+              w(6, car("Renault", "Logan", 62_000_000, "Sedán", "Life", "Zen", "Intens")),
+              w(5, car("Renault", "Sandero", 64_000_000, "Hatchback", "Life", "Zen", "Stepway")),
+              w(4, car("Renault", "Duster", 85_000_000, "SUV", "Zen", "Intens", "Iconic")),
+              w(2, car("Renault", "Kwid", 48_000_000, "Hatchback", "Zen", "Outsider")),
+              w(4, car("Mazda", "2", 78_000_000, "Sedán", "Prime", "Touring", "Grand Touring")),
+              w(3, car("Mazda", "3", 105_000_000, "Sedán", "Touring", "Grand Touring LX")),
+              w(3, car("Mazda", "CX-30", 125_000_000, "SUV", "Touring", "Grand Touring")),
+              w(2, car("Mazda", "CX-5", 150_000_000, "SUV", "Touring", "Signature")),
+              w(4, car("Kia", "Picanto", 55_000_000, "Hatchback", "Vibrant", "Zenith")),
+              w(3, car("Kia", "Rio", 70_000_000, "Sedán", "EX Vibrant", "Zenith")),
+              w(3, car("Kia", "Sportage", 130_000_000, "SUV", "Desire", "Zenith")),
+              w(3, car("Toyota", "Corolla", 115_000_000, "Sedán", "XLi", "SEG")),
+              w(3, car("Toyota", "Corolla Cross", 135_000_000, "SUV", "XLi", "SEG Hybrid")),
+              w(3, car("Toyota", "Hilux", 180_000_000, "Pickup", "4x2", "4x4 SRV")),
+              w(1, car("Toyota", "Fortuner", 240_000_000, "SUV", "SRV", "Legender")),
+              w(3, car("Nissan", "Versa", 75_000_000, "Sedán", "Sense", "Exclusive")),
+              w(3, car("Nissan", "Kicks", 95_000_000, "SUV", "Sense", "Exclusive")),
+              w(1, car("Nissan", "Frontier", 170_000_000, "Pickup", "XE", "LE")),
+              w(2, car("Hyundai", "Accent", 70_000_000, "Sedán", "Advance", "Premium")),
+              w(2, car("Hyundai", "Tucson", 140_000_000, "SUV", "GLS", "Limited")),
+              w(2, car("Hyundai", "Creta", 100_000_000, "SUV", "Advance", "Premium")),
+              w(2, car("Volkswagen", "Gol", 58_000_000, "Hatchback", "Trendline", "Comfortline")),
+              w(2, car("Volkswagen", "T-Cross", 110_000_000, "SUV", "Comfortline", "Highline")),
+              w(2, car("Volkswagen", "Jetta", 120_000_000, "Sedán", "Trendline", "Highline")),
+              w(2, car("Ford", "Ranger", 190_000_000, "Pickup", "XLS", "XLT", "Raptor")),
+              w(1, car("Ford", "Escape", 150_000_000, "SUV", "SE", "Titanium")),
+              w(2, car("Ford", "EcoSport", 80_000_000, "SUV", "Freestyle", "Titanium AT")),
+              w(3, car("Suzuki", "Swift", 66_000_000, "Hatchback", "GL", "GLX")),
+              w(2, car("Suzuki", "Vitara", 105_000_000, "SUV", "GL", "GLX")),
+              w(2, car("Peugeot", "208", 82_000_000, "Hatchback", "Active", "Allure")),
+              w(2, car("Peugeot", "2008", 98_000_000, "SUV", "Active Pack", "Allure"))));
+
+  private static final Weighted<Model> MOTORCYCLES =
+      new Weighted<>(
+          List.of(
+              w(10, moto("AKT", "NKD 125", 5_500_000, "Street", "Estándar", "Classic Sport")),
+              w(6, moto("AKT", "CR4 162", 8_900_000, "Naked", "Estándar", "Edición Especial")),
+              w(10, moto("Bajaj", "Boxer CT100", 5_200_000, "Street", "KS", "ES")),
+              w(6, moto("Bajaj", "Pulsar NS200", 11_500_000, "Naked", "Fi", "Fi ABS")),
+              w(3, moto("Bajaj", "Discover 125", 6_300_000, "Street", "ST", "ST-R")),
+              w(6, moto("Yamaha", "NMAX", 16_500_000, "Scooter", "Connected ABS", "Estándar")),
+              w(5, moto("Yamaha", "FZ25", 16_500_000, "Naked", "Estándar", "Midnight Edition")),
+              w(4, moto("Yamaha", "XTZ 150", 13_500_000, "Doble Propósito", "Estándar")),
+              w(1, moto("Yamaha", "MT-09", 62_000_000, "Naked", "Estándar", "SP")),
+              w(6, moto("Honda", "CB160F", 12_000_000, "Sport", "DLX", "Repsol Edition")),
+              w(5, moto("Honda", "XR150L", 11_800_000, "Doble Propósito", "Estándar")),
+              w(2, moto("Honda", "CB500X", 42_000_000, "Adventure", "Estándar", "Adventure Pro")),
+              w(4, moto("Suzuki", "Gixxer 150", 11_000_000, "Sport", "Fi", "SF Fi")),
+              w(3, moto("Suzuki", "GN 125", 6_800_000, "Street", "F", "H")),
+              w(1, moto("Suzuki", "V-Strom 250", 25_000_000, "Adventure", "SX")),
+              w(5, moto("TVS", "Apache RTR 160", 10_500_000, "Sport", "4V", "Smart Connect")),
+              w(3, moto("TVS", "Raider 125", 7_200_000, "Street", "Disco", "Tambor")),
+              w(3, moto("Hero", "Hunk 160R", 9_000_000, "Naked", "Estándar", "Sport X")),
+              w(3, moto("Hero", "Eco Deluxe", 4_900_000, "Street", "Estándar")),
+              w(2, moto("Kawasaki", "Z400", 28_000_000, "Naked", "Estándar", "Performance")),
+              w(1, moto("Kawasaki", "Versys 650", 48_000_000, "Touring", "Estándar", "Tourer")),
+              w(1, moto("KTM", "Duke 200", 17_000_000, "Naked", "Estándar", "NG")),
+              w(1, moto("KTM", "390 Adventure", 33_000_000, "Adventure", "Estándar", "SW")),
+              w(1, moto("Benelli", "TRK 502", 43_000_000, "Touring", "Estándar", "X"))));
+
+  private static final Weighted<String> CITIES =
+      new Weighted<>(
+          List.of(
+              w(30, "Bogotá"),
+              w(15, "Medellín"),
+              w(10, "Cali"),
+              w(8, "Barranquilla"),
+              w(5, "Cartagena"),
+              w(5, "Bucaramanga"),
+              w(4, "Pereira"),
+              w(4, "Cúcuta"),
+              w(3, "Ibagué"),
+              w(3, "Santa Marta"),
+              w(3, "Villavicencio"),
+              w(3, "Manizales"),
+              w(3, "Montería"),
+              w(2, "Pasto"),
+              w(2, "Neiva")));
+
+  private static final Weighted<String> COLORS =
+      new Weighted<>(
+          List.of(
+              w(22, "Blanco"),
+              w(20, "Gris"),
+              w(16, "Negro"),
+              w(12, "Plata"),
+              w(10, "Rojo"),
+              w(10, "Azul"),
+              w(3, "Verde"),
+              w(3, "Naranja"),
+              w(2, "Amarillo"),
+              w(2, "Beige")));
+
+  private static final Weighted<VehicleStatus> STATUSES =
+      new Weighted<>(
+          List.of(
+              w(55, VehicleStatus.AVAILABLE),
+              w(25, VehicleStatus.SOLD),
+              w(8, VehicleStatus.IN_USE),
+              w(5, VehicleStatus.IN_MAINTENANCE),
+              w(3, VehicleStatus.IN_REPAIR),
+              w(4, VehicleStatus.INACTIVE)));
+
+  private static final Weighted<String> CAR_FUELS =
+      new Weighted<>(
+          List.of(w(85, "Gasolina"), w(8, "Diésel"), w(5, "Híbrido"), w(2, "Eléctrico")));
+
+  /** Antigüedad del modelo en años: más vehículos recientes que viejos. */
+  private static final Weighted<Integer> AGES;
+
+  static {
+    List<Entry<Integer>> ages = new ArrayList<>();
+    for (int age = 0; age <= MAX_AGE_YEARS; age++) {
+      ages.add(w(Math.max(1, 16 - age), age));
+    }
+    AGES = new Weighted<>(ages);
+  }
+
+  private final long seed;
+  private final LocalDateTime reference;
+  private final int historyDays;
+  private final long carPlateFactor;
+  private final long carPlateOffset;
+  private final long motorcyclePlateFactor;
+  private final long motorcyclePlateOffset;
+
+  /**
+   * @param seed semilla; la misma semilla y fecha de referencia generan los mismos vehículos.
+   * @param reference fecha de referencia: años del modelo y fechas de alta se calculan hacia atrás
+   *     desde ella.
+   * @param historyDays días hacia atrás en los que se reparten las fechas de alta.
+   */
+  public VehicleDataGenerator(long seed, LocalDateTime reference, int historyDays) {
+    this.seed = seed;
+    this.reference = reference;
+    this.historyDays = Math.max(1, historyDays);
+    SplittableRandom random = new SplittableRandom(seed);
+    this.carPlateFactor = coprimeFactor(random.nextLong(), MAX_CARS);
+    this.carPlateOffset = random.nextLong(MAX_CARS);
+    this.motorcyclePlateFactor = coprimeFactor(random.nextLong(), MAX_MOTORCYCLES);
+    this.motorcyclePlateOffset = random.nextLong(MAX_MOTORCYCLES);
+  }
+
+  /** Fecha de alta más antigua que puede generar. */
+  public LocalDateTime earliestCreatedAt() {
+    return reference.minusDays(historyDays);
+  }
+
+  /**
+   * Vehículo número {@code n} (desde 0), un {@link Car} o un {@link Motorcycle} sin id.
+   *
+   * @throws IllegalArgumentException si {@code n} es negativo o supera las placas disponibles
+   */
+  public Vehicle generate(long n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("El número de vehículo no puede ser negativo: " + n);
+    }
+    SplittableRandom random = new SplittableRandom(mix(seed ^ mix(n)));
+    // De cada grupo de cinco números, los tres primeros son autos y los dos últimos motos.
+    long group = n / 5;
+    int position = (int) (n % 5);
+
+    Model model;
+    Vehicle vehicle;
+    if (position < 3) {
+      long carIndex = group * 3 + position;
+      model = CARS.pick(random);
+      Car car = new Car();
+      car.setPlate(carPlate(carIndex));
+      car.setBodyType(model.subtype());
+      car.setFuelType(
+          model.subtype().equals("Pickup") && random.nextInt(2) == 0
+              ? "Diésel"
+              : CAR_FUELS.pick(random));
+      car.setNumberOfDoors(
+          model.subtype().equals("Sedán") || model.subtype().equals("Pickup") ? 4 : 5);
+      car.setCapacity(5);
+      car.setTransmission(random.nextInt(100) < 45 ? "Automática" : "Manual");
+      vehicle = car;
+    } else {
+      long motorcycleIndex = group * 2 + (position - 3);
+      model = MOTORCYCLES.pick(random);
+      Motorcycle motorcycle = new Motorcycle();
+      motorcycle.setPlate(motorcyclePlate(motorcycleIndex));
+      motorcycle.setMotorcycleType(model.subtype());
+      motorcycle.setCapacity(2);
+      motorcycle.setTransmission(model.subtype().equals("Scooter") ? "Automática" : "Manual");
+      vehicle = motorcycle;
+    }
+
+    int age = AGES.pick(random);
+    boolean isCar = vehicle instanceof Car;
+    vehicle.setBrand(model.brand());
+    vehicle.setModel(model.name());
+    vehicle.setLine(model.lines().get(random.nextInt(model.lines().size())));
+    vehicle.setColor(COLORS.pick(random));
+    vehicle.setCityRegistered(CITIES.pick(random));
+    vehicle.setYear(reference.getYear() - age);
+    vehicle.setStatus(STATUSES.pick(random));
+
+    int yearlyKilometers = isCar ? 12_000 : 8_000;
+    double usage = 0.5 + random.nextDouble();
+    vehicle.setMileage(
+        (int) (age * yearlyKilometers * usage) + random.nextInt(isCar ? 5_000 : 3_000));
+
+    // 12 % de depreciación por año y hasta un 10 % adicional por uso; precios redondeados.
+    double depreciation = Math.pow(0.88, age) * (1.0 - 0.1 * random.nextDouble());
+    long purchasePesos = roundTo(Math.round(model.basePesos() * depreciation), 100_000);
+    long salePesos =
+        roundTo(Math.round(purchasePesos * (1.06 + 0.12 * random.nextDouble())), 50_000);
+    vehicle.setPurchasePrice(new Money(purchasePesos * 100));
+    vehicle.setSalePrice(new Money(salePesos * 100));
+
+    String brandCode = vehicle.getBrand().substring(0, Math.min(3, vehicle.getBrand().length()));
+    brandCode = brandCode.toUpperCase(Locale.ROOT);
+    vehicle.setMotorNumber(brandCode + base36(mix(n ^ seed ^ 0x6d6f746f72L), 13));
+    vehicle.setSerialNumber("9" + brandCode + base36(mix(n ^ seed ^ 0x73657269616cL), 13));
+    vehicle.setChassisNumber("8" + brandCode + base36(mix(n ^ seed ^ 0x636861737369L), 13));
+
+    LocalDateTime createdAt =
+        reference.minusSeconds(random.nextLong((long) historyDays * 24 * 3600));
+    vehicle.setCreatedAt(createdAt);
+    long sinceCreation = Duration.between(createdAt, reference).toSeconds();
+    vehicle.setUpdatedAt(createdAt.plusSeconds(random.nextLong(Math.max(1, sinceCreation))));
+    return vehicle;
+  }
+
+  private String carPlate(long carIndex) {
+    long value = permute(carIndex, MAX_CARS, carPlateFactor, carPlateOffset);
+    return letters(value / 1000, 3) + String.format("%03d", value % 1000);
+  }
+
+  private String motorcyclePlate(long motorcycleIndex) {
+    long value =
+        permute(motorcycleIndex, MAX_MOTORCYCLES, motorcyclePlateFactor, motorcyclePlateOffset);
+    return letters(value / 2600, 3)
+        + String.format("%02d", (value / 26) % 100)
+        + LETTERS.charAt((int) (value % 26));
+  }
+
+  /** Biyección de {@code [0, size)}: {@code factor} es coprimo con {@code size}. */
+  private static long permute(long index, long size, long factor, long offset) {
+    if (index >= size) {
+      throw new IllegalArgumentException(
+          "Se agotaron las placas disponibles (" + size + ") para este tipo de vehículo");
+    }
+    // index, factor y offset son menores que size (< 2^26): el producto cabe en un long.
+    return (index * factor % size + offset) % size;
+  }
+
+  /** Factor impar y no divisible por 5 ni 13: los únicos primos de los tamaños de placa. */
+  private static long coprimeFactor(long candidate, long size) {
+    long factor = Math.floorMod(candidate, size) | 1;
+    while (factor % 5 == 0 || factor % 13 == 0) {
+      factor = (factor + 2) % size;
+    }
+    return factor;
+  }
+
+  /** Finalizador de SplitMix64: biyectivo, así que valores distintos dan resultados distintos. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static String base36(long value, int length) {
+    String digits = Long.toUnsignedString(value, 36).toUpperCase(Locale.ROOT);
+    return "0".repeat(Math.max(0, length - digits.length())) + digits;
+  }
+
+  private static String letters(long value, int length) {
+    char[] chars = new char[length];
+    for (int i = length - 1; i >= 0; i--) {
+      chars[i] = LETTERS.charAt((int) (value % 26));
+      value /= 26;
+    }
+    return new String(chars);
+  }
+
+  private static long roundTo(long value, long step) {
+    return Math.max(step, Math.round((double) value / step) * step);
+  }
+
+  private static Model car(
+      String brand, String name, long basePesos, String body, String... lines) {
+    return new Model(brand, name, basePesos, body, List.of(lines));
+  }
+
+  private static Model moto(
+      String brand, String name, long basePesos, String type, String... lines) {
+    return new Model(brand, name, basePesos, type, List.of(lines));
+  }
+
+  private static <T> Entry<T> w(int weight, T value) {
+    return new Entry<>(weight, value);
+  }
+
+  /**
+   * Modelo del catálogo.
+   *
+   * @param basePesos precio aproximado de un vehículo nuevo, en pesos.
+   * @param subtype tipo de carrocería de un auto o tipo de moto.
+   */
+  private record Model(
+      String brand, String name, long basePesos, String subtype, List<String> lines) {}
+
+  private record Entry<T>(int weight, T value) {}
+
+  /** Selección aleatoria con pesos por búsqueda lineal sobre los pesos acumulados. */
+  private static final class Weighted<T> {
+
+    private final List<Entry<T>> entries;
+    private final int total;
+
+    Weighted(List<Entry<T>> entries) {
+      this.entries = entries;
+      this.total = entries.stream().mapToInt(Entry::weight).sum();
+    }
+
+    T pick(SplittableRandom random) {
+      int target = random.nextInt(total);
+      for (Entry<T> entry : entries) {
+        target -= entry.weight();
+        if (target < 0) {
+          return entry.value();
+        }
+      }
+      throw new IllegalStateException("Pesos inválidos");
+    }
+  }
+}
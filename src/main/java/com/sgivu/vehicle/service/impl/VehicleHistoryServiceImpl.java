@@ -0,0 +1,144 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.StatusDurationReport;
+import com.sgivu.vehicle.dto.VehicleHistoryEntry;
+import com.sgivu.vehicle.enums.VehicleChangeType;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehicleChangedEvent;
+import com.sgivu.vehicle.event.VehicleSnapshot;
+import com.sgivu.vehicle.repository.VehicleHistoryRepository;
+import com.sgivu.vehicle.service.VehicleHistoryService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Historial de cambios de los vehículos.
+ *
+ * <p>Cada {@link VehicleChangedEvent} se acumula en la transacción que lo publica y los cambios se
+ * insertan juntos, en un solo lote, justo antes de confirmarla: el historial se confirma o se
+ * descarta con la escritura que lo origina. Las importaciones CSV registran sus altas en la misma
+ * sentencia que inserta los vehículos ({@link
+ * com.sgivu.vehicle.repository.VehicleImportRepository}).
+ *
+ * <p>Las consultas son transacciones de solo lectura, así que con réplicas configuradas no cargan
+ * al principal. Las particiones mensuales de los próximos {@code vehicle.history.months-ahead}
+ * meses se crean al arrancar y cada {@code vehicle.history.partition-check-interval}.
+ */
+@Service
+public class VehicleHistoryServiceImpl implements VehicleHistoryService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleHistoryServiceImpl.class);
+
+  private final VehicleHistoryRepository historyRepository;
+  private final int monthsAhead;
+
+  public VehicleHistoryServiceImpl(
+      VehicleHistoryRepository historyRepository,
+      @Value("${vehicle.history.months-ahead:2}") int monthsAhead) {
+    this.historyRepository = historyRepository;
+    this.monthsAhead = monthsAhead;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public List<VehicleHistoryEntry> findTimeline(long vehicleId, VehicleType type) {
+    return historyRepository.findTimeline(vehicleId, type);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public StatusDurationReport statusDurations(
+      LocalDateTime from, LocalDateTime to, VehicleType type) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime end = to.isAfter(now) ? now : to;
+    return new StatusDurationReport(
+        from, end, type, historyRepository.statusDurations(from, end, type));
+  }
+
+  @EventListener
+  public void onVehicleChanged(VehicleChangedEvent event) {
+    VehicleSnapshot previous = event.previous();
+    VehicleSnapshot current = event.current();
+    VehicleHistoryRepository.Change change =
+        new VehicleHistoryRepository.Change(
+            event.vehicleId(),
+            current != null ? current.type() : previous.type(),
+            VehicleChangeType.of(event),
+            previous == null ? null : previous.status(),
+            current == null ? null : current.status(),
+            currentUser(),
+            LocalDateTime.now());
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      historyRepository.insertAll(List.of(change));
+      return;
+    }
+    pendingChanges().add(change);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${vehicle.history.partition-check-interval:PT12H}",
+      fixedDelayString = "${vehicle.history.partition-check-interval:PT12H}")
+  public void createPartitions() {
+    try {
+      int created = historyRepository.createPartitions(monthsAhead);
+      if (created > 0) {
+        logger.info("{} particiones mensuales de vehicle_history creadas", created);
+      }
+    } catch (DataAccessException e) {
+      logger.warn("No se pudieron crear las particiones de vehicle_history: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Cambios acumulados en la transacción en curso. La primera vez registra la sincronización que
+   * los inserta antes de confirmar.
+   */
+  @SuppressWarnings("unchecked")
+  private List<VehicleHistoryRepository.Change> pendingChanges() {
+    Object key = VehicleHistoryServiceImpl.class;
+    List<VehicleHistoryRepository.Change> pending =
+        (List<VehicleHistoryRepository.Change>) TransactionSynchronizationManager.getResource(key);
+    if (pending != null) {
+      return pending;
+    }
+    List<VehicleHistoryRepository.Change> changes = new ArrayList<>();
+    TransactionSynchronizationManager.bindResource(key, changes);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            historyRepository.insertAll(changes);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+          }
+        });
+    return changes;
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,183 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.VehicleCache;
+import com.sgivu.vehicle.dto.ImportReport;
+import com.sgivu.vehicle.dto.ImportRowError;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.event.VehiclesImportedEvent;
+import com.sgivu.vehicle.exception.ImportFormatException;
+import com.sgivu.vehicle.repository.VehicleImportRepository;
+import com.sgivu.vehicle.repository.VehicleImportRepository.Conflict;
+import com.sgivu.vehicle.repository.VehicleImportRepository.StagedVehicle;
+import com.sgivu.vehicle.service.VehicleImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Importación de vehículos desde CSV.
+ *
+ * <p>El archivo se lee registro a registro; cada fila se convierte en la entidad del tipo y se
+ * valida con las mismas restricciones de Bean Validation que la API. Las filas válidas se acumulan
+ * en lotes de {@code vehicle.import.chunk-size} que se insertan con {@code COPY}, cada uno en su
+ * propia transacción, así que un archivo grande no retiene una transacción larga ni toda la carga
+ * en memoria. Las filas rechazadas (por validación o por identificadores repetidos) se reportan sin
+ * detener la importación.
+ *
+ * <p>{@code COPY} no pasa por Hibernate: cada lote confirmado descarta las consultas guardadas en
+ * la caché de segundo nivel ({@link VehicleCache}).
+ */
+@Service
+public class VehicleImportServiceImpl implements VehicleImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleImportServiceImpl.class);
+
+  private final VehicleImportRepository vehicleImportRepository;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final VehicleCache vehicleCache;
+  private final int chunkSize;
+  private final int maxReportedErrors;
+
+  public VehicleImportServiceImpl(
+      VehicleImportRepository vehicleImportRepository,
+      Validator validator,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher,
+      VehicleCache vehicleCache,
+      @Value("${vehicle.import.chunk-size:5000}") int chunkSize,
+      @Value("${vehicle.import.max-reported-errors:1000}") int maxReportedErrors) {
+    this.vehicleImportRepository = vehicleImportRepository;
+    this.validator = validator;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.vehicleCache = vehicleCache;
+    this.chunkSize = chunkSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  @Override
+  public ImportReport importCsv(VehicleType type, InputStream csv, ProgressListener listener)
+      throws IOException {
+    long start = System.nanoTime();
+    Progress progress = new Progress();
+
+    try (CsvReader reader =
+        new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+      List<String> header = reader.next();
+      if (header == null) {
+        throw new ImportFormatException("El archivo CSV está vacío");
+      }
+      VehicleCsvColumns columns = VehicleCsvColumns.of(type, header);
+
+      List<StagedVehicle> chunk = new ArrayList<>(chunkSize);
+      List<ImportRowError> rowErrors = new ArrayList<>();
+      long row = 1;
+      for (List<String> record = reader.next(); record != null; record = reader.next()) {
+        row++;
+        progress.total++;
+        rowErrors.clear();
+
+        Vehicle vehicle = columns.toVehicle(row, record, rowErrors);
+        if (vehicle != null && rowErrors.isEmpty()) {
+          validate(row, vehicle, rowErrors);
+        }
+        if (!rowErrors.isEmpty()) {
+          progress.reject(rowErrors);
+          continue;
+        }
+
+        chunk.add(new StagedVehicle(row, vehicle));
+        if (chunk.size() == chunkSize) {
+          flush(type, chunk, progress);
+          listener.onChunkLoaded(progress.total, progress.imported);
+        }
+      }
+      flush(type, chunk, progress);
+      listener.onChunkLoaded(progress.total, progress.imported);
+    } finally {
+      if (progress.imported > 0) {
+        eventPublisher.publishEvent(new VehiclesImportedEvent(type, progress.imported));
+      }
+    }
+
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    logger.info(
+        "Importación de {} finalizada: {} filas, {} importadas, {} rechazadas en {} ms",
+        type,
+        progress.total,
+        progress.imported,
+        progress.rejected,
+        millis);
+    return new ImportReport(
+        progress.total,
+        progress.imported,
+        progress.rejected,
+        millis,
+        progress.errors,
+        progress.truncated);
+  }
+
+  private void validate(long row, Vehicle vehicle, List<ImportRowError> rowErrors) {
+    for (ConstraintViolation<Vehicle> violation : validator.validate(vehicle)) {
+      rowErrors.add(
+          new ImportRowError(row, violation.getPropertyPath().toString(), violation.getMessage()));
+    }
+    VehicleCsvColumns.checkLengths(row, vehicle, rowErrors);
+  }
+
+  private void flush(VehicleType type, List<StagedVehicle> chunk, Progress progress) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    List<Conflict> conflicts =
+        transactionTemplate.execute(status -> vehicleImportRepository.insertBatch(type, chunk));
+    int imported = chunk.size() - conflicts.size();
+    progress.imported += imported;
+    if (imported > 0) {
+      vehicleCache.evictQueryResults();
+    }
+    for (Conflict conflict : conflicts) {
+      progress.reject(
+          List.of(
+              new ImportRowError(
+                  conflict.rowNumber(),
+                  String.join(",", conflict.fields()),
+                  "Ya existe un vehículo con el mismo valor")));
+    }
+    chunk.clear();
+  }
+
+  /** Conteos acumulados de una importación. */
+  private final class Progress {
+    private long total;
+    private long imported;
+    private long rejected;
+    private boolean truncated;
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private void reject(List<ImportRowError> rowErrors) {
+      rejected++;
+      for (ImportRowError error : rowErrors) {
+        if (errors.size() < maxReportedErrors) {
+          errors.add(error);
+        } else {
+          truncated = true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,261 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sgivu.vehicle.dto.ImportReport;
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.JobStatus;
+import com.sgivu.vehicle.repository.VehicleExportRepository;
+import com.sgivu.vehicle.repository.VehicleJobRepository;
+import com.sgivu.vehicle.service.VehicleImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ejecuta un trabajo en un hilo del ejecutor de trabajos y guarda su resultado en {@code
+ * vehicle.jobs.storage-dir}.
+ *
+ * <p>Las importaciones leen el archivo recibido ({@code <id>.upload.csv}) con el mismo servicio que
+ * {@code /import} y guardan el reporte como {@code <id>.json}; el avance se estima por los bytes
+ * leídos. Las exportaciones escriben {@code <id>.csv}, re-importable, por páginas de {@code
+ * vehicle.jobs.checkpoint-rows} filas, con el avance relativo a un conteo previo. En cada punto de
+ * control (cada lote importado o página exportada) se guarda el avance y se atiende una cancelación
+ * pendiente.
+ */
+@Component
+class VehicleJobRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleJobRunner.class);
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  /**
+   * Archivos que escribe el runner: {@code <id>.upload.csv}, {@code <id>.json}, {@code <id>.csv} y
+   * {@code <id>.csv.part}.
+   */
+  private static final Pattern JOB_FILE =
+      Pattern.compile("(\\d{1,18})\\.(upload\\.csv|json|csv|csv\\.part)");
+
+  private final VehicleJobRepository jobRepository;
+  private final VehicleImportService importService;
+  private final VehicleExportRepository exportRepository;
+  private final ObjectMapper objectMapper;
+  private final Path storageDir;
+  private final int checkpointRows;
+
+  VehicleJobRunner(
+      VehicleJobRepository jobRepository,
+      VehicleImportService importService,
+      VehicleExportRepository exportRepository,
+      ObjectMapper objectMapper,
+      @Value("${vehicle.jobs.storage-dir:${java.io.tmpdir}/sgivu-vehicle-jobs}") Path storageDir,
+      @Value("${vehicle.jobs.checkpoint-rows:5000}") int checkpointRows)
+      throws IOException {
+    this.jobRepository = jobRepository;
+    this.importService = importService;
+    this.exportRepository = exportRepository;
+    this.objectMapper = objectMapper;
+    this.storageDir = Files.createDirectories(storageDir);
+    this.checkpointRows = checkpointRows;
+  }
+
+  Path uploadFile(Long jobId) {
+    return storageDir.resolve(jobId + ".upload.csv");
+  }
+
+  void run(Long jobId) {
+    try {
+      if (jobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+        // Cancelado mientras esperaba en la cola, o dado por perdido por otra instancia.
+        return;
+      }
+      VehicleJob job = jobRepository.findById(jobId).orElseThrow();
+      long start = System.nanoTime();
+      Path result =
+          switch (job.getJobType()) {
+            case IMPORT -> runImport(job);
+            case EXPORT -> runExport(job);
+          };
+      jobRepository.finish(
+          jobId, JobStatus.SUCCEEDED, result.toString(), null, LocalDateTime.now());
+      logger.info(
+          "Trabajo {} ({} de {}) finalizado en {} ms",
+          jobId,
+          job.getJobType(),
+          job.getVehicleType(),
+          (System.nanoTime() - start) / 1_000_000);
+    } catch (CancellationException e) {
+      logger.info("Trabajo {} cancelado", jobId);
+      jobRepository.finish(jobId, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+    } catch (Exception e) {
+      logger.error("El trabajo {} falló: {}", jobId, e.getMessage(), e);
+      jobRepository.finish(jobId, JobStatus.FAILED, null, errorMessage(e), LocalDateTime.now());
+    } finally {
+      deleteQuietly(uploadFile(jobId));
+    }
+  }
+
+  void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      logger.warn("No se pudo eliminar {}: {}", file, e.getMessage());
+    }
+  }
+
+  /**
+   * Elimina los archivos de trabajos modificados antes de {@code cutoff}, aunque otra instancia ya
+   * haya eliminado la fila de su trabajo. Solo toca los nombres que escribe el runner ({@link
+   * #JOB_FILE}) y omite los de trabajos aún pendientes o en curso; el resto del directorio no se
+   * toca.
+   *
+   * @return número de archivos eliminados.
+   */
+  int deleteFilesOlderThan(Instant cutoff) {
+    Map<Path, Long> candidates = new HashMap<>();
+    try (Stream<Path> files = Files.list(storageDir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Matcher name = JOB_FILE.matcher(file.getFileName().toString());
+        if (name.matches()
+            && Files.isRegularFile(file)
+            && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+          candidates.put(file, Long.parseLong(name.group(1)));
+        }
+      }
+    } catch (IOException e) {
+      logger.warn("No se pudo limpiar {}: {}", storageDir, e.getMessage());
+      return 0;
+    }
+    if (candidates.isEmpty()) {
+      return 0;
+    }
+    List<Long> active = jobRepository.findActiveIds(new HashSet<>(candidates.values()));
+    int deleted = 0;
+    for (Map.Entry<Path, Long> candidate : candidates.entrySet()) {
+      if (!active.contains(candidate.getValue()) && deleteIfPresent(candidate.getKey())) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
+  private boolean deleteIfPresent(Path file) {
+    try {
+      return Files.deleteIfExists(file);
+    } catch (IOException e) {
+      logger.warn("No se pudo eliminar {}: {}", file, e.getMessage());
+      return false;
+    }
+  }
+
+  private Path runImport(VehicleJob job) throws IOException {
+    Path upload = uploadFile(job.getId());
+    long size = Math.max(Files.size(upload), 1);
+
+    ImportReport report;
+    try (FileChannel channel = FileChannel.open(upload);
+        InputStream csv = Channels.newInputStream(channel)) {
+      report =
+          importService.importCsv(
+              job.getVehicleType(),
+              csv,
+              (processedRows, importedRows) ->
+                  checkpoint(job, processedRows, null, percent(position(channel), size)));
+    }
+
+    Path result = storageDir.resolve(job.getId() + ".json");
+    objectMapper.writeValue(result.toFile(), report);
+    complete(job, report.getTotalRows());
+    return result;
+  }
+
+  private Path runExport(VehicleJob job) throws IOException {
+    long total = exportRepository.count(job.getVehicleType(), job.getStatusFilter());
+    Path part = storageDir.resolve(job.getId() + ".csv.part");
+    long[] processed = {0};
+
+    try (CsvWriter writer =
+        new CsvWriter(Files.newBufferedWriter(part, StandardCharsets.UTF_8))) {
+      writer.write(VehicleExportRepository.header(job.getVehicleType()));
+      long lastId = 0;
+      long pageStart;
+      do {
+        pageStart = processed[0];
+        lastId =
+            exportRepository.page(
+                job.getVehicleType(),
+                job.getStatusFilter(),
+                lastId,
+                checkpointRows,
+                row -> {
+                  try {
+                    writer.write(row);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                  processed[0]++;
+                });
+        checkpoint(job, processed[0], total, percent(processed[0], total));
+      } while (processed[0] - pageStart == checkpointRows);
+    } catch (RuntimeException | IOException e) {
+      deleteQuietly(part);
+      throw e;
+    }
+
+    Path result = storageDir.resolve(job.getId() + ".csv");
+    Files.move(part, result, StandardCopyOption.REPLACE_EXISTING);
+    complete(job, processed[0]);
+    return result;
+  }
+
+  private void checkpoint(VehicleJob job, long processedRows, Long totalRows, int progress) {
+    if (jobRepository.isCancelRequested(job.getId())) {
+      throw new CancellationException();
+    }
+    jobRepository.updateProgress(
+        job.getId(), processedRows, totalRows, (short) progress, LocalDateTime.now());
+  }
+
+  /** El trabajo ya terminó: una cancelación que llegue ahora no deshace el resultado. */
+  private void complete(VehicleJob job, long totalRows) {
+    jobRepository.updateProgress(
+        job.getId(), totalRows, totalRows, (short) 100, LocalDateTime.now());
+  }
+
+  /** Porcentaje de avance; no llega a 100 hasta que el resultado está escrito. */
+  private static int percent(long done, long total) {
+    return total <= 0 ? 0 : (int) Math.min(99, done * 100 / total);
+  }
+
+  private static long position(FileChannel channel) {
+    try {
+      return channel.position();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static String errorMessage(Exception e) {
+    String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+  }
+}
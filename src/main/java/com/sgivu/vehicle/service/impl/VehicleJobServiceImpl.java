@@ -0,0 +1,215 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.JobsConfig;
+import com.sgivu.vehicle.entity.VehicleJob;
+import com.sgivu.vehicle.enums.JobStatus;
+import com.sgivu.vehicle.enums.JobType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import com.sgivu.vehicle.exception.JobQueueFullException;
+import com.sgivu.vehicle.repository.VehicleJobRepository;
+import com.sgivu.vehicle.service.VehicleJobService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Trabajos en segundo plano.
+ *
+ * <p>El envío solo guarda el archivo y la fila del trabajo, y responde de inmediato; el trabajo se
+ * ejecuta en {@link JobsConfig#JOB_EXECUTOR}. Mientras la instancia vive, un latido periódico
+ * renueva {@code updated_at} de sus trabajos pendientes o en curso; los que dejan de recibirlo
+ * durante {@code vehicle.jobs.stale-after} (instancia caída) se marcan como fallidos desde
+ * cualquier instancia. Los trabajos terminados y sus archivos se eliminan pasado {@code
+ * vehicle.jobs.retention}.
+ *
+ * <p>Los archivos quedan en {@code vehicle.jobs.storage-dir} de la instancia que ejecutó el
+ * trabajo. Con varias réplicas ese directorio debe ser un volumen compartido; si no lo es, el
+ * resultado solo se descarga desde esa instancia (las demás responden 404) y cada instancia elimina
+ * sus propios archivos vencidos aunque la fila la haya eliminado otra. Esa limpieza solo toca los
+ * nombres de archivo de los trabajos ({@code <id>.csv}, {@code <id>.json}...), nunca los de
+ * trabajos pendientes o en curso.
+ */
+@Service
+public class VehicleJobServiceImpl implements VehicleJobService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleJobServiceImpl.class);
+  private static final String QUEUE_FULL = "La cola de trabajos está llena";
+
+  private final VehicleJobRepository jobRepository;
+  private final VehicleJobRunner jobRunner;
+  private final ThreadPoolTaskExecutor jobExecutor;
+  private final Duration staleAfter;
+  private final Duration retention;
+  private final String workerId = UUID.randomUUID().toString();
+
+  public VehicleJobServiceImpl(
+      VehicleJobRepository jobRepository,
+      VehicleJobRunner jobRunner,
+      @Qualifier(JobsConfig.JOB_EXECUTOR) ThreadPoolTaskExecutor jobExecutor,
+      @Value("${vehicle.jobs.stale-after:PT5M}") Duration staleAfter,
+      @Value("${vehicle.jobs.retention:P7D}") Duration retention) {
+    this.jobRepository = jobRepository;
+    this.jobRunner = jobRunner;
+    this.jobExecutor = jobExecutor;
+    this.staleAfter = staleAfter;
+    this.retention = retention;
+  }
+
+  @Override
+  public VehicleJob submitImport(VehicleType type, InputStream csv, String createdBy)
+      throws IOException {
+    ensureCapacity();
+    VehicleJob job = jobRepository.save(newJob(JobType.IMPORT, type, null, createdBy));
+    Path upload = jobRunner.uploadFile(job.getId());
+    try {
+      Files.copy(csv, upload, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      jobRunner.deleteQuietly(upload);
+      jobRepository.finish(
+          job.getId(),
+          JobStatus.FAILED,
+          null,
+          "No se pudo recibir el archivo: " + e.getMessage(),
+          LocalDateTime.now());
+      throw e;
+    }
+    return dispatch(job);
+  }
+
+  @Override
+  public VehicleJob submitExport(VehicleType type, VehicleStatus status, String createdBy) {
+    ensureCapacity();
+    return dispatch(jobRepository.save(newJob(JobType.EXPORT, type, status, createdBy)));
+  }
+
+  @Override
+  public Optional<VehicleJob> findById(Long id) {
+    return jobRepository.findById(id);
+  }
+
+  @Override
+  public Optional<VehicleJob> cancel(Long id) {
+    LocalDateTime now = LocalDateTime.now();
+    if (jobRepository.cancelIfQueued(id, now) == 0) {
+      jobRepository.requestCancel(id, now);
+    }
+    return jobRepository.findById(id);
+  }
+
+  @Override
+  public Optional<Path> findResult(VehicleJob job) {
+    if (job.getStatus() != JobStatus.SUCCEEDED || job.getResultPath() == null) {
+      return Optional.empty();
+    }
+    Path result = Paths.get(job.getResultPath());
+    if (!Files.isReadable(result)) {
+      logger.warn(
+          "El resultado del trabajo {} no está en esta instancia ({}): vehicle.jobs.storage-dir"
+              + " no es compartido entre réplicas",
+          job.getId(),
+          result);
+      return Optional.empty();
+    }
+    return Optional.of(result);
+  }
+
+  @Scheduled(
+      initialDelayString = "${vehicle.jobs.heartbeat-interval:PT30S}",
+      fixedDelayString = "${vehicle.jobs.heartbeat-interval:PT30S}")
+  public void heartbeat() {
+    LocalDateTime now = LocalDateTime.now();
+    jobRepository.heartbeat(workerId, now);
+    int stale =
+        jobRepository.failStale(
+            now.minus(staleAfter), "La instancia que ejecutaba el trabajo dejó de responder", now);
+    if (stale > 0) {
+      logger.warn("{} trabajos sin latido marcados como fallidos", stale);
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${vehicle.jobs.cleanup-interval:PT1H}",
+      fixedDelayString = "${vehicle.jobs.cleanup-interval:PT1H}")
+  public void purgeExpired() {
+    LocalDateTime finishedBefore = LocalDateTime.now().minus(retention);
+    List<VehicleJob> expired;
+    do {
+      expired = jobRepository.findTop100ByFinishedAtBefore(finishedBefore);
+      for (VehicleJob job : expired) {
+        if (job.getResultPath() != null) {
+          jobRunner.deleteQuietly(Paths.get(job.getResultPath()));
+        }
+      }
+      jobRepository.deleteAllInBatch(expired);
+    } while (!expired.isEmpty());
+    // Los de trabajos cuya fila eliminó otra instancia sin acceso a este disco.
+    int orphans = jobRunner.deleteFilesOlderThan(Instant.now().minus(retention));
+    if (orphans > 0) {
+      logger.info("{} archivos de trabajos vencidos eliminados", orphans);
+    }
+  }
+
+  @PreDestroy
+  void failActiveJobs() {
+    int failed =
+        jobRepository.failActiveByWorker(
+            workerId, "La instancia se detuvo antes de terminar el trabajo", LocalDateTime.now());
+    if (failed > 0) {
+      logger.warn("{} trabajos pendientes o en curso marcados como fallidos al detenerse", failed);
+    }
+  }
+
+  /** Rechaza el envío antes de recibir el archivo si la cola ya está llena. */
+  private void ensureCapacity() {
+    if (jobExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+      throw new JobQueueFullException(QUEUE_FULL);
+    }
+  }
+
+  private VehicleJob dispatch(VehicleJob job) {
+    try {
+      jobExecutor.execute(() -> jobRunner.run(job.getId()));
+    } catch (TaskRejectedException e) {
+      jobRunner.deleteQuietly(jobRunner.uploadFile(job.getId()));
+      jobRepository.finish(job.getId(), JobStatus.FAILED, null, QUEUE_FULL, LocalDateTime.now());
+      throw new JobQueueFullException(QUEUE_FULL);
+    }
+    logger.info(
+        "Trabajo {} encolado: {} de {}", job.getId(), job.getJobType(), job.getVehicleType());
+    return job;
+  }
+
+  private VehicleJob newJob(
+      JobType jobType, VehicleType vehicleType, VehicleStatus statusFilter, String createdBy) {
+    LocalDateTime now = LocalDateTime.now();
+    VehicleJob job = new VehicleJob();
+    job.setJobType(jobType);
+    job.setVehicleType(vehicleType);
+    job.setStatus(JobStatus.QUEUED);
+    job.setStatusFilter(statusFilter);
+    job.setWorkerId(workerId);
+    job.setCreatedBy(createdBy);
+    job.setCreatedAt(now);
+    job.setUpdatedAt(now);
+    return job;
+  }
+}
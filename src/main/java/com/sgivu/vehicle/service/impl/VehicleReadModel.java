@@ -0,0 +1,49 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.entity.VehicleRead;
+import com.sgivu.vehicle.mapper.VehicleReadMapper;
+import com.sgivu.vehicle.repository.VehicleReadRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Punto único para decidir si las consultas de lectura (listados, conteos y búsquedas) se resuelven
+ * sobre la tabla desnormalizada {@code vehicle_read} en lugar de las tablas de la herencia JOINED.
+ *
+ * <p>Se activa con {@code vehicle.read-model.enabled=true}. Las lecturas por id y todas las
+ * escrituras siguen usando las entidades administradas.
+ */
+@Component
+public class VehicleReadModel {
+
+  private final VehicleReadRepository vehicleReadRepository;
+  private final VehicleReadMapper vehicleReadMapper;
+  private final boolean enabled;
+
+  public VehicleReadModel(
+      VehicleReadRepository vehicleReadRepository,
+      VehicleReadMapper vehicleReadMapper,
+      @Value("${vehicle.read-model.enabled:false}") boolean enabled) {
+    this.vehicleReadRepository = vehicleReadRepository;
+    this.vehicleReadMapper = vehicleReadMapper;
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public VehicleReadRepository repository() {
+    return vehicleReadRepository;
+  }
+
+  public Vehicle toVehicle(VehicleRead row) {
+    return vehicleReadMapper.toVehicle(row);
+  }
+
+  public List<Vehicle> toVehicles(List<VehicleRead> rows) {
+    return rows.stream().map(vehicleReadMapper::toVehicle).toList();
+  }
+}
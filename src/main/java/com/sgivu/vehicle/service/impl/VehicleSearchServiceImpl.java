@@ -0,0 +1,56 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.repository.VehicleQueryRepository;
+import com.sgivu.vehicle.service.VehicleSearchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Búsqueda de texto libre sobre autos y motocicletas.
+ *
+ * <p>La consulta de texto completo solo resuelve identificadores ordenados por relevancia; las
+ * entidades de la página se cargan después en una sola consulta (sobre {@code vehicle_read} si el
+ * modelo de lectura está activo) y se reordenan en memoria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class VehicleSearchServiceImpl implements VehicleSearchService {
+
+  private final VehicleQueryRepository vehicleQueryRepository;
+  private final VehicleReadModel readModel;
+
+  public VehicleSearchServiceImpl(
+      VehicleQueryRepository vehicleQueryRepository, VehicleReadModel readModel) {
+    this.vehicleQueryRepository = vehicleQueryRepository;
+    this.readModel = readModel;
+  }
+
+  @Override
+  public Page<Vehicle> search(String query, Pageable pageable) {
+    Page<Long> ids = vehicleQueryRepository.searchIds(query.trim(), pageable);
+    if (ids.isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+    }
+
+    List<Vehicle> vehicles =
+        readModel.isEnabled()
+            ? readModel.toVehicles(readModel.repository().findAllById(ids.getContent()))
+            : vehicleQueryRepository.findByIdIn(ids.getContent());
+    Map<Long, Vehicle> vehiclesById =
+        vehicles.stream()
+            .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+    List<Vehicle> ranked =
+        ids.getContent().stream().map(vehiclesById::get).filter(Objects::nonNull).toList();
+
+    return new PageImpl<>(ranked, pageable, ids.getTotalElements());
+  }
+}
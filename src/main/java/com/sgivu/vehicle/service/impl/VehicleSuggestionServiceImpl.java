@@ -0,0 +1,117 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.SuggestionResponse;
+import com.sgivu.vehicle.enums.SuggestionField;
+import com.sgivu.vehicle.event.VehicleChangedEvent;
+import com.sgivu.vehicle.event.VehicleSnapshot;
+import com.sgivu.vehicle.event.VehiclesImportedEvent;
+import com.sgivu.vehicle.repository.VehicleQueryRepository;
+import com.sgivu.vehicle.service.VehicleSuggestionService;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sugerencias de autocompletado servidas desde memoria.
+ *
+ * <p>El índice se construye al arrancar con una única consulta agregada y luego se mantiene con
+ * los {@link VehicleChangedEvent} confirmados, por lo que las consultas por pulsación de tecla no
+ * llegan a PostgreSQL. Una reconstrucción periódica incorpora los cambios hechos por otras
+ * instancias del servicio.
+ *
+ * <p>Las cargas masivas no publican un evento por vehículo: marcan el índice como desactualizado y
+ * se reconstruye cada {@code vehicle.suggestions.import-rebuild-delay} si hace falta, fuera del
+ * hilo de la importación y una sola vez para varias cargas seguidas.
+ */
+@Service
+public class VehicleSuggestionServiceImpl implements VehicleSuggestionService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleSuggestionServiceImpl.class);
+
+  private final VehicleQueryRepository vehicleQueryRepository;
+  private final AtomicBoolean stale = new AtomicBoolean();
+  private volatile Map<SuggestionField, PrefixIndex> indexes = emptyIndexes();
+
+  public VehicleSuggestionServiceImpl(VehicleQueryRepository vehicleQueryRepository) {
+    this.vehicleQueryRepository = vehicleQueryRepository;
+  }
+
+  @Override
+  public List<SuggestionResponse> suggest(SuggestionField field, String prefix, int limit) {
+    return indexes.get(field).complete(prefix, limit).stream()
+        .map(term -> new SuggestionResponse(term.value(), term.count()))
+        .toList();
+  }
+
+  @Override
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${vehicle.suggestions.refresh-interval:PT10M}",
+      fixedDelayString = "${vehicle.suggestions.refresh-interval:PT10M}")
+  public void rebuild() {
+    // Antes de la consulta: una carga que termina durante la reconstrucción pide otra.
+    stale.set(false);
+    Map<SuggestionField, PrefixIndex> rebuilt = emptyIndexes();
+    for (VehicleQueryRepository.TermCount termCount :
+        vehicleQueryRepository.countSuggestionTerms()) {
+      rebuilt
+          .get(SuggestionField.valueOf(termCount.getField()))
+          .add(termCount.getValue(), termCount.getTotal());
+    }
+    indexes = rebuilt;
+    logger.info(
+        "Índice de sugerencias reconstruido: {}",
+        rebuilt.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue().size()).toList());
+  }
+
+  @EventListener
+  public void onVehiclesImported(VehiclesImportedEvent event) {
+    stale.set(true);
+  }
+
+  @Scheduled(
+      initialDelayString = "${vehicle.suggestions.import-rebuild-delay:PT5S}",
+      fixedDelayString = "${vehicle.suggestions.import-rebuild-delay:PT5S}")
+  public void rebuildIfStale() {
+    if (stale.get()) {
+      rebuild();
+    }
+  }
+
+  @TransactionalEventListener
+  public void onVehicleChanged(VehicleChangedEvent event) {
+    Map<SuggestionField, PrefixIndex> current = indexes;
+    if (event.previous() != null) {
+      VehicleSnapshot previous = event.previous();
+      current.get(SuggestionField.BRAND).remove(previous.brand());
+      current.get(SuggestionField.MODEL).remove(previous.model());
+      current.get(SuggestionField.LINE).remove(previous.line());
+      current.get(SuggestionField.COLOR).remove(previous.color());
+      current.get(SuggestionField.CITY).remove(previous.cityRegistered());
+    }
+    if (event.current() != null) {
+      VehicleSnapshot updated = event.current();
+      current.get(SuggestionField.BRAND).add(updated.brand(), 1);
+      current.get(SuggestionField.MODEL).add(updated.model(), 1);
+      current.get(SuggestionField.LINE).add(updated.line(), 1);
+      current.get(SuggestionField.COLOR).add(updated.color(), 1);
+      current.get(SuggestionField.CITY).add(updated.cityRegistered(), 1);
+    }
+  }
+
+  private static Map<SuggestionField, PrefixIndex> emptyIndexes() {
+    Map<SuggestionField, PrefixIndex> map = new EnumMap<>(SuggestionField.class);
+    for (SuggestionField field : SuggestionField.values()) {
+      map.put(field, new PrefixIndex());
+    }
+    return map;
+  }
+}
@@ -0,0 +1,103 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.UniquenessConflict;
+import com.sgivu.vehicle.dto.VehicleIdentifiers;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.exception.VehicleConflictException;
+import com.sgivu.vehicle.repository.VehicleUniquenessRepository;
+import com.sgivu.vehicle.repository.VehicleUniquenessRepository.Match;
+import com.sgivu.vehicle.service.VehicleUniquenessService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@Transactional(readOnly = true)
+public class VehicleUniquenessServiceImpl implements VehicleUniquenessService {
+
+  /** Campos únicos, con el nombre de la API, en el orden en que se reportan. */
+  private static final Map<String, Function<VehicleIdentifiers, String>> FIELDS =
+      new LinkedHashMap<>();
+
+  static {
+    FIELDS.put("plate", VehicleIdentifiers::getPlate);
+    FIELDS.put("motorNumber", VehicleIdentifiers::getMotorNumber);
+    FIELDS.put("serialNumber", VehicleIdentifiers::getSerialNumber);
+    FIELDS.put("chassisNumber", VehicleIdentifiers::getChassisNumber);
+  }
+
+  private static final List<String> FIELD_ORDER = List.copyOf(FIELDS.keySet());
+
+  private final VehicleUniquenessRepository vehicleUniquenessRepository;
+
+  public VehicleUniquenessServiceImpl(VehicleUniquenessRepository vehicleUniquenessRepository) {
+    this.vehicleUniquenessRepository = vehicleUniquenessRepository;
+  }
+
+  @Override
+  public List<UniquenessConflict> check(List<VehicleIdentifiers> candidates) {
+    List<VehicleIdentifiers> normalized = candidates.stream().map(this::normalize).toList();
+    List<UniquenessConflict> conflicts = new ArrayList<>();
+
+    for (Match match : vehicleUniquenessRepository.findMatches(normalized)) {
+      String value = FIELDS.get(match.field()).apply(normalized.get(match.index()));
+      conflicts.add(
+          new UniquenessConflict(match.index(), match.field(), value, match.vehicleId(), null));
+    }
+
+    for (Map.Entry<String, Function<VehicleIdentifiers, String>> field : FIELDS.entrySet()) {
+      Map<String, Integer> firstIndex = new HashMap<>();
+      for (int i = 0; i < normalized.size(); i++) {
+        String value = field.getValue().apply(normalized.get(i));
+        if (value == null) {
+          continue;
+        }
+        Integer previous = firstIndex.putIfAbsent(value, i);
+        if (previous != null) {
+          conflicts.add(new UniquenessConflict(i, field.getKey(), value, null, previous));
+        }
+      }
+    }
+
+    conflicts.sort(
+        Comparator.comparingInt(UniquenessConflict::getIndex)
+            .thenComparingInt(conflict -> FIELD_ORDER.indexOf(conflict.getField())));
+    return conflicts;
+  }
+
+  @Override
+  public void assertUnique(Vehicle vehicle, Long excludeId) {
+    List<UniquenessConflict> conflicts =
+        check(
+            List.of(
+                new VehicleIdentifiers(
+                    excludeId,
+                    vehicle.getPlate(),
+                    vehicle.getMotorNumber(),
+                    vehicle.getSerialNumber(),
+                    vehicle.getChassisNumber())));
+    if (!conflicts.isEmpty()) {
+      throw new VehicleConflictException(conflicts);
+    }
+  }
+
+  private VehicleIdentifiers normalize(VehicleIdentifiers candidate) {
+    return new VehicleIdentifiers(
+        candidate.getId(),
+        textOrNull(candidate.getPlate()),
+        textOrNull(candidate.getMotorNumber()),
+        textOrNull(candidate.getSerialNumber()),
+        textOrNull(candidate.getChassisNumber()));
+  }
+
+  private static String textOrNull(String value) {
+    return StringUtils.hasText(value) ? value : null;
+  }
+}
@@ -1,86 +1,92 @@
 BEGIN;
 
+-- Los precios van en centavos de peso: 6500000000 son $65.000.000.
 INSERT INTO vehicles (id, brand, model, capacity, line, plate, motor_number, serial_number, chassis_number, color,
                       city_registered, year, mileage, transmission, status, purchase_price, sale_price, photo_url,
                       created_at, updated_at)
 VALUES (nextval('vehicles_id_seq'), 'Toyota', 'Corolla', 5, 'SE', 'ABC123', 'MTO12345T', 'SER12345T', 'CHS12345T',
-        'Blanco', 'Montería', 2020, 45000, 'Automática', 'AVAILABLE', 65000000, 72000000,
+        'Blanco', 'Montería', 2020, 45000, 'Automática', 'AVAILABLE', 6500000000, 7200000000,
         'https://img.toyota.com/corolla2020.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Mazda', '3', 5, 'Grand Touring LX', 'BCD234', 'MTO23456M', 'SER23456M',
         'CHS23456M',
-        'Rojo', 'Medellín', 2021, 30000, 'Automática', 'AVAILABLE', 78000000, 86000000,
+        'Rojo', 'Medellín', 2021, 30000, 'Automática', 'AVAILABLE', 7800000000, 8600000000,
         'https://img.mazda.com/mazda3.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Chevrolet', 'Onix', 5, 'Turbo Premier', 'CDE345', 'MTO34567C', 'SER34567C',
-        'CHS34567C', 'Negro', 'Bogotá', 2022, 15000, 'Manual', 'AVAILABLE', 62000000, 68000000,
+        'CHS34567C', 'Negro', 'Bogotá', 2022, 15000, 'Manual', 'AVAILABLE', 6200000000, 6800000000,
         'https://img.chevrolet.com/onix2022.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Kia', 'Rio', 5, 'EX Vibrant', 'DEF456', 'MTO45678K', 'SER45678K', 'CHS45678K',
         'Gris',
-        'Cali', 2019, 52000, 'Manual', 'AVAILABLE', 50000000, 56000000, 'https://img.kia.com/rio.jpg', now(), now()),
+        'Cali', 2019, 52000, 'Manual', 'AVAILABLE', 5000000000, 5600000000,
+        'https://img.kia.com/rio.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Hyundai', 'Tucson', 5, 'GLS 4x2', 'EFG567', 'MTO56789H', 'SER56789H', 'CHS56789H',
-        'Plata', 'Barranquilla', 2018, 60000, 'Automática', 'AVAILABLE', 82000000, 90000000,
+        'Plata', 'Barranquilla', 2018, 60000, 'Automática', 'AVAILABLE', 8200000000, 9000000000,
         'https://img.hyundai.com/tucson.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Renault', 'Duster', 5, 'Intens CVT', 'FGH678', 'MTO67890R', 'SER67890R',
         'CHS67890R',
-        'Verde', 'Cartagena', 2020, 40000, 'Automática', 'AVAILABLE', 73000000, 80000000,
+        'Verde', 'Cartagena', 2020, 40000, 'Automática', 'AVAILABLE', 7300000000, 8000000000,
         'https://img.renault.com/duster.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Nissan', 'Versa', 5, 'Exclusive', 'GHI789', 'MTO78901N', 'SER78901N', 'CHS78901N',
-        'Azul', 'Sincelejo', 2021, 25000, 'Automática', 'AVAILABLE', 68000000, 74000000,
+        'Azul', 'Sincelejo', 2021, 25000, 'Automática', 'AVAILABLE', 6800000000, 7400000000,
         'https://img.nissan.com/versa.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Volkswagen', 'Gol', 5, 'Trendline', 'HIJ890', 'MTO89012V', 'SER89012V',
         'CHS89012V',
-        'Gris Oscuro', 'Medellín', 2019, 50000, 'Manual', 'AVAILABLE', 48000000, 54000000, 'https://img.vw.com/gol.jpg',
+        'Gris Oscuro', 'Medellín', 2019, 50000, 'Manual', 'AVAILABLE', 4800000000, 5400000000,
+        'https://img.vw.com/gol.jpg',
         now(), now()),
        (nextval('vehicles_id_seq'), 'Ford', 'EcoSport', 5, 'Titanium AT', 'IJK901', 'MTO90123F', 'SER90123F',
         'CHS90123F',
-        'Blanco', 'Montería', 2020, 37000, 'Automática', 'AVAILABLE', 76000000, 82000000,
+        'Blanco', 'Montería', 2020, 37000, 'Automática', 'AVAILABLE', 7600000000, 8200000000,
         'https://img.ford.com/ecosport.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Peugeot', '2008', 5, 'Active Pack', 'JKL012', 'MTO01234P', 'SER01234P',
         'CHS01234P',
-        'Negro', 'Cúcuta', 2021, 22000, 'Automática', 'AVAILABLE', 82000000, 89000000,
+        'Negro', 'Cúcuta', 2021, 22000, 'Automática', 'AVAILABLE', 8200000000, 8900000000,
         'https://img.peugeot.com/2008.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Suzuki', 'Swift', 5, 'GLX MT', 'KLM123', 'MTO12345S', 'SER12345S', 'CHS12345S',
         'Rojo',
-        'Bogotá', 2022, 12000, 'Manual', 'AVAILABLE', 65000000, 71000000, 'https://img.suzuki.com/swift.jpg', now(),
+        'Bogotá', 2022, 12000, 'Manual', 'AVAILABLE', 6500000000, 7100000000,
+        'https://img.suzuki.com/swift.jpg', now(),
         now()),
 
        (nextval('vehicles_id_seq'), 'Yamaha', 'NMAX', 2, 'Connected ABS', 'AAA111', 'MTO11111Y', 'SER11111Y',
         'CHS11111Y',
-        'Azul', 'Montería', 2023, 8000, 'Automática', 'AVAILABLE', 14000000, 16500000,
+        'Azul', 'Montería', 2023, 8000, 'Automática', 'AVAILABLE', 1400000000, 1650000000,
         'https://img.yamaha.com/nmax.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Honda', 'CB160F', 2, 'Repsol Edition', 'BBB222', 'MTO22222H', 'SER22222H',
         'CHS22222H',
-        'Naranja', 'Bogotá', 2022, 12000, 'Manual', 'AVAILABLE', 11000000, 13000000,
+        'Naranja', 'Bogotá', 2022, 12000, 'Manual', 'AVAILABLE', 1100000000, 1300000000,
         'https://img.honda.com/cb160f.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Suzuki', 'Gixxer', 2, 'SF Fi', 'CCC333', 'MTO33333S', 'SER33333S', 'CHS33333S',
-        'Negro', 'Cali', 2021, 14000, 'Manual', 'AVAILABLE', 10000000, 12500000, 'https://img.suzuki.com/gixxer.jpg',
+        'Negro', 'Cali', 2021, 14000, 'Manual', 'AVAILABLE', 1000000000, 1250000000,
+        'https://img.suzuki.com/gixxer.jpg',
         now(), now()),
        (nextval('vehicles_id_seq'), 'Bajaj', 'Pulsar', 2, 'NS200 Fi', 'DDD444', 'MTO44444B', 'SER44444B', 'CHS44444B',
-        'Amarillo', 'Medellín', 2020, 18000, 'Manual', 'AVAILABLE', 9500000, 11500000,
+        'Amarillo', 'Medellín', 2020, 18000, 'Manual', 'AVAILABLE', 950000000, 1150000000,
         'https://img.bajaj.com/pulsarns200.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Kawasaki', 'Z400', 2, 'Performance Edition', 'EEE555', 'MTO55555K', 'SER55555K',
-        'CHS55555K', 'Verde', 'Barranquilla', 2021, 10000, 'Manual', 'AVAILABLE', 25000000, 28000000,
+        'CHS55555K', 'Verde', 'Barranquilla', 2021, 10000, 'Manual', 'AVAILABLE', 2500000000, 2800000000,
         'https://img.kawasaki.com/z400.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'AKT', 'NKD', 2, 'Classic Sport', 'FFF666', 'MTO66666A', 'SER66666A', 'CHS66666A',
-        'Rojo', 'Sincelejo', 2020, 20000, 'Manual', 'AVAILABLE', 5200000, 6400000, 'https://img.akt.com/nkd.jpg', now(),
+        'Rojo', 'Sincelejo', 2020, 20000, 'Manual', 'AVAILABLE', 520000000, 640000000,
+        'https://img.akt.com/nkd.jpg', now(),
         now()),
        (nextval('vehicles_id_seq'), 'Hero', 'Hunk', 2, 'Sport X', 'GGG777', 'MTO77777H', 'SER77777H', 'CHS77777H',
         'Negro',
-        'Montería', 2019, 25000, 'Manual', 'AVAILABLE', 6500000, 7500000, 'https://img.hero.com/hunk.jpg', now(),
+        'Montería', 2019, 25000, 'Manual', 'AVAILABLE', 650000000, 750000000, 'https://img.hero.com/hunk.jpg', now(),
         now()),
        (nextval('vehicles_id_seq'), 'Yamaha', 'FZ25', 2, 'Midnight Edition', 'HHH888', 'MTO88888Y', 'SER88888Y',
         'CHS88888Y',
-        'Gris', 'Medellín', 2021, 11000, 'Manual', 'AVAILABLE', 14500000, 16500000,
+        'Gris', 'Medellín', 2021, 11000, 'Manual', 'AVAILABLE', 1450000000, 1650000000,
         'https://img.yamaha.com/fz25.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'TVS', 'Apache RTR 160', 2, 'Smart Connect', 'III999', 'MTO99999T', 'SER99999T',
-        'CHS99999T', 'Negro', 'Cartagena', 2022, 9000, 'Manual', 'AVAILABLE', 9700000, 11500000,
+        'CHS99999T', 'Negro', 'Cartagena', 2022, 9000, 'Manual', 'AVAILABLE', 970000000, 1150000000,
         'https://img.tvs.com/apache160.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Honda', 'CB500X', 2, 'Adventure Pro', 'JJJ000', 'MTO00000H', 'SER00000H',
         'CHS00000H',
-        'Rojo', 'Bogotá', 2023, 4000, 'Manual', 'AVAILABLE', 37000000, 42000000,
+        'Rojo', 'Bogotá', 2023, 4000, 'Manual', 'AVAILABLE', 3700000000, 4200000000,
         'https://img.honda.com/cb500x.jpg', now(), now()),
        (nextval('vehicles_id_seq'), 'Benelli', 'TRK502', 2, 'X Touring', 'KKK111', 'MTO11111B', 'SER11111B',
         'CHS11111B',
-        'Gris', 'Cali', 2023, 3000, 'Manual', 'AVAILABLE', 38000000, 43000000,
+        'Gris', 'Cali', 2023, 3000, 'Manual', 'AVAILABLE', 3800000000, 4300000000,
         'https://img.benelli.com/trk502.jpg', now(), now());
 
 INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)
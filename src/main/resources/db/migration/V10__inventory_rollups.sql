@@ -0,0 +1,102 @@
+-- Agregados del inventario para los tableros, sin recorrer los vehículos en cada consulta.
+--
+-- inventory_rollup guarda por tipo, marca, ciudad y estado la cantidad de vehículos, los totales de compra y
+-- venta (centavos) y la suma de las fechas de alta (segundos desde epoch) para la antigüedad promedio. Un
+-- trigger sobre vehicle_read le aplica la diferencia de cada escritura en la misma transacción; las
+-- actualizaciones que no cambian grupo, precios ni fecha de alta no tocan la tabla. Los vehículos cuyo subtipo
+-- aún no existe (vehicle_type NULL entre el INSERT de vehicles y el de cars / motorcycles) no cuentan hasta que
+-- se completa el alta.
+CREATE TABLE inventory_rollup
+(
+    vehicle_type        VARCHAR(20) NOT NULL,
+    brand               VARCHAR(20) NOT NULL,
+    city_registered     VARCHAR(30) NOT NULL,
+    status              VARCHAR(20) NOT NULL,
+    vehicles            BIGINT      NOT NULL,
+    purchase_total      BIGINT      NOT NULL,
+    sale_total          BIGINT      NOT NULL,
+    created_count       BIGINT      NOT NULL,
+    created_epoch_total NUMERIC     NOT NULL,
+    PRIMARY KEY (vehicle_type, brand, city_registered, status)
+);
+
+-- El grupo anterior y el nuevo se actualizan en una sola sentencia y en orden de llave, para que dos
+-- transacciones que mueven vehículos entre los mismos grupos bloqueen las filas en el mismo orden.
+CREATE OR REPLACE FUNCTION sync_inventory_rollup() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND (OLD.vehicle_type, OLD.brand, OLD.city_registered, OLD.status, OLD.purchase_price, OLD.sale_price,
+             OLD.created_at)
+            IS NOT DISTINCT FROM
+            (NEW.vehicle_type, NEW.brand, NEW.city_registered, NEW.status, NEW.purchase_price, NEW.sale_price,
+             NEW.created_at) THEN
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO inventory_rollup AS r (vehicle_type, brand, city_registered, status, vehicles, purchase_total,
+                                       sale_total, created_count, created_epoch_total)
+    SELECT vehicle_type, brand, city_registered, status, sum(sign), sum(sign * purchase_price),
+           sum(sign * sale_price), coalesce(sum(sign) FILTER (WHERE created_at IS NOT NULL), 0),
+           coalesce(sum(sign * extract(epoch FROM created_at)), 0)
+    FROM (SELECT OLD.vehicle_type, OLD.brand, OLD.city_registered, OLD.status, OLD.purchase_price,
+                 OLD.sale_price, OLD.created_at, -1
+          WHERE TG_OP <> 'INSERT'
+          UNION ALL
+          SELECT NEW.vehicle_type, NEW.brand, NEW.city_registered, NEW.status, NEW.purchase_price,
+                 NEW.sale_price, NEW.created_at, 1
+          WHERE TG_OP <> 'DELETE') AS d (vehicle_type, brand, city_registered, status, purchase_price,
+                                         sale_price, created_at, sign)
+    WHERE vehicle_type IS NOT NULL
+    GROUP BY vehicle_type, brand, city_registered, status
+    ORDER BY vehicle_type, brand, city_registered, status
+    ON CONFLICT (vehicle_type, brand, city_registered, status) DO UPDATE
+        SET vehicles            = r.vehicles + EXCLUDED.vehicles,
+            purchase_total      = r.purchase_total + EXCLUDED.purchase_total,
+            sale_total          = r.sale_total + EXCLUDED.sale_total,
+            created_count       = r.created_count + EXCLUDED.created_count,
+            created_epoch_total = r.created_epoch_total + EXCLUDED.created_epoch_total;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vehicle_read_inventory_rollup
+    AFTER INSERT OR UPDATE OR DELETE
+    ON vehicle_read
+    FOR EACH ROW
+EXECUTE FUNCTION sync_inventory_rollup();
+
+-- Carga inicial. El trigger ya existe y la migración mantiene bloqueada vehicle_read hasta confirmar, así que
+-- ninguna escritura concurrente se pierde ni se cuenta dos veces.
+INSERT INTO inventory_rollup (vehicle_type, brand, city_registered, status, vehicles, purchase_total, sale_total,
+                              created_count, created_epoch_total)
+SELECT vehicle_type, brand, city_registered, status, count(*), sum(purchase_price), sum(sale_price),
+       count(created_at), coalesce(sum(extract(epoch FROM created_at)), 0)
+FROM vehicle_read
+WHERE vehicle_type IS NOT NULL
+GROUP BY vehicle_type, brand, city_registered, status;
+
+-- La distribución por antigüedad cambia con el paso del tiempo aunque nadie escriba, así que no se mantiene por
+-- trigger: es una vista materializada que el servicio refresca cada vehicle.analytics.refresh-interval. El
+-- índice único permite REFRESH ... CONCURRENTLY, que no bloquea las lecturas.
+CREATE MATERIALIZED VIEW inventory_age_buckets AS
+SELECT vehicle_type,
+       brand,
+       city_registered,
+       status,
+       bucket.min_days,
+       bucket.max_days,
+       count(*)            AS vehicles,
+       sum(purchase_price) AS purchase_total,
+       sum(sale_price)     AS sale_total,
+       localtimestamp      AS refreshed_at
+FROM vehicle_read
+         CROSS JOIN LATERAL (SELECT (localtimestamp::DATE - created_at::DATE) AS days) AS age
+         JOIN (VALUES (0, 30), (31, 60), (61, 90), (91, 180), (181, NULL)) AS bucket (min_days, max_days)
+              ON age.days >= bucket.min_days AND (bucket.max_days IS NULL OR age.days <= bucket.max_days)
+WHERE vehicle_type IS NOT NULL
+  AND created_at IS NOT NULL
+GROUP BY vehicle_type, brand, city_registered, status, bucket.min_days, bucket.max_days;
+
+CREATE UNIQUE INDEX idx_inventory_age_buckets_key
+    ON inventory_age_buckets (vehicle_type, brand, city_registered, status, min_days);
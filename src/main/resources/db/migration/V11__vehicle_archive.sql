@@ -0,0 +1,44 @@
+-- Archivo de vehículos: los eliminados y los que llevan tiempo vendidos o inactivos salen de vehicles / cars /
+-- motorcycles (y con ellos de vehicle_read, la búsqueda y los agregados) y se guardan aquí con las columnas del
+-- modelo de lectura, de modo que el inventario activo y sus índices solo crecen con los vehículos vigentes.
+--
+-- Una tabla aparte y no una partición de vehicles: vehicles es la raíz de la herencia JOINED, con llaves
+-- foráneas desde cars / motorcycles y restricciones únicas globales (placa, motor, serie, chasis), y una tabla
+-- particionada exigiría incluir la llave de partición en todas ellas. El archivo solo recibe inserciones por
+-- lotes y lecturas por id, así que no necesita esas restricciones: un vehículo archivado libera su placa para
+-- un nuevo registro (p. ej. si se vuelve a comprar).
+CREATE TABLE vehicles_archive
+(
+    id              BIGINT PRIMARY KEY,
+    vehicle_type    VARCHAR(20)  NOT NULL,
+    brand           VARCHAR(20)  NOT NULL,
+    model           VARCHAR(20)  NOT NULL,
+    capacity        INT          NOT NULL,
+    line            VARCHAR(20)  NOT NULL,
+    plate           VARCHAR(10)  NOT NULL,
+    motor_number    VARCHAR(30)  NOT NULL,
+    serial_number   VARCHAR(30)  NOT NULL,
+    chassis_number  VARCHAR(30)  NOT NULL,
+    color           VARCHAR(20)  NOT NULL,
+    city_registered VARCHAR(30)  NOT NULL,
+    year            INT          NOT NULL,
+    mileage         INT          NOT NULL,
+    transmission    VARCHAR(20)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    purchase_price  BIGINT       NOT NULL,
+    sale_price      BIGINT       NOT NULL,
+    photo_url       VARCHAR(500),
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP,
+    body_type       VARCHAR(20),
+    fuel_type       VARCHAR(20),
+    number_of_doors INT,
+    motorcycle_type VARCHAR(20),
+    -- DELETED (eliminado por la API) o ARCHIVED (archivado por antigüedad en un estado final).
+    archive_reason  VARCHAR(20)  NOT NULL,
+    archived_at     TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_vehicles_archive_type_id ON vehicles_archive (vehicle_type, id);
+CREATE INDEX idx_vehicles_archive_plate ON vehicles_archive (plate);
+
@@ -0,0 +1,6 @@
+-- Candidatos al archivado (VehicleArchiveRepository): vendidos o inactivos del más antiguo al más reciente.
+-- Índice parcial, pequeño porque el archivado vacía continuamente su parte más antigua. Como en V3, se crea con
+-- CONCURRENTLY, fuera de una transacción, para no bloquear las escrituras sobre vehicles.
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_terminal_updated_at_id;
+CREATE INDEX CONCURRENTLY idx_vehicles_terminal_updated_at_id ON vehicles (updated_at, id)
+    WHERE status IN ('SOLD', 'INACTIVE');
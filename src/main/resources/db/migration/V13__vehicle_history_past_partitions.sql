@@ -0,0 +1,37 @@
+-- Particiones de meses pasados, para cargas con fechas de alta históricas (datos sintéticos): sin ellas todo ese
+-- historial caería en la partición por defecto. Igual que la versión de V9, pero desde el mes de first_day; la de
+-- un solo argumento sigue creando desde el mes en curso.
+CREATE OR REPLACE FUNCTION vehicle_history_create_partitions(first_day TIMESTAMP, months_ahead INT) RETURNS INT AS
+$$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', least(first_day, localtimestamp));
+    last_month  TIMESTAMP := date_trunc('month', localtimestamp) + make_interval(months => months_ahead);
+    month_end   TIMESTAMP;
+    part_name   TEXT;
+    created     INT       := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('vehicle_history_partitions'));
+    WHILE month_start <= last_month LOOP
+        month_end := month_start + INTERVAL '1 month';
+        part_name := 'vehicle_history_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(part_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE vehicle_history INCLUDING DEFAULTS)', part_name);
+            EXECUTE format('WITH moved AS (DELETE FROM vehicle_history_default'
+                               || ' WHERE changed_at >= %L AND changed_at < %L RETURNING *)'
+                               || ' INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, part_name);
+            EXECUTE format('ALTER TABLE vehicle_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           part_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION vehicle_history_create_partitions(months_ahead INT) RETURNS INT AS
+$$
+    SELECT vehicle_history_create_partitions(localtimestamp, months_ahead);
+$$ LANGUAGE sql;
+
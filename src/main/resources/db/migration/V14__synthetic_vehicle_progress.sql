@@ -0,0 +1,7 @@
+-- Siguiente número de VehicleDataGenerator por semilla que cargó PerfDataSeeder: continuar desde el conteo de
+-- vehicles repetiría números cuando se archivan vehículos generados.
+CREATE TABLE synthetic_vehicle_progress
+(
+    seed        BIGINT PRIMARY KEY,
+    next_number BIGINT NOT NULL
+);
@@ -0,0 +1,50 @@
+-- Los grupos de inventory_rollup que se quedan sin vehículos se eliminan en el mismo trigger, en lugar de
+-- acumular filas en cero por cada combinación de marca, ciudad y estado que existió alguna vez. Solo el grupo
+-- anterior de una escritura puede quedar en cero, y su fila ya está bloqueada por la actualización: una
+-- transacción concurrente que suma a ese grupo espera y, al eliminarse la fila, vuelve a insertarla.
+CREATE OR REPLACE FUNCTION sync_inventory_rollup() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND (OLD.vehicle_type, OLD.brand, OLD.city_registered, OLD.status, OLD.purchase_price, OLD.sale_price,
+             OLD.created_at)
+            IS NOT DISTINCT FROM
+            (NEW.vehicle_type, NEW.brand, NEW.city_registered, NEW.status, NEW.purchase_price, NEW.sale_price,
+             NEW.created_at) THEN
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO inventory_rollup AS r (vehicle_type, brand, city_registered, status, vehicles, purchase_total,
+                                       sale_total, created_count, created_epoch_total)
+    SELECT vehicle_type, brand, city_registered, status, sum(sign), sum(sign * purchase_price),
+           sum(sign * sale_price), coalesce(sum(sign) FILTER (WHERE created_at IS NOT NULL), 0),
+           coalesce(sum(sign * extract(epoch FROM created_at)), 0)
+    FROM (SELECT OLD.vehicle_type, OLD.brand, OLD.city_registered, OLD.status, OLD.purchase_price,
+                 OLD.sale_price, OLD.created_at, -1
+          WHERE TG_OP <> 'INSERT'
+          UNION ALL
+          SELECT NEW.vehicle_type, NEW.brand, NEW.city_registered, NEW.status, NEW.purchase_price,
+                 NEW.sale_price, NEW.created_at, 1
+          WHERE TG_OP <> 'DELETE') AS d (vehicle_type, brand, city_registered, status, purchase_price,
+                                         sale_price, created_at, sign)
+    WHERE vehicle_type IS NOT NULL
+    GROUP BY vehicle_type, brand, city_registered, status
+    ORDER BY vehicle_type, brand, city_registered, status
+    ON CONFLICT (vehicle_type, brand, city_registered, status) DO UPDATE
+        SET vehicles            = r.vehicles + EXCLUDED.vehicles,
+            purchase_total      = r.purchase_total + EXCLUDED.purchase_total,
+            sale_total          = r.sale_total + EXCLUDED.sale_total,
+            created_count       = r.created_count + EXCLUDED.created_count,
+            created_epoch_total = r.created_epoch_total + EXCLUDED.created_epoch_total;
+
+    IF TG_OP <> 'INSERT' AND OLD.vehicle_type IS NOT NULL THEN
+        DELETE FROM inventory_rollup
+        WHERE (vehicle_type, brand, city_registered, status)
+                  = (OLD.vehicle_type, OLD.brand, OLD.city_registered, OLD.status)
+          AND vehicles = 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DELETE FROM inventory_rollup WHERE vehicles = 0;
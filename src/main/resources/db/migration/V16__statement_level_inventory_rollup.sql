@@ -0,0 +1,193 @@
+-- inventory_rollup por sentencia y no por fila: con el trigger de fila de V10 cada vehículo de un lote (COPY de
+-- la importación, generador de datos) actualizaba la fila de su grupo, así que un lote de 5000 vehículos de
+-- pocos grupos dejaba miles de versiones muertas de las mismas filas. Ahora cada sentencia sobre vehicle_read
+-- suma la diferencia de todas sus filas por grupo (tablas de transición) y actualiza cada grupo una sola vez.
+--
+-- vehicle_read se escribe desde los triggers de vehicles, así que para que un lote sea una sola sentencia sobre
+-- vehicle_read las altas y bajas de vehicles también pasan a ser por sentencia. Las actualizaciones de vehicles
+-- siguen siendo por fila: son de a un vehículo y su lista de columnas evita reescribir vehicle_read cuando solo
+-- cambian search_terms / search_vector (las tablas de transición no admiten lista de columnas).
+--
+-- Las escrituras de un mismo grupo siguen esperando el bloqueo de su fila hasta el commit de la anterior: es el
+-- costo de tener los agregados al día dentro de la misma transacción.
+
+-- Alta y baja de vehicles por sentencia. El INSERT ... SELECT se ejecuta al final de la sentencia, cuando los
+-- subtipos insertados en la misma sentencia (importación CSV) ya existen.
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_vehicles() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM vehicle_read r USING old_vehicles o WHERE r.id = o.id;
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO vehicle_read (id, vehicle_type, brand, model, capacity, line, plate, motor_number, serial_number,
+                              chassis_number, color, city_registered, year, mileage, transmission, status,
+                              purchase_price, sale_price, photo_url, created_at, updated_at, body_type, fuel_type,
+                              number_of_doors, motorcycle_type)
+    SELECT n.id,
+           CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END,
+           n.brand, n.model, n.capacity, n.line, n.plate, n.motor_number, n.serial_number, n.chassis_number,
+           n.color, n.city_registered, n.year, n.mileage, n.transmission, n.status, n.purchase_price,
+           n.sale_price, n.photo_url, n.created_at, n.updated_at, c.body_type, c.fuel_type, c.number_of_doors,
+           m.motorcycle_type
+    FROM new_vehicles n
+             LEFT JOIN cars c ON c.vehicle_id = n.id
+             LEFT JOIN motorcycles m ON m.vehicle_id = n.id
+    ON CONFLICT (id) DO UPDATE SET brand           = EXCLUDED.brand,
+                                   model           = EXCLUDED.model,
+                                   capacity        = EXCLUDED.capacity,
+                                   line            = EXCLUDED.line,
+                                   plate           = EXCLUDED.plate,
+                                   motor_number    = EXCLUDED.motor_number,
+                                   serial_number   = EXCLUDED.serial_number,
+                                   chassis_number  = EXCLUDED.chassis_number,
+                                   color           = EXCLUDED.color,
+                                   city_registered = EXCLUDED.city_registered,
+                                   year            = EXCLUDED.year,
+                                   mileage         = EXCLUDED.mileage,
+                                   transmission    = EXCLUDED.transmission,
+                                   status          = EXCLUDED.status,
+                                   purchase_price  = EXCLUDED.purchase_price,
+                                   sale_price      = EXCLUDED.sale_price,
+                                   photo_url       = EXCLUDED.photo_url,
+                                   created_at      = EXCLUDED.created_at,
+                                   updated_at      = EXCLUDED.updated_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_vehicles_read_model ON vehicles;
+
+CREATE TRIGGER trg_vehicles_read_model
+    AFTER UPDATE OF brand, model, capacity, line, plate, motor_number, serial_number, chassis_number, color,
+    city_registered, year, mileage, transmission, status, purchase_price, sale_price, photo_url, created_at,
+    updated_at
+    ON vehicles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_read_from_vehicle();
+
+CREATE TRIGGER trg_vehicles_read_model_insert
+    AFTER INSERT
+    ON vehicles
+    REFERENCING NEW TABLE AS new_vehicles
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_vehicle_read_from_vehicles();
+
+CREATE TRIGGER trg_vehicles_read_model_delete
+    AFTER DELETE
+    ON vehicles
+    REFERENCING OLD TABLE AS old_vehicles
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_vehicle_read_from_vehicles();
+
+-- Cambios de vehicle_read que afectan a inventory_rollup: -1 por la versión anterior de la fila y +1 por la
+-- nueva, con su grupo, precios y fecha de alta.
+CREATE TYPE inventory_rollup_change AS
+(
+    vehicle_type    VARCHAR(20),
+    brand           VARCHAR(20),
+    city_registered VARCHAR(30),
+    status          VARCHAR(20),
+    purchase_price  BIGINT,
+    sale_price      BIGINT,
+    created_at      TIMESTAMP,
+    sign            INT
+);
+
+-- Suma los cambios por grupo y actualiza cada grupo una vez, en orden de llave para que dos transacciones que
+-- tocan los mismos grupos los bloqueen en el mismo orden. Los grupos que pierden vehículos y quedan en cero se
+-- eliminan (V15); su fila ya está bloqueada por la actualización.
+CREATE OR REPLACE FUNCTION apply_inventory_rollup_changes(changes inventory_rollup_change[]) RETURNS VOID AS
+$$
+BEGIN
+    IF cardinality(changes) = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO inventory_rollup AS r (vehicle_type, brand, city_registered, status, vehicles, purchase_total,
+                                       sale_total, created_count, created_epoch_total)
+    SELECT vehicle_type, brand, city_registered, status, sum(sign), sum(sign * purchase_price),
+           sum(sign * sale_price), coalesce(sum(sign) FILTER (WHERE created_at IS NOT NULL), 0),
+           coalesce(sum(sign * extract(epoch FROM created_at)), 0)
+    FROM unnest(changes)
+    GROUP BY vehicle_type, brand, city_registered, status
+    ORDER BY vehicle_type, brand, city_registered, status
+    ON CONFLICT (vehicle_type, brand, city_registered, status) DO UPDATE
+        SET vehicles            = r.vehicles + EXCLUDED.vehicles,
+            purchase_total      = r.purchase_total + EXCLUDED.purchase_total,
+            sale_total          = r.sale_total + EXCLUDED.sale_total,
+            created_count       = r.created_count + EXCLUDED.created_count,
+            created_epoch_total = r.created_epoch_total + EXCLUDED.created_epoch_total;
+
+    DELETE FROM inventory_rollup r
+        USING (SELECT DISTINCT vehicle_type, brand, city_registered, status
+               FROM unnest(changes)
+               WHERE sign < 0) AS g
+    WHERE (r.vehicle_type, r.brand, r.city_registered, r.status)
+              = (g.vehicle_type, g.brand, g.city_registered, g.status)
+      AND r.vehicles = 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Las filas sin subtipo (vehicle_type NULL) no cuentan, y las actualizaciones que no cambian grupo, precios ni
+-- fecha de alta no generan cambios.
+CREATE OR REPLACE FUNCTION sync_inventory_rollup() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM apply_inventory_rollup_changes(ARRAY(
+            SELECT ROW (vehicle_type, brand, city_registered, status, purchase_price, sale_price, created_at,
+                        1)::inventory_rollup_change
+            FROM new_rows
+            WHERE vehicle_type IS NOT NULL));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM apply_inventory_rollup_changes(ARRAY(
+            SELECT ROW (vehicle_type, brand, city_registered, status, purchase_price, sale_price, created_at,
+                        -1)::inventory_rollup_change
+            FROM old_rows
+            WHERE vehicle_type IS NOT NULL));
+    ELSE
+        PERFORM apply_inventory_rollup_changes(ARRAY(
+            SELECT ROW (c.vehicle_type, c.brand, c.city_registered, c.status, c.purchase_price, c.sale_price,
+                        c.created_at, c.sign)::inventory_rollup_change
+            FROM old_rows o
+                     JOIN new_rows n ON n.id = o.id
+                     CROSS JOIN LATERAL (VALUES (o.vehicle_type, o.brand, o.city_registered, o.status,
+                                                 o.purchase_price, o.sale_price, o.created_at, -1),
+                                                (n.vehicle_type, n.brand, n.city_registered, n.status,
+                                                 n.purchase_price, n.sale_price, n.created_at, 1))
+                AS c (vehicle_type, brand, city_registered, status, purchase_price, sale_price, created_at, sign)
+            WHERE c.vehicle_type IS NOT NULL
+              AND (o.vehicle_type, o.brand, o.city_registered, o.status, o.purchase_price, o.sale_price,
+                   o.created_at)
+                IS DISTINCT FROM
+                  (n.vehicle_type, n.brand, n.city_registered, n.status, n.purchase_price, n.sale_price,
+                   n.created_at)));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_vehicle_read_inventory_rollup ON vehicle_read;
+
+CREATE TRIGGER trg_vehicle_read_inventory_rollup_insert
+    AFTER INSERT
+    ON vehicle_read
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_inventory_rollup();
+
+CREATE TRIGGER trg_vehicle_read_inventory_rollup_update
+    AFTER UPDATE
+    ON vehicle_read
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_inventory_rollup();
+
+CREATE TRIGGER trg_vehicle_read_inventory_rollup_delete
+    AFTER DELETE
+    ON vehicle_read
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION sync_inventory_rollup();
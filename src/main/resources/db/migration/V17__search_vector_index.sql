@@ -0,0 +1,11 @@
+-- Índices de la búsqueda de texto libre (V2), creados con CONCURRENTLY para no bloquear las escrituras sobre
+-- vehicles mientras se construyen; como V3, el script solo contiene sentencias no transaccionales y el DROP
+-- previo elimina un índice inválido al reintentar.
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_search_vector;
+CREATE INDEX CONCURRENTLY idx_vehicles_search_vector ON vehicles USING GIN (search_vector);
+
+-- Filas que SearchVectorBackfill aún no completó: queda vacío al terminar, así que la comprobación de cada
+-- arranque no recorre la tabla.
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_search_vector_missing;
+CREATE INDEX CONCURRENTLY idx_vehicles_search_vector_missing ON vehicles (id) WHERE search_vector IS NULL;
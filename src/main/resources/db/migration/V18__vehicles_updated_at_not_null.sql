@@ -0,0 +1,33 @@
+-- updated_at es la primera columna del keyset de los listados (cursor updatedAt|id) y la que compara el archivado
+-- automático, pero V1 la dejó opcional: una fila heredada sin fecha no se podía paginar (el cursor "null|id" es
+-- inválido), quedaba primera en el orden descendente y nunca se archivaba. Se completa con la fecha de alta (o la
+-- actual) y pasa a NOT NULL en vehicles y vehicle_read.
+--
+-- SET NOT NULL recorrería la tabla bajo bloqueo exclusivo; con un CHECK ya validado (VALIDATE solo impide
+-- cambios de esquema, no lecturas ni escrituras) PostgreSQL omite ese recorrido, y el CHECK se elimina después.
+UPDATE vehicles
+SET updated_at = coalesce(created_at, localtimestamp)
+WHERE updated_at IS NULL;
+
+-- El trigger de vehicles ya copió las filas actualizadas; esto cubre las que vehicle_read tuviera sin fecha.
+UPDATE vehicle_read
+SET updated_at = coalesce(created_at, localtimestamp)
+WHERE updated_at IS NULL;
+
+ALTER TABLE vehicles
+    ADD CONSTRAINT vehicles_updated_at_not_null CHECK (updated_at IS NOT NULL) NOT VALID;
+ALTER TABLE vehicles
+    VALIDATE CONSTRAINT vehicles_updated_at_not_null;
+ALTER TABLE vehicles
+    ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE vehicles
+    DROP CONSTRAINT vehicles_updated_at_not_null;
+
+ALTER TABLE vehicle_read
+    ADD CONSTRAINT vehicle_read_updated_at_not_null CHECK (updated_at IS NOT NULL) NOT VALID;
+ALTER TABLE vehicle_read
+    VALIDATE CONSTRAINT vehicle_read_updated_at_not_null;
+ALTER TABLE vehicle_read
+    ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE vehicle_read
+    DROP CONSTRAINT vehicle_read_updated_at_not_null;
@@ -1,11 +1,6 @@
-drop sequence if exists public.vehicles_id_seq cascade;
-drop table if exists public.cars cascade;
-drop table if exists public.motorcycles cascade;
-drop table if exists public.vehicles cascade;
-
+-- Esquema inicial: jerarquía JOINED vehicles / cars / motorcycles.
 CREATE SEQUENCE vehicles_id_seq START WITH 1 INCREMENT BY 1;
 
-
 CREATE TABLE vehicles
 (
     id              BIGINT PRIMARY KEY DEFAULT nextval('vehicles_id_seq'),
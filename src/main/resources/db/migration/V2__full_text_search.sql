@@ -0,0 +1,70 @@
+-- Búsqueda de texto libre sobre vehicles (GET /v1/vehicles/search).
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Configuración de búsqueda en español que ignora tildes (medellín = medellin).
+CREATE TEXT SEARCH CONFIGURATION public.sgivu_spanish (COPY = pg_catalog.spanish);
+ALTER TEXT SEARCH CONFIGURATION public.sgivu_spanish
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+
+-- Términos del subtipo (carrocería, combustible, tipo de moto) mantenidos por triggers, y el vector de búsqueda
+-- que calcula un trigger sobre vehicles. Ambas columnas se agregan vacías y sin valor por defecto, sin reescribir
+-- la tabla: una columna GENERATED ... STORED y los UPDATE de toda la tabla la reescribirían bajo bloqueo
+-- exclusivo en una sola transacción. Las filas existentes las completa SearchVectorBackfill por lotes al arrancar,
+-- y el índice GIN se crea con CONCURRENTLY en V17.
+ALTER TABLE vehicles
+    ADD COLUMN search_terms VARCHAR(60);
+
+ALTER TABLE vehicles
+    ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION vehicle_search_vector(brand TEXT, model TEXT, line TEXT, color TEXT,
+                                                 city_registered TEXT, transmission TEXT,
+                                                 search_terms TEXT) RETURNS TSVECTOR AS
+$$
+SELECT setweight(to_tsvector('public.sgivu_spanish', brand || ' ' || model || ' ' || line), 'A') ||
+       setweight(to_tsvector('public.sgivu_spanish', color || ' ' || city_registered), 'B') ||
+       setweight(to_tsvector('public.sgivu_spanish', transmission || ' ' || coalesce(search_terms, '')), 'C')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_search_vector() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.search_vector := vehicle_search_vector(NEW.brand, NEW.model, NEW.line, NEW.color, NEW.city_registered,
+                                               NEW.transmission, NEW.search_terms);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vehicles_search_vector
+    BEFORE INSERT OR UPDATE OF brand, model, line, color, city_registered, transmission, search_terms
+    ON vehicles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_search_vector();
+
+CREATE OR REPLACE FUNCTION sync_car_search_terms() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicles SET search_terms = concat_ws(' ', NEW.body_type, NEW.fuel_type) WHERE id = NEW.vehicle_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_motorcycle_search_terms() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicles SET search_terms = NEW.motorcycle_type WHERE id = NEW.vehicle_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cars_search_terms
+    AFTER INSERT OR UPDATE OF body_type, fuel_type
+    ON cars
+    FOR EACH ROW
+EXECUTE FUNCTION sync_car_search_terms();
+
+CREATE TRIGGER trg_motorcycles_search_terms
+    AFTER INSERT OR UPDATE OF motorcycle_type
+    ON motorcycles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_motorcycle_search_terms();
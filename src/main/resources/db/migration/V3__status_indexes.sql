@@ -0,0 +1,25 @@
+-- Índices para consultas filtradas por estado (conteos, listados por keyset y resúmenes de valor).
+--
+-- Se crean con CONCURRENTLY para no bloquear escrituras sobre vehicles mientras se construyen. Flyway
+-- ejecuta este script fuera de una transacción porque solo contiene sentencias no transaccionales; si
+-- una construcción falla queda un índice inválido, que el DROP previo elimina al reintentar.
+
+-- Listado por keyset: WHERE status = ? ORDER BY updated_at DESC, id DESC. Al incluir status como primera
+-- columna también cubre count(*) ... WHERE status = ? con un index-only scan.
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_status_updated_at_id;
+CREATE INDEX CONCURRENTLY idx_vehicles_status_updated_at_id ON vehicles (status, updated_at DESC, id DESC);
+
+-- Inventario disponible, el estado más consultado: índice parcial más pequeño que el compuesto.
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_available_updated_at_id;
+CREATE INDEX CONCURRENTLY idx_vehicles_available_updated_at_id ON vehicles (updated_at DESC, id DESC)
+    WHERE status = 'AVAILABLE';
+
+-- Resúmenes de valor por estado (sum/avg de precios) sin visitar el heap.
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_status_prices;
+CREATE INDEX CONCURRENTLY idx_vehicles_status_prices ON vehicles (status) INCLUDE (purchase_price, sale_price);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_year;
+CREATE INDEX CONCURRENTLY idx_vehicles_year ON vehicles (year);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_vehicles_sale_price;
+CREATE INDEX CONCURRENTLY idx_vehicles_sale_price ON vehicles (sale_price);
@@ -0,0 +1,131 @@
+-- Modelo de lectura desnormalizado: una fila por vehículo con las columnas de su subtipo, para listar,
+-- buscar y contar sin los JOIN de la herencia JOINED. Los triggers lo mantienen en la misma transacción
+-- que la escritura, así que nunca está desfasado respecto a vehicles / cars / motorcycles.
+CREATE TABLE vehicle_read
+(
+    id              BIGINT PRIMARY KEY,
+    vehicle_type    VARCHAR(20),
+    brand           VARCHAR(20)      NOT NULL,
+    model           VARCHAR(20)      NOT NULL,
+    capacity        INT              NOT NULL,
+    line            VARCHAR(20)      NOT NULL,
+    plate           VARCHAR(10)      NOT NULL,
+    motor_number    VARCHAR(30)      NOT NULL,
+    serial_number   VARCHAR(30)      NOT NULL,
+    chassis_number  VARCHAR(30)      NOT NULL,
+    color           VARCHAR(20)      NOT NULL,
+    city_registered VARCHAR(30)      NOT NULL,
+    year            INT              NOT NULL,
+    mileage         INT              NOT NULL,
+    transmission    VARCHAR(20)      NOT NULL,
+    status          VARCHAR(20)      NOT NULL,
+    purchase_price  DOUBLE PRECISION NOT NULL,
+    sale_price      DOUBLE PRECISION NOT NULL,
+    photo_url       VARCHAR(500),
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP,
+    body_type       VARCHAR(20),
+    fuel_type       VARCHAR(20),
+    number_of_doors INT,
+    motorcycle_type VARCHAR(20)
+);
+
+CREATE INDEX idx_vehicle_read_type_status_updated_at_id
+    ON vehicle_read (vehicle_type, status, updated_at DESC, id DESC);
+CREATE INDEX idx_vehicle_read_type_id ON vehicle_read (vehicle_type, id);
+CREATE UNIQUE INDEX idx_vehicle_read_plate ON vehicle_read (plate);
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_vehicle() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM vehicle_read WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+
+    INSERT INTO vehicle_read (id, brand, model, capacity, line, plate, motor_number, serial_number, chassis_number,
+                              color, city_registered, year, mileage, transmission, status, purchase_price,
+                              sale_price, photo_url, created_at, updated_at)
+    VALUES (NEW.id, NEW.brand, NEW.model, NEW.capacity, NEW.line, NEW.plate, NEW.motor_number, NEW.serial_number,
+            NEW.chassis_number, NEW.color, NEW.city_registered, NEW.year, NEW.mileage, NEW.transmission, NEW.status,
+            NEW.purchase_price, NEW.sale_price, NEW.photo_url, NEW.created_at, NEW.updated_at)
+    ON CONFLICT (id) DO UPDATE SET brand           = EXCLUDED.brand,
+                                   model           = EXCLUDED.model,
+                                   capacity        = EXCLUDED.capacity,
+                                   line            = EXCLUDED.line,
+                                   plate           = EXCLUDED.plate,
+                                   motor_number    = EXCLUDED.motor_number,
+                                   serial_number   = EXCLUDED.serial_number,
+                                   chassis_number  = EXCLUDED.chassis_number,
+                                   color           = EXCLUDED.color,
+                                   city_registered = EXCLUDED.city_registered,
+                                   year            = EXCLUDED.year,
+                                   mileage         = EXCLUDED.mileage,
+                                   transmission    = EXCLUDED.transmission,
+                                   status          = EXCLUDED.status,
+                                   purchase_price  = EXCLUDED.purchase_price,
+                                   sale_price      = EXCLUDED.sale_price,
+                                   photo_url       = EXCLUDED.photo_url,
+                                   created_at      = EXCLUDED.created_at,
+                                   updated_at      = EXCLUDED.updated_at;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_car() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicle_read
+    SET vehicle_type    = 'CAR',
+        body_type       = NEW.body_type,
+        fuel_type       = NEW.fuel_type,
+        number_of_doors = NEW.number_of_doors
+    WHERE id = NEW.vehicle_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_motorcycle() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicle_read
+    SET vehicle_type    = 'MOTORCYCLE',
+        motorcycle_type = NEW.motorcycle_type
+    WHERE id = NEW.vehicle_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- La lista de columnas evita reescribir la fila cuando solo cambian search_terms / search_vector.
+CREATE TRIGGER trg_vehicles_read_model
+    AFTER INSERT OR DELETE OR UPDATE OF brand, model, capacity, line, plate, motor_number, serial_number,
+    chassis_number, color, city_registered, year, mileage, transmission, status, purchase_price, sale_price,
+    photo_url, created_at, updated_at
+    ON vehicles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_read_from_vehicle();
+
+CREATE TRIGGER trg_cars_read_model
+    AFTER INSERT OR UPDATE
+    ON cars
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_read_from_car();
+
+CREATE TRIGGER trg_motorcycles_read_model
+    AFTER INSERT OR UPDATE
+    ON motorcycles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_read_from_motorcycle();
+
+INSERT INTO vehicle_read (id, vehicle_type, brand, model, capacity, line, plate, motor_number, serial_number,
+                          chassis_number, color, city_registered, year, mileage, transmission, status,
+                          purchase_price, sale_price, photo_url, created_at, updated_at, body_type, fuel_type,
+                          number_of_doors, motorcycle_type)
+SELECT v.id,
+       CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END,
+       v.brand, v.model, v.capacity, v.line, v.plate, v.motor_number, v.serial_number, v.chassis_number, v.color,
+       v.city_registered, v.year, v.mileage, v.transmission, v.status, v.purchase_price, v.sale_price, v.photo_url,
+       v.created_at, v.updated_at, c.body_type, c.fuel_type, c.number_of_doors, m.motorcycle_type
+FROM vehicles v
+         LEFT JOIN cars c ON c.vehicle_id = v.id
+         LEFT JOIN motorcycles m ON m.vehicle_id = v.id;
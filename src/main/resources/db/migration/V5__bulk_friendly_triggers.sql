@@ -0,0 +1,97 @@
+-- Triggers compatibles con cargas masivas: una carga que inserta vehicles y el subtipo en la misma sentencia
+-- (importación CSV) escribe cada fila una sola vez en vehicles y en vehicle_read. Los triggers de fila se
+-- ejecutan al final de la sentencia, cuando la fila del subtipo ya existe, y las actualizaciones que no
+-- cambian nada se omiten en lugar de generar una nueva versión de la fila.
+
+CREATE OR REPLACE FUNCTION sync_car_search_terms() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicles
+    SET search_terms = concat_ws(' ', NEW.body_type, NEW.fuel_type)
+    WHERE id = NEW.vehicle_id
+      AND search_terms IS DISTINCT FROM concat_ws(' ', NEW.body_type, NEW.fuel_type);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_motorcycle_search_terms() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicles
+    SET search_terms = NEW.motorcycle_type
+    WHERE id = NEW.vehicle_id
+      AND search_terms IS DISTINCT FROM NEW.motorcycle_type;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_vehicle() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM vehicle_read WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+
+    INSERT INTO vehicle_read (id, vehicle_type, brand, model, capacity, line, plate, motor_number, serial_number,
+                              chassis_number, color, city_registered, year, mileage, transmission, status,
+                              purchase_price, sale_price, photo_url, created_at, updated_at, body_type, fuel_type,
+                              number_of_doors, motorcycle_type)
+    SELECT NEW.id,
+           CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END,
+           NEW.brand, NEW.model, NEW.capacity, NEW.line, NEW.plate, NEW.motor_number, NEW.serial_number,
+           NEW.chassis_number, NEW.color, NEW.city_registered, NEW.year, NEW.mileage, NEW.transmission, NEW.status,
+           NEW.purchase_price, NEW.sale_price, NEW.photo_url, NEW.created_at, NEW.updated_at,
+           c.body_type, c.fuel_type, c.number_of_doors, m.motorcycle_type
+    FROM (SELECT 1) AS one
+             LEFT JOIN cars c ON c.vehicle_id = NEW.id
+             LEFT JOIN motorcycles m ON m.vehicle_id = NEW.id
+    ON CONFLICT (id) DO UPDATE SET brand           = EXCLUDED.brand,
+                                   model           = EXCLUDED.model,
+                                   capacity        = EXCLUDED.capacity,
+                                   line            = EXCLUDED.line,
+                                   plate           = EXCLUDED.plate,
+                                   motor_number    = EXCLUDED.motor_number,
+                                   serial_number   = EXCLUDED.serial_number,
+                                   chassis_number  = EXCLUDED.chassis_number,
+                                   color           = EXCLUDED.color,
+                                   city_registered = EXCLUDED.city_registered,
+                                   year            = EXCLUDED.year,
+                                   mileage         = EXCLUDED.mileage,
+                                   transmission    = EXCLUDED.transmission,
+                                   status          = EXCLUDED.status,
+                                   purchase_price  = EXCLUDED.purchase_price,
+                                   sale_price      = EXCLUDED.sale_price,
+                                   photo_url       = EXCLUDED.photo_url,
+                                   created_at      = EXCLUDED.created_at,
+                                   updated_at      = EXCLUDED.updated_at;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_car() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicle_read
+    SET vehicle_type    = 'CAR',
+        body_type       = NEW.body_type,
+        fuel_type       = NEW.fuel_type,
+        number_of_doors = NEW.number_of_doors
+    WHERE id = NEW.vehicle_id
+      AND (vehicle_type, body_type, fuel_type, number_of_doors)
+        IS DISTINCT FROM ('CAR', NEW.body_type, NEW.fuel_type, NEW.number_of_doors);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_vehicle_read_from_motorcycle() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE vehicle_read
+    SET vehicle_type    = 'MOTORCYCLE',
+        motorcycle_type = NEW.motorcycle_type
+    WHERE id = NEW.vehicle_id
+      AND (vehicle_type, motorcycle_type) IS DISTINCT FROM ('MOTORCYCLE', NEW.motorcycle_type);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,28 @@
+-- Trabajos en segundo plano (importaciones y exportaciones masivas). La fila es el estado compartido entre
+-- instancias: progreso, solicitud de cancelación y latido de la instancia que lo ejecuta (worker_id +
+-- updated_at), para que un trabajo huérfano tras un reinicio se marque como fallido.
+CREATE TABLE vehicle_jobs
+(
+    id               BIGSERIAL PRIMARY KEY,
+    job_type         VARCHAR(20)  NOT NULL,
+    vehicle_type     VARCHAR(20)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    status_filter    VARCHAR(20),
+    progress         SMALLINT     NOT NULL DEFAULT 0,
+    processed_rows   BIGINT       NOT NULL DEFAULT 0,
+    total_rows       BIGINT,
+    cancel_requested BOOLEAN      NOT NULL DEFAULT FALSE,
+    result_path      VARCHAR(500),
+    error_message    VARCHAR(1000),
+    worker_id        VARCHAR(100) NOT NULL,
+    created_by       VARCHAR(100),
+    created_at       TIMESTAMP    NOT NULL,
+    started_at       TIMESTAMP,
+    finished_at      TIMESTAMP,
+    updated_at       TIMESTAMP    NOT NULL
+);
+
+-- Solo los trabajos pendientes o en curso: el latido y la detección de huérfanos no recorren el histórico.
+CREATE INDEX idx_vehicle_jobs_active ON vehicle_jobs (worker_id, updated_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX idx_vehicle_jobs_finished_at ON vehicle_jobs (finished_at);
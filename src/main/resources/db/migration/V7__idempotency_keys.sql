@@ -0,0 +1,20 @@
+-- Respuestas recientes de escrituras enviadas con el encabezado Idempotency-Key. La clave es por usuario;
+-- request_hash detecta una clave reutilizada con otro contenido. Una fila IN_PROGRESS marca una petición
+-- aún en curso: la inserción es atómica (ON CONFLICT), así que dos reintentos simultáneos no ejecutan dos
+-- veces la misma escritura.
+CREATE TABLE idempotency_keys
+(
+    principal        VARCHAR(100) NOT NULL,
+    idempotency_key  VARCHAR(100) NOT NULL,
+    request_hash     VARCHAR(64)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    response_status  INT,
+    content_type     VARCHAR(100),
+    location         VARCHAR(500),
+    response_body    BYTEA,
+    created_at       TIMESTAMP    NOT NULL,
+    expires_at       TIMESTAMP    NOT NULL,
+    PRIMARY KEY (principal, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
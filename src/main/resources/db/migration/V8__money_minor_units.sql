@@ -0,0 +1,22 @@
+-- Precios en centavos (BIGINT) en lugar de DOUBLE PRECISION: las sumas y comparaciones son exactas. Los
+-- importes existentes se redondean al centavo. ALTER TYPE reescribe las tablas y sus índices bajo un bloqueo
+-- exclusivo, así que en tablas grandes conviene aplicarla fuera de horas pico. Los CHECK (>= 0) y las funciones
+-- del modelo de lectura siguen siendo válidos con el nuevo tipo; el trigger de vehicles nombra las columnas en su
+-- UPDATE OF, así que se elimina y se vuelve a crear igual.
+DROP TRIGGER trg_vehicles_read_model ON vehicles;
+
+ALTER TABLE vehicles
+    ALTER COLUMN purchase_price TYPE BIGINT USING round(purchase_price * 100)::BIGINT,
+    ALTER COLUMN sale_price TYPE BIGINT USING round(sale_price * 100)::BIGINT;
+
+ALTER TABLE vehicle_read
+    ALTER COLUMN purchase_price TYPE BIGINT USING round(purchase_price * 100)::BIGINT,
+    ALTER COLUMN sale_price TYPE BIGINT USING round(sale_price * 100)::BIGINT;
+
+CREATE TRIGGER trg_vehicles_read_model
+    AFTER INSERT OR DELETE OR UPDATE OF brand, model, capacity, line, plate, motor_number, serial_number,
+    chassis_number, color, city_registered, year, mileage, transmission, status, purchase_price, sale_price,
+    photo_url, created_at, updated_at
+    ON vehicles
+    FOR EACH ROW
+EXECUTE FUNCTION sync_vehicle_read_from_vehicle();
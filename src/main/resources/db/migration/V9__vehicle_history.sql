@@ -0,0 +1,54 @@
+-- Historial de cambios de los vehículos: solo inserciones, una fila por creación, edición, cambio de estado o
+-- eliminación, escrita en la misma transacción que el cambio. Particionado por mes de changed_at para que los
+-- reportes por periodo lean solo las particiones del rango y no la tabla viva. Sin llave foránea a vehicles:
+-- el historial se conserva cuando se elimina el vehículo.
+CREATE TABLE vehicle_history
+(
+    id              BIGSERIAL,
+    vehicle_id      BIGINT       NOT NULL,
+    vehicle_type    VARCHAR(20)  NOT NULL,
+    change_type     VARCHAR(20)  NOT NULL,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20),
+    changed_by      VARCHAR(100),
+    changed_at      TIMESTAMP    NOT NULL,
+    PRIMARY KEY (changed_at, id)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX idx_vehicle_history_vehicle ON vehicle_history (vehicle_id, changed_at);
+
+-- Recibe las filas de un mes sin partición, para que una escritura nunca falle por el historial.
+CREATE TABLE vehicle_history_default PARTITION OF vehicle_history DEFAULT;
+
+-- Crea las particiones del mes en curso y de los months_ahead siguientes que falten. Las filas que ya
+-- hubieran caído en la partición por defecto se mueven a la nueva antes de adjuntarla. El bloqueo evita que
+-- dos instancias creen la misma partición a la vez.
+CREATE OR REPLACE FUNCTION vehicle_history_create_partitions(months_ahead INT) RETURNS INT AS
+$$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', localtimestamp);
+    month_end   TIMESTAMP;
+    part_name   TEXT;
+    created     INT       := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('vehicle_history_partitions'));
+    FOR i IN 0..months_ahead LOOP
+        month_end := month_start + INTERVAL '1 month';
+        part_name := 'vehicle_history_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(part_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE vehicle_history INCLUDING DEFAULTS)', part_name);
+            EXECUTE format('WITH moved AS (DELETE FROM vehicle_history_default'
+                               || ' WHERE changed_at >= %L AND changed_at < %L RETURNING *)'
+                               || ' INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, part_name);
+            EXECUTE format('ALTER TABLE vehicle_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           part_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT vehicle_history_create_partitions(2);
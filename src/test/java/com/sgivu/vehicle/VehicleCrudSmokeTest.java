@@ -0,0 +1,225 @@
+package com.sgivu.vehicle;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Smoke test del CRUD de autos y motocicletas contra un PostgreSQL en contenedor, con el esquema
+ * creado por las migraciones de Flyway. Corre en la JVM con {@code ./mvnw test} y como binario
+ * nativo con {@code ./mvnw -PnativeTest test}; se omite si no hay Docker disponible.
+ */
+@SpringBootTest(
+    properties = {
+      "sgivu.config.import=",
+      "spring.cloud.config.enabled=false",
+      "eureka.client.enabled=false",
+      "service.internal.secret-key=smoke-test",
+      "services.map.sgivu-auth.url=http://localhost:9000",
+      // Bloques y máximo pequeños para recorrer varios bloques con pocos vehículos.
+      "vehicle.bulk-delete.chunk-size=2",
+      "vehicle.bulk-delete.max-vehicles=4"
+    })
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class VehicleCrudSmokeTest {
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private MockMvc mockMvc;
+
+  @Test
+  void carCrud() throws Exception {
+    JwtRequestPostProcessor user = user("car");
+    String car =
+        """
+        {"brand": "Mazda", "model": "3", "capacity": 5, "line": "Touring", "plate": "SMK101",
+         "motorNumber": "MTOSMK101", "serialNumber": "SERSMK101", "chassisNumber": "CHSSMK101",
+         "color": "Rojo", "cityRegistered": "Medellín", "year": 2022, "mileage": 1000,
+         "transmission": "Automática", "purchasePrice": 70000000, "salePrice": 80000000,
+         "bodyType": "Sedán", "fuelType": "Gasolina", "numberOfDoors": 4}
+        """;
+
+    long id = create("/v1/cars", car, user);
+
+    mockMvc
+        .perform(get("/v1/cars/{id}", id).with(user))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.plate").value("SMK101"))
+        .andExpect(jsonPath("$.status").value("AVAILABLE"));
+
+    mockMvc
+        .perform(
+            put("/v1/cars/{id}", id)
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(car.replace("Sedán", "Hatchback")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.bodyType").value("Hatchback"));
+
+    changeStatusAndDelete("/v1/cars", id, user);
+  }
+
+  @Test
+  void motorcycleCrud() throws Exception {
+    JwtRequestPostProcessor user = user("motorcycle");
+    String motorcycle =
+        """
+        {"brand": "Yamaha", "model": "MT-09", "capacity": 2, "line": "SP", "plate": "SMK20A",
+         "motorNumber": "MTOSMK20A", "serialNumber": "SERSMK20A", "chassisNumber": "CHSSMK20A",
+         "color": "Azul", "cityRegistered": "Bogotá", "year": 2023, "mileage": 500,
+         "transmission": "Manual", "purchasePrice": 50000000, "salePrice": 56000000,
+         "motorcycleType": "Naked"}
+        """;
+
+    long id = create("/v1/motorcycles", motorcycle, user);
+
+    mockMvc
+        .perform(
+            put("/v1/motorcycles/{id}", id)
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(motorcycle.replace("Naked", "Sport")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.motorcycleType").value("Sport"));
+
+    changeStatusAndDelete("/v1/motorcycles", id, user);
+  }
+
+  @Test
+  void bulkDeleteByIdsAndFilter() throws Exception {
+    JwtRequestPostProcessor user = user("car");
+    long[] ids = new long[7];
+    for (int i = 0; i < ids.length; i++) {
+      String suffix = "BLK" + i;
+      // Los dos primeros se eliminan por id; los demás, por marca.
+      String brand = i < 2 ? "Mazda" : "Bulkmarca";
+      ids[i] =
+          create(
+              "/v1/cars",
+              """
+              {"brand": "%s", "model": "3", "capacity": 5, "line": "Touring", "plate": "%s",
+               "motorNumber": "MTO%s", "serialNumber": "SER%s", "chassisNumber": "CHS%s",
+               "color": "Gris", "cityRegistered": "Cali", "year": 2021, "mileage": 2000,
+               "transmission": "Manual", "purchasePrice": 50000000, "salePrice": 60000000,
+               "bodyType": "Sedán", "fuelType": "Gasolina", "numberOfDoors": 4}
+              """
+                  .formatted(brand, suffix, suffix, suffix, suffix),
+              user);
+    }
+
+    bulkDelete("{\"ids\": [%d, %d, 999999]}".formatted(ids[0], ids[1]), user)
+        .andExpect(jsonPath("$.deletedVehicles").value(2))
+        .andExpect(jsonPath("$.chunks").value(2))
+        .andExpect(jsonPath("$.moreRemaining").value(false));
+
+    // Cinco vehículos con bloques de 2 y un máximo de 4 por petición.
+    bulkDelete("{\"brand\": \"Bulkmarca\"}", user)
+        .andExpect(jsonPath("$.deletedVehicles").value(4))
+        .andExpect(jsonPath("$.chunks").value(2))
+        .andExpect(jsonPath("$.moreRemaining").value(true));
+    bulkDelete("{\"brand\": \"Bulkmarca\"}", user)
+        .andExpect(jsonPath("$.deletedVehicles").value(1))
+        .andExpect(jsonPath("$.moreRemaining").value(false));
+
+    for (long id : ids) {
+      mockMvc.perform(get("/v1/cars/{id}", id).with(user)).andExpect(status().isNotFound());
+      mockMvc
+          .perform(get("/v1/cars/{id}", id).param("includeArchived", "true").with(user))
+          .andExpect(status().isOk());
+    }
+    mockMvc
+        .perform(get("/v1/cars/{id}/history", ids[2]).with(user))
+        .andExpect(jsonPath("$[-1].changeType").value("DELETED"));
+  }
+
+  private ResultActions bulkDelete(String body, JwtRequestPostProcessor user) throws Exception {
+    return mockMvc
+        .perform(
+            post("/v1/cars/bulk-delete")
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+        .andExpect(status().isOk());
+  }
+
+  private long create(String path, String body, JwtRequestPostProcessor user) throws Exception {
+    String response =
+        mockMvc
+            .perform(
+                post(path).with(user).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return ((Number) JsonPath.read(response, "$.id")).longValue();
+  }
+
+  private void changeStatusAndDelete(String path, long id, JwtRequestPostProcessor user)
+      throws Exception {
+    mockMvc
+        .perform(
+            patch(path + "/{id}/status", id)
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("\"SOLD\""))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("SOLD"));
+
+    mockMvc.perform(delete(path + "/{id}", id).with(user)).andExpect(status().isNoContent());
+    mockMvc.perform(get(path + "/{id}", id).with(user)).andExpect(status().isNotFound());
+    mockMvc
+        .perform(get(path + "/{id}", id).param("includeArchived", "true").with(user))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Vehicle-Archived", "true"))
+        .andExpect(jsonPath("$.status").value("SOLD"));
+    mockMvc.perform(delete(path + "/{id}", id).with(user)).andExpect(status().isNotFound());
+
+    mockMvc
+        .perform(
+            post(path + "/bulk-delete")
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [" + id + "]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deletedVehicles").value(0));
+    mockMvc
+        .perform(
+            post(path + "/bulk-delete")
+                .with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private static JwtRequestPostProcessor user(String resource) {
+    return jwt()
+        .authorities(
+            new SimpleGrantedAuthority(resource + ":create"),
+            new SimpleGrantedAuthority(resource + ":read"),
+            new SimpleGrantedAuthority(resource + ":update"),
+            new SimpleGrantedAuthority(resource + ":delete"));
+  }
+}
@@ -0,0 +1,101 @@
+package com.sgivu.vehicle.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final Offset<Double> PRECISION = within(1e-9);
+
+  private final AdaptiveConcurrencyLimiter limiter =
+      new AdaptiveConcurrencyLimiter(
+          new SimpleMeterRegistry(), 10, 2, 20, Duration.ofMillis(100), 0.5);
+
+  @Test
+  void rejectsAboveTheLimitAndHeavyRequestsAboveTheirShare() {
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(true)).isTrue();
+    }
+    assertThat(limiter.tryAcquire(true)).isFalse();
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(false)).isTrue();
+    }
+    assertThat(limiter.tryAcquire(false)).isFalse();
+
+    limiter.release(false, FAST);
+    assertThat(limiter.tryAcquire(false)).isTrue();
+  }
+
+  @Test
+  void decreasesOncePerWindowWhileLatencyIsAboveTarget() {
+    long now = System.nanoTime() + SLOW;
+    acquire(3);
+
+    limiter.release(true, SLOW, now);
+    assertThat(limiter.limit()).isCloseTo(9.0, PRECISION);
+    limiter.release(true, SLOW, now + FAST);
+    assertThat(limiter.limit()).isCloseTo(9.0, PRECISION);
+    limiter.release(true, SLOW, now + TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(limiter.limit()).isCloseTo(8.1, PRECISION);
+  }
+
+  @Test
+  void neverDropsBelowTheMinimum() {
+    long now = System.nanoTime();
+    for (int i = 1; i <= 50; i++) {
+      acquire(1);
+      limiter.release(true, SLOW, now + i * SLOW);
+    }
+
+    assertThat(limiter.limit()).isCloseTo(2.0, PRECISION);
+  }
+
+  @Test
+  void growsOnlyWhileAtLeastHalfTheLimitIsInUse() {
+    acquire(4);
+    limiter.release(true, FAST, System.nanoTime());
+    assertThat(limiter.limit()).isEqualTo(10.0);
+
+    acquire(7);
+    limiter.release(true, FAST, System.nanoTime());
+    assertThat(limiter.limit()).isCloseTo(10.1, PRECISION);
+  }
+
+  @Test
+  void concurrentReleasesReturnEveryPermit() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < 10_000; i++) {
+        executor.execute(
+            () -> {
+              if (limiter.tryAcquire(false)) {
+                limiter.release(true, FAST);
+              }
+            });
+      }
+    } finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(limiter.limit()).isBetween(10.0, 20.0);
+    acquire((int) limiter.limit());
+    assertThat(limiter.tryAcquire(false)).isFalse();
+  }
+
+  private void acquire(int permits) {
+    for (int i = 0; i < permits; i++) {
+      assertThat(limiter.tryAcquire(false)).isTrue();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.sgivu.vehicle.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sgivu.vehicle.repository.IdempotencyKeyRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link IdempotencyFilter} sobre la creación de autos, contra un PostgreSQL en contenedor con el
+ * esquema de las migraciones; se omite si no hay Docker disponible.
+ */
+@SpringBootTest(
+    properties = {
+      "sgivu.config.import=",
+      "spring.cloud.config.enabled=false",
+      "eureka.client.enabled=false",
+      "service.internal.secret-key=idempotency-test",
+      "services.map.sgivu-auth.url=http://localhost:9000"
+    })
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class IdempotencyFilterTest {
+
+  /** Sujeto del JWT de {@code jwt()}. */
+  private static final String CLIENT = "user:user";
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Test
+  void retryWithSameKeyAndBodyReplaysTheOriginalResponse() throws Exception {
+    String car = car("IDM101");
+
+    String original =
+        create("idem-replay", car)
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    create("idem-replay", car)
+        .andExpect(status().isCreated())
+        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+        .andExpect(jsonPath("$.id").value(JsonPath.<Object>read(original, "$.id")));
+  }
+
+  @Test
+  void retryWithSameKeyAndAnotherBodyIsRejected() throws Exception {
+    create("idem-mismatch", car("IDM201")).andExpect(status().isCreated());
+
+    create("idem-mismatch", car("IDM202"))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.type").value("urn:sgivu:vehicle:error:idempotency-mismatch"));
+  }
+
+  @Test
+  void retryWhileTheOriginalIsInProgressIsRejected() throws Exception {
+    String car = car("IDM301");
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/cars");
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    idempotencyKeyRepository.tryClaim(
+        CLIENT,
+        "idem-progress",
+        IdempotencyFilter.hash(request, car.getBytes(StandardCharsets.UTF_8)),
+        now,
+        now.plusHours(1));
+
+    create("idem-progress", car)
+        .andExpect(status().isConflict())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
+  @Test
+  void failedRequestReleasesTheKey() throws Exception {
+    create("idem-release", "{\"brand\": ").andExpect(status().isBadRequest());
+
+    create("idem-release", car("IDM401"))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+  }
+
+  private ResultActions create(String key, String body) throws Exception {
+    return mockMvc.perform(
+        post("/v1/cars")
+            .with(user())
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+  }
+
+  private static String car(String plate) {
+    return """
+        {"brand": "Mazda", "model": "3", "capacity": 5, "line": "Touring", "plate": "%s",
+         "motorNumber": "MTO%s", "serialNumber": "SER%s", "chassisNumber": "CHS%s",
+         "color": "Rojo", "cityRegistered": "Medellín", "year": 2022, "mileage": 1000,
+         "transmission": "Automática", "purchasePrice": 70000000, "salePrice": 80000000,
+         "bodyType": "Sedán", "fuelType": "Gasolina", "numberOfDoors": 4}
+        """
+        .formatted(plate, plate, plate, plate);
+  }
+
+  private static JwtRequestPostProcessor user() {
+    return jwt()
+        .authorities(
+            new SimpleGrantedAuthority("car:create"), new SimpleGrantedAuthority("car:read"));
+  }
+}
@@ -0,0 +1,53 @@
+package com.sgivu.vehicle.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.sgivu.vehicle.entity.Money;
+import org.junit.jupiter.api.Test;
+
+class JacksonConfigTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().registerModule(new JacksonConfig().vehicleJsonModule());
+
+  @Test
+  void writesMoneyAsPesosWithTwoDecimals() throws Exception {
+    assertThat(objectMapper.writeValueAsString(new Money(6_500_000_050L)))
+        .isEqualTo("65000000.50");
+    assertThat(objectMapper.writeValueAsString(new Money(0))).isEqualTo("0.00");
+    assertThat(objectMapper.writeValueAsString(new Money(-150))).isEqualTo("-1.50");
+  }
+
+  @Test
+  void readsMoneyFromNumbersAndStrings() throws Exception {
+    assertThat(objectMapper.readValue("65000000", Money.class))
+        .isEqualTo(new Money(6_500_000_000L));
+    assertThat(objectMapper.readValue("\"65000000.5\"", Money.class))
+        .isEqualTo(new Money(6_500_000_050L));
+    assertThat(objectMapper.readValue("0", Money.class)).isEqualTo(new Money(0));
+    assertThat(objectMapper.readValue("-1.50", Money.class)).isEqualTo(new Money(-150));
+  }
+
+  @Test
+  void roundTripsMoney() throws Exception {
+    for (long cents : new long[] {6_500_000_050L, 0, -150, 1}) {
+      Money money = new Money(cents);
+      assertThat(objectMapper.readValue(objectMapper.writeValueAsString(money), Money.class))
+          .isEqualTo(money);
+    }
+  }
+
+  @Test
+  void rejectsMoneyThatWouldBeRounded() {
+    assertThatThrownBy(() -> objectMapper.readValue("1.005", Money.class))
+        .isInstanceOf(InvalidFormatException.class);
+    assertThatThrownBy(() -> objectMapper.readValue("\"1.005\"", Money.class))
+        .isInstanceOf(InvalidFormatException.class);
+    assertThatThrownBy(() -> objectMapper.readValue("true", Money.class))
+        .isInstanceOf(MismatchedInputException.class);
+  }
+}
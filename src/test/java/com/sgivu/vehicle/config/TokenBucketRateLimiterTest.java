@@ -0,0 +1,52 @@
+package com.sgivu.vehicle.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+  private static final long START = 1_000_000_000L;
+
+  private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5, 100, 50);
+
+  @Test
+  void allowsBurstUpToCapacityAndReportsTheWait() {
+    for (int i = 0; i < 10; i++) {
+      assertThat(limiter.tryConsume("user:ana", 1, START)).isZero();
+    }
+
+    // Una ficha cada 200 ms.
+    assertThat(limiter.tryConsume("user:ana", 1, START))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(limiter.tryConsume("user:ana", 1, START + TimeUnit.MILLISECONDS.toNanos(200)))
+        .isZero();
+  }
+
+  @Test
+  void refillsWithoutExceedingCapacity() {
+    assertThat(limiter.tryConsume("user:ana", 10, START)).isZero();
+
+    long later = START + TimeUnit.MINUTES.toNanos(1);
+    assertThat(limiter.tryConsume("user:ana", 10, later)).isZero();
+    assertThat(limiter.tryConsume("user:ana", 1, later)).isPositive();
+  }
+
+  @Test
+  void costAboveCapacityChargesTheWholeBucket() {
+    assertThat(limiter.tryConsume("user:ana", 50, START)).isZero();
+    assertThat(limiter.tryConsume("user:ana", 1, START)).isPositive();
+  }
+
+  @Test
+  void keepsOneBucketPerClientAndSizesServicesApart() {
+    assertThat(limiter.tryConsume("user:ana", 10, START)).isZero();
+    assertThat(limiter.tryConsume("user:ana", 1, START)).isPositive();
+    assertThat(limiter.tryConsume("user:luis", 1, START)).isZero();
+
+    assertThat(limiter.tryConsume("service:sgivu-purchase-sale", 100, START)).isZero();
+    assertThat(limiter.tryConsume("service:sgivu-purchase-sale", 1, START)).isPositive();
+    assertThat(limiter.tryConsume("service:unknown", 100, START)).isZero();
+  }
+}
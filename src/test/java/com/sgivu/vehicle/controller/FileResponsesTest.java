@@ -0,0 +1,191 @@
+package com.sgivu.vehicle.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FileResponsesTest {
+
+  private static final String ETAG = "\"abc123\"";
+  private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  @TempDir Path dir;
+
+  private Path file;
+
+  @BeforeEach
+  void createFile() throws IOException {
+    file = Files.writeString(dir.resolve("photo.jpg"), "0123456789");
+  }
+
+  @Test
+  void sendsTheWholeFileWithoutRange() throws IOException {
+    MockHttpServletResponse response = send(get());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    assertThat(response.getContentLengthLong()).isEqualTo(10);
+    assertThat(response.getContentType()).isEqualTo(MediaType.IMAGE_JPEG_VALUE);
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(CACHE_CONTROL);
+    assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+  }
+
+  @Test
+  void sendsABoundedRange() throws IOException {
+    assertPartial(send(range("bytes=2-5")), "2345", "bytes 2-5/10");
+  }
+
+  @Test
+  void sendsAnOpenEndedRange() throws IOException {
+    assertPartial(send(range("bytes=7-")), "789", "bytes 7-9/10");
+  }
+
+  @Test
+  void sendsTheLastBytesForASuffixRange() throws IOException {
+    assertPartial(send(range("bytes=-3")), "789", "bytes 7-9/10");
+    assertPartial(send(range("bytes=-50")), "0123456789", "bytes 0-9/10");
+  }
+
+  @Test
+  void clampsAnEndPastTheEndOfTheFile() throws IOException {
+    assertPartial(send(range("bytes=8-100")), "89", "bytes 8-9/10");
+    assertPartial(send(range(" bytes=9-9 ")), "9", "bytes 9-9/10");
+  }
+
+  @Test
+  void rejectsAStartPastTheEndOfTheFile() throws IOException {
+    for (String header : new String[] {"bytes=10-", "bytes=10-20", "bytes=999999999999999999-"}) {
+      MockHttpServletResponse response = send(range(header));
+
+      assertThat(response.getStatus()).as(header).isEqualTo(416);
+      assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+      assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+  }
+
+  @Test
+  void rejectsASuffixRangeOfAnEmptyFile() throws IOException {
+    Files.write(file, new byte[0]);
+
+    MockHttpServletResponse response = send(range("bytes=-3"));
+
+    assertThat(response.getStatus()).isEqualTo(416);
+    assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */0");
+  }
+
+  @Test
+  void ignoresInvalidAndMultipleRanges() throws IOException {
+    for (String header :
+        new String[] {"bytes=5-2", "bytes=-", "bytes=0-1,3-4", "items=0-1", "bytes=a-b"}) {
+      MockHttpServletResponse response = send(range(header));
+
+      assertThat(response.getStatus()).as(header).isEqualTo(200);
+      assertThat(response.getContentAsString()).isEqualTo("0123456789");
+      assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+  }
+
+  @Test
+  void honoursTheRangeOnlyWhenIfRangeMatches() throws IOException {
+    MockHttpServletRequest matching = range("bytes=0-1");
+    matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+    assertPartial(send(matching), "01", "bytes 0-1/10");
+
+    MockHttpServletRequest stale = range("bytes=0-1");
+    stale.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+    MockHttpServletResponse response = send(stale);
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+  }
+
+  @Test
+  void answersNotModifiedWhenIfNoneMatchMatches() throws IOException {
+    for (String header : new String[] {ETAG, "W/" + ETAG, "*", "\"other\", W/" + ETAG}) {
+      MockHttpServletRequest request = range("bytes=0-1");
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, header);
+
+      MockHttpServletResponse response = send(request);
+
+      assertThat(response.getStatus()).as(header).isEqualTo(304);
+      assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+      assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+  }
+
+  @Test
+  void sendsTheFileWhenIfNoneMatchDiffers() throws IOException {
+    MockHttpServletRequest request = get();
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"abc\"");
+
+    MockHttpServletResponse response = send(request);
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentAsString()).isEqualTo("0123456789");
+  }
+
+  @Test
+  void headSendsHeadersWithoutBody() throws IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/photo.jpg");
+    request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+    MockHttpServletResponse response = send(request);
+
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getContentLengthLong()).isEqualTo(4);
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  void delegatesTheBodyToSendfileWhenSupported() throws IOException {
+    MockHttpServletRequest request = range("bytes=2-5");
+    request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+    MockHttpServletResponse response = send(request);
+
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getContentLengthLong()).isEqualTo(4);
+    assertThat(response.getContentAsByteArray()).isEmpty();
+    assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+        .isEqualTo(file.toAbsolutePath().toString());
+    assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+    assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+  }
+
+  private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FileResponses.send(request, response, file, MediaType.IMAGE_JPEG, ETAG, CACHE_CONTROL);
+    return response;
+  }
+
+  private static void assertPartial(
+      MockHttpServletResponse response, String body, String contentRange) {
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo(contentRange);
+    assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+    assertThat(response.getContentAsByteArray()).isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static MockHttpServletRequest get() {
+    return new MockHttpServletRequest("GET", "/photo.jpg");
+  }
+
+  private static MockHttpServletRequest range(String header) {
+    MockHttpServletRequest request = get();
+    request.addHeader(HttpHeaders.RANGE, header);
+    return request;
+  }
+}
@@ -0,0 +1,60 @@
+package com.sgivu.vehicle.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+  @Test
+  void parsesPesosIntoCentsAndPrintsThemBack() {
+    assertThat(Money.parse("65000000")).isEqualTo(new Money(6_500_000_000L));
+    assertThat(Money.parse(" 65000000.5 ")).isEqualTo(new Money(6_500_000_050L));
+    assertThat(Money.parse("0")).isEqualTo(new Money(0));
+    assertThat(Money.parse("-1.50")).isEqualTo(new Money(-150));
+
+    for (String pesos : new String[] {"65000000.50", "0.00", "-1.50", "0.01"}) {
+      assertThat(Money.parse(pesos).toString()).isEqualTo(pesos);
+    }
+    assertThat(Money.of(new Money(-150).toBigDecimal())).isEqualTo(new Money(-150));
+  }
+
+  @Test
+  void rejectsMoreThanTwoDecimalsAndOverflow() {
+    assertThatThrownBy(() -> Money.parse("1.005")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Money.parse("uno")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void comparesByCents() {
+    assertThat(new Money(-1)).isLessThan(new Money(0));
+    assertThat(Money.parse("10.00")).isEqualByComparingTo(Money.parse("10"));
+  }
+
+  @Test
+  void converterStoresCentsAndKeepsNulls() {
+    MoneyConverter converter = new MoneyConverter();
+
+    for (long cents : new long[] {6_500_000_050L, 0, -150, Long.MAX_VALUE}) {
+      Long column = converter.convertToDatabaseColumn(new Money(cents));
+      assertThat(column).isEqualTo(cents);
+      assertThat(converter.convertToEntityAttribute(column)).isEqualTo(new Money(cents));
+    }
+    assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    assertThat(converter.convertToEntityAttribute(null)).isNull();
+  }
+
+  @Test
+  void validatorAcceptsZeroAndNullButNotNegatives() {
+    PositiveOrZeroMoneyValidator validator = new PositiveOrZeroMoneyValidator();
+
+    assertThat(validator.isValid(null, null)).isTrue();
+    assertThat(validator.isValid(new Money(0), null)).isTrue();
+    assertThat(validator.isValid(new Money(1), null)).isTrue();
+    assertThat(validator.isValid(new Money(-1), null)).isFalse();
+  }
+}
@@ -0,0 +1,187 @@
+package com.sgivu.vehicle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Triggers de {@code inventory_rollup} (migraciones {@code V10}, {@code V15} y {@code V16}) contra
+ * un PostgreSQL en contenedor con el esquema de las migraciones; se omite si no hay Docker
+ * disponible. Cada prueba usa su propia marca para no ver los grupos de las demás.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+      "sgivu.config.import=",
+      "spring.cloud.config.enabled=false",
+      "eureka.client.enabled=false",
+      "service.internal.secret-key=rollup-test",
+      "services.map.sgivu-auth.url=http://localhost:9000"
+    })
+@Testcontainers(disabledWithoutDocker = true)
+class InventoryRollupTest {
+
+  private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 0, 0);
+  private static final long CREATED_EPOCH = CREATED.toEpochSecond(ZoneOffset.UTC);
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void writesMoveTotalsBetweenGroupsAndDropEmptyOnes() {
+    long first = insertCar("Rollup", "RLP101", 1000, 2000);
+    long second = insertCar("Rollup", "RLP102", 3000, 5000);
+    assertThat(rollup("Rollup"))
+        .containsExactly(new Group("AVAILABLE", 2, 4000, 7000, 2, 2 * CREATED_EPOCH));
+
+    jdbcTemplate.update("UPDATE vehicles SET status = 'SOLD' WHERE id = ?", first);
+    assertThat(rollup("Rollup"))
+        .containsExactly(
+            new Group("AVAILABLE", 1, 3000, 5000, 1, CREATED_EPOCH),
+            new Group("SOLD", 1, 1000, 2000, 1, CREATED_EPOCH));
+
+    jdbcTemplate.update(
+        "UPDATE vehicles SET purchase_price = 3500, sale_price = 4500 WHERE id = ?", second);
+    assertThat(rollup("Rollup"))
+        .containsExactly(
+            new Group("AVAILABLE", 1, 3500, 4500, 1, CREATED_EPOCH),
+            new Group("SOLD", 1, 1000, 2000, 1, CREATED_EPOCH));
+
+    jdbcTemplate.update("DELETE FROM vehicles WHERE id = ?", first);
+    assertThat(rollup("Rollup"))
+        .containsExactly(new Group("AVAILABLE", 1, 3500, 4500, 1, CREATED_EPOCH));
+
+    jdbcTemplate.update("DELETE FROM vehicles WHERE id = ?", second);
+    assertThat(rollup("Rollup")).isEmpty();
+  }
+
+  @Test
+  void multiRowStatementsApplyTheirDeltaOnce() {
+    // Como la importación: vehicles y cars en la misma sentencia.
+    jdbcTemplate.update(
+        """
+        WITH v AS (
+            INSERT INTO vehicles (brand, model, capacity, line, plate, motor_number, serial_number,
+                                  chassis_number, color, city_registered, year, mileage,
+                                  transmission, status, purchase_price, sale_price, created_at,
+                                  updated_at)
+            SELECT 'RollupBulk', '3', 5, 'Touring', 'RLB' || g, 'MTORLB' || g, 'SERRLB' || g,
+                   'CHSRLB' || g, 'Rojo', 'Cali', 2022, 1000, 'Automática', 'AVAILABLE', 1000 * g,
+                   2000 * g, ?, ?
+            FROM generate_series(1, 3) AS g
+            RETURNING id)
+        INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)
+        SELECT id, 'Sedán', 'Gasolina', 4 FROM v
+        """,
+        CREATED,
+        CREATED);
+    assertThat(rollup("RollupBulk"))
+        .containsExactly(new Group("AVAILABLE", 3, 6000, 12000, 3, 3 * CREATED_EPOCH));
+
+    jdbcTemplate.update(
+        "UPDATE vehicles SET status = 'INACTIVE' WHERE brand = 'RollupBulk' AND sale_price > 2000");
+    assertThat(rollup("RollupBulk"))
+        .containsExactly(
+            new Group("AVAILABLE", 1, 1000, 2000, 1, CREATED_EPOCH),
+            new Group("INACTIVE", 2, 5000, 10000, 2, 2 * CREATED_EPOCH));
+
+    jdbcTemplate.update("DELETE FROM vehicles WHERE brand = 'RollupBulk' AND status = 'INACTIVE'");
+    assertThat(rollup("RollupBulk"))
+        .containsExactly(new Group("AVAILABLE", 1, 1000, 2000, 1, CREATED_EPOCH));
+  }
+
+  @Test
+  void vehiclesCountOnceTheirSubtypeExists() {
+    Long id =
+        jdbcTemplate.queryForObject(
+            """
+            INSERT INTO vehicles (brand, model, capacity, line, plate, motor_number, serial_number,
+                                  chassis_number, color, city_registered, year, mileage,
+                                  transmission, status, purchase_price, sale_price, created_at,
+                                  updated_at)
+            VALUES ('RollupLate', '3', 5, 'Touring', 'RLL101', 'MTORLL101', 'SERRLL101',
+                    'CHSRLL101', 'Rojo', 'Cali', 2022, 1000, 'Automática', 'AVAILABLE', 1000,
+                    2000, ?, ?)
+            RETURNING id
+            """,
+            Long.class,
+            CREATED,
+            CREATED);
+    assertThat(rollup("RollupLate")).isEmpty();
+
+    jdbcTemplate.update(
+        "INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)"
+            + " VALUES (?, 'Sedán', 'Gasolina', 4)",
+        id);
+    assertThat(rollup("RollupLate"))
+        .containsExactly(new Group("AVAILABLE", 1, 1000, 2000, 1, CREATED_EPOCH));
+  }
+
+  private long insertCar(String brand, String plate, long purchasePrice, long salePrice) {
+    Long id =
+        jdbcTemplate.queryForObject(
+            """
+            INSERT INTO vehicles (brand, model, capacity, line, plate, motor_number, serial_number,
+                                  chassis_number, color, city_registered, year, mileage,
+                                  transmission, status, purchase_price, sale_price, created_at,
+                                  updated_at)
+            VALUES (?, '3', 5, 'Touring', ?, ?, ?, ?, 'Rojo', 'Cali', 2022, 1000, 'Automática',
+                    'AVAILABLE', ?, ?, ?, ?)
+            RETURNING id
+            """,
+            Long.class,
+            brand,
+            plate,
+            "MTO" + plate,
+            "SER" + plate,
+            "CHS" + plate,
+            purchasePrice,
+            salePrice,
+            CREATED,
+            CREATED);
+    jdbcTemplate.update(
+        "INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)"
+            + " VALUES (?, 'Sedán', 'Gasolina', 4)",
+        id);
+    return id;
+  }
+
+  private List<Group> rollup(String brand) {
+    return jdbcTemplate.query(
+        """
+        SELECT status, vehicles, purchase_total, sale_total, created_count, created_epoch_total
+        FROM inventory_rollup
+        WHERE vehicle_type = 'CAR' AND brand = ?
+        ORDER BY status
+        """,
+        (rs, i) ->
+            new Group(
+                rs.getString("status"),
+                rs.getLong("vehicles"),
+                rs.getLong("purchase_total"),
+                rs.getLong("sale_total"),
+                rs.getLong("created_count"),
+                rs.getLong("created_epoch_total")),
+        brand);
+  }
+
+  private record Group(
+      String status,
+      long vehicles,
+      long purchaseTotal,
+      long saleTotal,
+      long createdCount,
+      long createdEpochTotal) {}
+}
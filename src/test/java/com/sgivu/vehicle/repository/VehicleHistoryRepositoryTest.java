@@ -0,0 +1,136 @@
+package com.sgivu.vehicle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sgivu.vehicle.dto.StatusDuration;
+import com.sgivu.vehicle.enums.VehicleChangeType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.enums.VehicleType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Reportes de {@link VehicleHistoryRepository} contra un PostgreSQL en contenedor con el esquema de
+ * las migraciones; se omite si no hay Docker disponible.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+      "sgivu.config.import=",
+      "spring.cloud.config.enabled=false",
+      "eureka.client.enabled=false",
+      "service.internal.secret-key=history-test",
+      "services.map.sgivu-auth.url=http://localhost:9000"
+    })
+@Testcontainers(disabledWithoutDocker = true)
+class VehicleHistoryRepositoryTest {
+
+  private static final LocalDateTime JANUARY = LocalDateTime.of(2026, 1, 1, 0, 0);
+  private static final LocalDateTime FEBRUARY = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private VehicleHistoryRepository historyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void pastPeriodUsesTheStatusOfThatPeriodAndKeepsVehiclesRemovedLater() {
+    // Disponible todo enero, vendido en marzo: hoy es SOLD en vehicle_read.
+    long sold = insertCar("HST101", VehicleStatus.SOLD, LocalDateTime.of(2025, 12, 15, 0, 0));
+    change(sold, VehicleChangeType.CREATED, null, VehicleStatus.AVAILABLE, 2025, 12, 15);
+    change(
+        sold,
+        VehicleChangeType.STATUS_CHANGED,
+        VehicleStatus.AVAILABLE,
+        VehicleStatus.SOLD,
+        2026,
+        3,
+        10);
+    // Inactivo desde el 11 de enero y archivado en agosto: ya no está en vehicle_read.
+    long archived = 900_001;
+    change(archived, VehicleChangeType.CREATED, null, VehicleStatus.AVAILABLE, 2025, 11, 1);
+    change(
+        archived,
+        VehicleChangeType.STATUS_CHANGED,
+        VehicleStatus.AVAILABLE,
+        VehicleStatus.INACTIVE,
+        2026,
+        1,
+        11);
+    change(archived, VehicleChangeType.ARCHIVED, VehicleStatus.INACTIVE, null, 2026, 8, 1);
+    // Creado después del periodo.
+    long created =
+        insertCar("HST102", VehicleStatus.AVAILABLE, LocalDateTime.of(2026, 5, 1, 0, 0));
+    change(created, VehicleChangeType.CREATED, null, VehicleStatus.AVAILABLE, 2026, 5, 1);
+
+    List<StatusDuration> durations =
+        historyRepository.statusDurations(JANUARY, FEBRUARY, VehicleType.CAR);
+
+    assertThat(durations)
+        .extracting(
+            StatusDuration::getStatus, StatusDuration::getVehicles, StatusDuration::getTotalDays)
+        .containsExactly(
+            tuple(VehicleStatus.AVAILABLE, 2L, 41.0),
+            tuple(VehicleStatus.INACTIVE, 1L, 21.0));
+    assertThat(historyRepository.statusDurations(JANUARY, FEBRUARY, null))
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(durations);
+  }
+
+  private long insertCar(String plate, VehicleStatus status, LocalDateTime createdAt) {
+    Long id =
+        jdbcTemplate.queryForObject(
+            """
+            INSERT INTO vehicles (brand, model, capacity, line, plate, motor_number, serial_number,
+                                  chassis_number, color, city_registered, year, mileage,
+                                  transmission, status, purchase_price, sale_price, created_at,
+                                  updated_at)
+            VALUES ('Mazda', '3', 5, 'Touring', ?, ?, ?, ?, 'Rojo', 'Medellín', 2022, 1000,
+                    'Automática', ?, 7000000000, 8000000000, ?, ?)
+            RETURNING id
+            """,
+            Long.class,
+            plate,
+            "MTO" + plate,
+            "SER" + plate,
+            "CHS" + plate,
+            status.name(),
+            createdAt,
+            createdAt);
+    jdbcTemplate.update(
+        "INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors)"
+            + " VALUES (?, 'Sedán', 'Gasolina', 4)",
+        id);
+    return id;
+  }
+
+  private void change(
+      long vehicleId,
+      VehicleChangeType changeType,
+      VehicleStatus previousStatus,
+      VehicleStatus status,
+      int year,
+      int month,
+      int day) {
+    historyRepository.insertAll(
+        List.of(
+            new VehicleHistoryRepository.Change(
+                vehicleId,
+                VehicleType.CAR,
+                changeType,
+                previousStatus,
+                status,
+                "history-test",
+                LocalDateTime.of(year, month, day, 0, 0))));
+  }
+}
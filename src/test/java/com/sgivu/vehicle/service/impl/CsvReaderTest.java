@@ -0,0 +1,44 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sgivu.vehicle.exception.ImportFormatException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+  @Test
+  void readsQuotedFieldsAcrossLinesAndSkipsBlankLines() throws IOException {
+    String csv = "﻿plate,line\r\n\r\nABC123,\"Grand \"\"GT\"\", 2.0\"\n\"XYZ\n789\",\n";
+    try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+      assertThat(reader.next()).containsExactly("plate", "line");
+      assertThat(reader.next()).containsExactly("ABC123", "Grand \"GT\", 2.0");
+      assertThat(reader.next()).containsExactly("XYZ\n789", "");
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  void readsWhatCsvWriterWrites() throws IOException {
+    StringWriter out = new StringWriter();
+    try (CsvWriter writer = new CsvWriter(out)) {
+      writer.write(new String[] {"ABC123", "Grand \"GT\", 2.0", null, "línea\r\n2"});
+    }
+    try (CsvReader reader = new CsvReader(new StringReader(out.toString()))) {
+      assertThat(reader.next()).containsExactly("ABC123", "Grand \"GT\", 2.0", "", "línea\r\n2");
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  void rejectsUnterminatedQuotes() throws IOException {
+    try (CsvReader reader = new CsvReader(new StringReader("plate\n\"ABC123\n"))) {
+      reader.next();
+      assertThatThrownBy(reader::next).isInstanceOf(ImportFormatException.class);
+    }
+  }
+}
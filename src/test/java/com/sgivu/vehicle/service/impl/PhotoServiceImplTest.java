@@ -0,0 +1,189 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sgivu.vehicle.repository.VehiclePhotoRepository;
+import com.sgivu.vehicle.service.PhotoService;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link PhotoServiceImpl} sobre un directorio temporal, con las referencias de {@code vehicles} y
+ * {@code vehicles_archive} de un PostgreSQL en contenedor con el esquema de las migraciones; se
+ * omite si no hay Docker disponible. Las miniaturas se generan en el mismo hilo.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+      "sgivu.config.import=",
+      "spring.cloud.config.enabled=false",
+      "eureka.client.enabled=false",
+      "service.internal.secret-key=photos-test",
+      "services.map.sgivu-auth.url=http://localhost:9000"
+    })
+@Testcontainers(disabledWithoutDocker = true)
+class PhotoServiceImplTest {
+
+  private static final Duration GRACE = Duration.ofHours(1);
+  private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private VehiclePhotoRepository photoRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @TempDir Path storageDir;
+
+  private PhotoServiceImpl photoService;
+
+  @BeforeEach
+  void createService() throws IOException {
+    photoService =
+        new PhotoServiceImpl(
+            photoRepository,
+            new SyncTaskExecutor(),
+            storageDir,
+            DataSize.ofMegabytes(10),
+            40_000_000,
+            320,
+            GRACE);
+  }
+
+  @Test
+  void storesTheSameContentOnceAndRenewsItsDate() throws IOException {
+    String first = photoService.store(new ByteArrayInputStream(png(Color.RED)));
+    Path photo = photoService.findPhoto(name(first)).orElseThrow();
+    Files.setLastModifiedTime(photo, hoursAgo(2));
+
+    String second = photoService.store(new ByteArrayInputStream(png(Color.RED)));
+
+    assertThat(second).isEqualTo(first).startsWith(PhotoService.PHOTOS_PATH).endsWith(".png");
+    assertThat(photoFiles()).containsExactly(photo);
+    assertThat(photoService.findThumbnail(name(first))).isPresent();
+    assertThat(Files.getLastModifiedTime(photo).toInstant())
+        .isAfter(Instant.now().minus(GRACE));
+    try (Stream<Path> incoming = Files.list(storageDir.resolve("incoming"))) {
+      assertThat(incoming).isEmpty();
+    }
+  }
+
+  @Test
+  void purgesOnlyUnreferencedPhotosOlderThanTheGracePeriod() throws IOException {
+    String active = photoService.store(new ByteArrayInputStream(png(Color.BLUE)));
+    String archived = photoService.store(new ByteArrayInputStream(png(Color.GREEN)));
+    String orphan = photoService.store(new ByteArrayInputStream(png(Color.YELLOW)));
+    String recent = photoService.store(new ByteArrayInputStream(png(Color.CYAN)));
+    insertVehicle("PHT101", active);
+    insertArchivedVehicle("PHT102", archived);
+    for (String url : List.of(active, archived, orphan)) {
+      Files.setLastModifiedTime(photoService.findPhoto(name(url)).orElseThrow(), hoursAgo(2));
+    }
+    Path staleUpload = Files.createFile(storageDir.resolve("incoming").resolve("upload-1.part"));
+    Files.setLastModifiedTime(staleUpload, hoursAgo(2));
+    Path currentUpload = Files.createFile(storageDir.resolve("incoming").resolve("upload-2.part"));
+
+    photoService.purgeOrphans();
+
+    for (String url : List.of(active, archived, recent)) {
+      assertThat(photoService.findPhoto(name(url))).as(url).isPresent();
+      assertThat(photoService.findThumbnail(name(url))).as(url).isPresent();
+    }
+    Path orphanDir = storageDir.resolve(name(orphan).substring(0, 2));
+    assertThat(photoService.findPhoto(name(orphan))).isEmpty();
+    assertThat(orphanDir.resolve(name(orphan).replace(".png", ".thumb.jpg"))).doesNotExist();
+    assertThat(staleUpload).doesNotExist();
+    assertThat(currentUpload).exists();
+  }
+
+  private void insertVehicle(String plate, String photoUrl) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO vehicles (brand, model, capacity, line, plate, motor_number, serial_number,
+                              chassis_number, color, city_registered, year, mileage,
+                              transmission, status, purchase_price, sale_price, photo_url,
+                              created_at, updated_at)
+        VALUES ('Mazda', '3', 5, 'Touring', ?, ?, ?, ?, 'Rojo', 'Cali', 2022, 1000, 'Automática',
+                'AVAILABLE', 1000, 2000, ?, ?, ?)
+        """,
+        plate,
+        "MTO" + plate,
+        "SER" + plate,
+        "CHS" + plate,
+        photoUrl,
+        CREATED,
+        CREATED);
+  }
+
+  private void insertArchivedVehicle(String plate, String photoUrl) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO vehicles_archive (id, vehicle_type, brand, model, capacity, line, plate,
+                                      motor_number, serial_number, chassis_number, color,
+                                      city_registered, year, mileage, transmission, status,
+                                      purchase_price, sale_price, photo_url, created_at,
+                                      updated_at, body_type, fuel_type, number_of_doors,
+                                      archive_reason, archived_at)
+        VALUES (-1, 'CAR', 'Mazda', '3', 5, 'Touring', ?, ?, ?, ?, 'Rojo', 'Cali', 2022, 1000,
+                'Automática', 'SOLD', 1000, 2000, ?, ?, ?, 'Sedán', 'Gasolina', 4, 'ARCHIVED', ?)
+        """,
+        plate,
+        "MTO" + plate,
+        "SER" + plate,
+        "CHS" + plate,
+        photoUrl,
+        CREATED,
+        CREATED,
+        CREATED);
+  }
+
+  private List<Path> photoFiles() throws IOException {
+    try (Stream<Path> files = Files.walk(storageDir)) {
+      return files.filter(file -> file.toString().endsWith(".png")).toList();
+    }
+  }
+
+  private static String name(String url) {
+    return url.substring(PhotoService.PHOTOS_PATH.length());
+  }
+
+  private static FileTime hoursAgo(int hours) {
+    return FileTime.from(Instant.now().minus(Duration.ofHours(hours)));
+  }
+
+  private static byte[] png(Color color) throws IOException {
+    BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < image.getWidth(); x++) {
+      for (int y = 0; y < image.getHeight(); y++) {
+        image.setRGB(x, y, color.getRGB());
+      }
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,40 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+  @Test
+  void completesIgnoringCaseAndAccentsOrderedByCount() {
+    PrefixIndex index = new PrefixIndex();
+    index.add("Medellín", 3);
+    index.add("medellin", 1);
+    index.add("Montería", 2);
+    index.add("Bogotá", 5);
+
+    assertThat(index.complete("ME", 10))
+        .extracting(PrefixIndex.Term::value, PrefixIndex.Term::count)
+        .containsExactly(tuple("Medellín", 4L));
+    assertThat(index.complete("m", 10))
+        .extracting(PrefixIndex.Term::value)
+        .containsExactly("Medellín", "Montería");
+    assertThat(index.complete("", 1)).extracting(PrefixIndex.Term::value).containsExactly("Bogotá");
+  }
+
+  @Test
+  void removesTermWhenLastOccurrenceIsGone() {
+    PrefixIndex index = new PrefixIndex();
+    index.add("Mazda", 1);
+    index.add("Mazda", 1);
+
+    index.remove("MAZDA");
+    assertThat(index.complete("maz", 5)).extracting(PrefixIndex.Term::count).containsExactly(1L);
+
+    index.remove("mazda");
+    assertThat(index.complete("maz", 5)).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+}
@@ -0,0 +1,67 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class VehicleDataGeneratorTest {
+
+  private static final LocalDateTime REFERENCE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  @Test
+  void generatesTheSameVehicleForTheSameSeedAndNumber() {
+    Vehicle first = new VehicleDataGenerator(7, REFERENCE, 730).generate(12_345);
+    Vehicle second = new VehicleDataGenerator(7, REFERENCE, 730).generate(12_345);
+    Vehicle otherSeed = new VehicleDataGenerator(8, REFERENCE, 730).generate(12_345);
+
+    assertThat(second).usingRecursiveComparison().isEqualTo(first);
+    assertThat(otherSeed.getPlate()).isNotEqualTo(first.getPlate());
+  }
+
+  @Test
+  void generatesUniqueIdentifiersWithinColumnLimits() {
+    VehicleDataGenerator generator = new VehicleDataGenerator(42, REFERENCE, 730);
+    Set<String> plates = new HashSet<>();
+    Set<String> motorNumbers = new HashSet<>();
+    Set<String> serialNumbers = new HashSet<>();
+    Set<String> chassisNumbers = new HashSet<>();
+    int cars = 0;
+
+    for (long n = 0; n < 100_000; n++) {
+      Vehicle vehicle = generator.generate(n);
+      assertThat(plates.add(vehicle.getPlate())).as("placa %s", vehicle.getPlate()).isTrue();
+      assertThat(motorNumbers.add(vehicle.getMotorNumber())).isTrue();
+      assertThat(serialNumbers.add(vehicle.getSerialNumber())).isTrue();
+      assertThat(chassisNumbers.add(vehicle.getChassisNumber())).isTrue();
+      assertThat(vehicle.getPlate()).hasSizeLessThanOrEqualTo(10);
+      assertThat(vehicle.getChassisNumber()).hasSizeLessThanOrEqualTo(30);
+      assertThat(vehicle.getLine()).hasSizeLessThanOrEqualTo(20);
+      assertThat(vehicle.getYear()).isBetween(2011, 2026);
+      assertThat(vehicle.getSalePrice()).isGreaterThan(vehicle.getPurchasePrice());
+      assertThat(vehicle.getUpdatedAt()).isAfterOrEqualTo(vehicle.getCreatedAt());
+      if (vehicle instanceof Car) {
+        cars++;
+      } else {
+        assertThat(vehicle).isInstanceOf(Motorcycle.class);
+      }
+    }
+
+    assertThat(cars).isEqualTo(60_000);
+  }
+
+  @Test
+  void rejectsNumbersBeyondAvailablePlates() {
+    VehicleDataGenerator generator = new VehicleDataGenerator(42, REFERENCE, 730);
+
+    assertThatThrownBy(() -> generator.generate((VehicleDataGenerator.MAX_CARS / 3 + 1) * 5))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> generator.generate(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}